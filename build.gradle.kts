@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.maths"
@@ -19,6 +20,60 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
 
+// The vectorised cost matrix kernel uses the incubating Vector API; without the module at runtime it falls back to the scalar kernel.
+// The off-heap cost store uses the incubating foreign memory API; without the module at runtime it falls back to the heap.
+tasks.withType<JavaCompile> {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign"))
+}
+
 tasks.test {
-    useJUnitPlatform()
-}
\ No newline at end of file
+    useJUnitPlatform {
+        excludeTags("allocation-budget")
+    }
+    jvmArgs("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign")
+}
+
+// Fails when a hot-path operation allocates more than its budget in src/test/resources/allocation-budgets.properties.
+// Allocation depends on the JIT of the machine at hand, so the budgets are kept out of test and check.
+val allocationBudgetTest by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Measures the bytes allocated per call on the solver hot path against their budgets."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("allocation-budget")
+    }
+    jvmArgs("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign")
+}
+
+// Benchmarks live in src/jmh and run with ./gradlew jmh; select a subset with -Pjmh.includes=<regex>.
+// They build their batches with the synthetic instances of src/test.
+jmh {
+    jmhVersion.set("1.37")
+    includeTests.set(true)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    jvmArgs.addAll(listOf("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign"))
+    includes.set(providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf(".*")))
+}
+
+// End-to-end timetabling scale runs; pass harness arguments with -Ptimetable.args="classes=4,8 lengths=1,1+2".
+tasks.register<JavaExec>("timetableScale") {
+    group = "benchmark"
+    description = "Runs the timetabling queue processor over a grid of generated instances and writes a report."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("QueueTree.Benchmarks.TimetableScaleHarness")
+    jvmArgs("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign")
+    args(providers.gradleProperty("timetable.args").map { it.split(" ") }.getOrElse(listOf()))
+}
+
+// Times every engine over a grid of batch shapes and stores the fastest per shape where EngineCalibration.local() reads it;
+// pass arguments with -Pcalibration.args="taskCounts=8,64,512 out=engine-calibration.properties".
+tasks.register<JavaExec>("calibrateEngines") {
+    group = "benchmark"
+    description = "Calibrates automatic engine selection on this machine."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("HungarianAuction.Benchmarks.EngineCalibrationRun")
+    jvmArgs("--add-modules", "jdk.incubator.vector,jdk.incubator.foreign")
+    args(providers.gradleProperty("calibration.args").map { it.split(" ") }.getOrElse(listOf()))
+}
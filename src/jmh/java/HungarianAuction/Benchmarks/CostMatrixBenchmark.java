@@ -0,0 +1,90 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.Method.CostMatrixFactory;
+import HungarianAuction.Method.CostMatrixInterface;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <ul>
+ * <li>
+ *      The <b>Init Matrix</b> process of a single engine: building the matrix from tendered tasks, and the marginal cost pass over it.
+ * </li>
+ * <li>
+ *      Batches are square, so the engines which need padding get none. Run with {@code -prof gc} for the allocation rate.
+ * </li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CostMatrixBenchmark {
+    @Param({"10", "100", "500", "2000"})
+    public int size;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double infiniteShare;
+
+    @Param({"UNIFORM", "INTEGER", "HEAVY_TAILED"})
+    public CostDistribution costDistribution;
+
+    @Param({"HUNGARIAN", "SHORTEST_PATH", "SPARSE"})
+    public Engine engine;
+
+    @Param("1")
+    public long seed;
+
+    private CostMatrixFactory<SyntheticTaskSource, SyntheticWorkerGrouping> costMatrixFactory;
+    private List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings;
+    private List<TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping>> tasks;
+    private CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> template;
+    private CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> costMatrix;
+
+    @Setup(Level.Trial)
+    public void generateInstance() {
+        SyntheticInstance instance = SyntheticInstance.generate(seed, size, size, infiniteShare, costDistribution);
+        costMatrixFactory = engine.costMatrixFactory();
+        workerGroupings = new ArrayList<>(instance.getWorkerGroupings());
+        tasks = instance.tenderedTasks();
+        template = costMatrixFactory.createCostMatrix(workerGroupings, tasks);
+    }
+
+    /**
+     * The marginal cost pass consumes its matrix, so each invocation starts from a fresh clone of the template.
+     * */
+    @Setup(Level.Invocation)
+    public void cloneTemplate() {
+        costMatrix = template.cloneMatrix();
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseClone() {
+        costMatrix.release();
+    }
+
+    @TearDown(Level.Trial)
+    public void releaseTemplate() {
+        template.release();
+    }
+
+    @Benchmark
+    public CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> construction() {
+        CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> constructed = costMatrixFactory.createCostMatrix(workerGroupings, tasks);
+        constructed.release();
+        return constructed;
+    }
+
+    @Benchmark
+    public CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> computeMarginalTaskCosts() {
+        costMatrix.computeMarginalTaskCosts();
+        return costMatrix;
+    }
+}
@@ -0,0 +1,96 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.Method.CostMatrixSolver;
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <ul>
+ * <li>
+ *      Whole solves through {@link CostMatrixSolver}: the first optimal assignment, and that assignment followed by a run of alternative solutions.
+ * </li>
+ * <li>
+ *      The solver consumes the bids of its tasks, so every invocation gets a new solver over fresh tasks. Run with {@code -prof gc} for the allocation rate.
+ * </li>
+ * <li>
+ *      Batches are square unless {@link #surplusWorkerGroupings} adds worker groupings no task needs, as when comparing {@link Engine#SHORTEST_PATH} with {@link Engine#PADDED_SHORTEST_PATH}.
+ * </li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CostMatrixSolverBenchmark {
+    @Param({"10", "100", "500", "2000"})
+    public int size;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double infiniteShare;
+
+    @Param({"UNIFORM", "INTEGER", "HEAVY_TAILED"})
+    public CostDistribution costDistribution;
+
+    @Param({"DEFAULT", "HUNGARIAN", "SHORTEST_PATH"})
+    public Engine engine;
+
+    @Param("0")
+    public int surplusWorkerGroupings;
+
+    @Param("10")
+    public int alternatives;
+
+    @Param("1")
+    public long seed;
+
+    private SyntheticInstance instance;
+    private List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings;
+    private SolverConfiguration<SyntheticTaskSource, SyntheticWorkerGrouping> configuration;
+    private CostMatrixSolver<SyntheticTaskSource, SyntheticWorkerGrouping> solver;
+
+    @Setup(Level.Trial)
+    public void generateInstance() {
+        instance = SyntheticInstance.generate(seed, size, size + surplusWorkerGroupings, infiniteShare, costDistribution);
+        workerGroupings = instance.getWorkerGroupings();
+        configuration = engine.solverConfiguration();
+    }
+
+    @Setup(Level.Invocation)
+    public void createSolver() {
+        solver = new CostMatrixSolver<>(new ArrayList<>(workerGroupings), instance.freshTasks(), 1, configuration);
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseSolver() {
+        solver.release();
+    }
+
+    @Benchmark
+    public double applyAlgorithm() {
+        if (!solver.applyAlgorithm())
+            throw new IllegalStateException("A planted complete matching was not found.");
+        return solver.getSumOfAssignmentCosts();
+    }
+
+    /**
+     * The optimum, then up to {@link #alternatives} further solutions, stopping early if the batch runs out of them.
+     * */
+    @Benchmark
+    public void alternativeSolutions(Blackhole blackhole) {
+        if (!solver.applyAlgorithm())
+            throw new IllegalStateException("A planted complete matching was not found.");
+        blackhole.consume(solver.getSumOfAssignmentCosts());
+        for (int alternative = 0; alternative < alternatives && solver.getViability() != CostMatrixSolver.Viability.REAL_TASKS_ALLOCATED; alternative++) {
+            if (!solver.applyAlgorithm()) break;
+            blackhole.consume(solver.getSumOfAssignmentCosts());
+        }
+    }
+}
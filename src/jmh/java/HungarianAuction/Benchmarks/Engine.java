@@ -0,0 +1,35 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.Method.CostMatrixFactory;
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.Method.SolverConfigurationBuilder;
+
+/**
+ * The assignment engines under benchmark. {@link #DEFAULT} is whatever {@link SolverConfiguration#defaults()} picks for the batch; every other engine is forced, sparse batches included.
+ * <p>{@link #PADDED_SHORTEST_PATH} is the shortest path engine fed DoNothingTask padding, as it was before it solved rectangles natively, to weigh the two on batches with surplus worker groupings.</p>
+ */
+public enum Engine {
+    DEFAULT, HUNGARIAN, VECTORISED_HUNGARIAN, FIXED_POINT, SHORTEST_PATH, PADDED_SHORTEST_PATH, SPARSE, AUCTION;
+
+    CostMatrixFactory<SyntheticTaskSource, SyntheticWorkerGrouping> costMatrixFactory() {
+        return switch (this) {
+            case DEFAULT, HUNGARIAN -> CostMatrixFactory.hungarian();
+            case VECTORISED_HUNGARIAN -> CostMatrixFactory.vectorisedHungarian();
+            case FIXED_POINT -> CostMatrixFactory.fixedPoint();
+            case SHORTEST_PATH -> CostMatrixFactory.shortestAugmentingPath();
+            // A plain factory keeps the default of requiring a square matrix.
+            case PADDED_SHORTEST_PATH -> CostMatrixFactory.<SyntheticTaskSource, SyntheticWorkerGrouping>shortestAugmentingPath()::createCostMatrix;
+            case SPARSE -> CostMatrixFactory.sparse();
+            case AUCTION -> CostMatrixFactory.auction();
+        };
+    }
+
+    SolverConfiguration<SyntheticTaskSource, SyntheticWorkerGrouping> solverConfiguration() {
+        if (this == DEFAULT) return SolverConfiguration.defaults();
+        return new SolverConfigurationBuilder<SyntheticTaskSource, SyntheticWorkerGrouping>()
+                .setCostMatrixFactory(costMatrixFactory())
+                .setSparseDensityThreshold(0)
+                .setComponentDecomposition(false)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.Method.CostMatrixEngine;
+import HungarianAuction.Method.CostMatrixSolver;
+import HungarianAuction.Method.EngineCalibration;
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.Method.SolverConfigurationBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      Times every engine over a grid of batch shapes and stores the fastest per shape as an {@link EngineCalibration}, by default where {@link EngineCalibration#local()} reads it.
+ * </li>
+ * <li>
+ *      A timing is the median of whole solves, construction included, on fresh synthetic batches after one warm-up solve. Decomposition and the sparse switch are off, so each engine is timed on the whole batch.
+ * </li>
+ * <li>
+ *      An engine slower than the solve limit at one task count is not timed at the larger ones of the same shape, so the grid stays affordable.
+ * </li>
+ * </ul>
+ * <p>Arguments are {@code key=value} pairs with comma separated lists, e.g. {@code taskCounts=8,64,512 ratios=1,4 densities=0.05,1 out=calibration.properties}.</p>
+ */
+public class EngineCalibrationRun {
+    private static final int WARM_UP_TASKS = 32;
+    private static final int WARM_UP_SOLVES = 50;
+    private static final Map<String, String> DEFAULT_ARGUMENTS = Map.of(
+            "taskCounts", "8,32,128,384",
+            "ratios", "1,2,4",
+            "densities", "0.05,0.25,1",
+            "engines", "HUNGARIAN,VECTORISED_HUNGARIAN,SHORTEST_PATH,SPARSE,AUCTION",
+            "repetitions", "5",
+            "maxSolveMs", "2000",
+            "seed", "1",
+            "out", ""
+    );
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = new HashMap<>(DEFAULT_ARGUMENTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1 || !DEFAULT_ARGUMENTS.containsKey(arg.substring(0, separator)))
+                throw new IllegalArgumentException("Unknown argument " + arg + ", expected one of " + new TreeSet<>(DEFAULT_ARGUMENTS.keySet()));
+            arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        int[] taskCounts = Arrays.stream(arguments.get("taskCounts").split(",")).map(String::trim).mapToInt(Integer::parseInt).sorted().toArray();
+        double[] ratios = Arrays.stream(arguments.get("ratios").split(",")).map(String::trim).mapToDouble(Double::parseDouble).sorted().toArray();
+        double[] densities = Arrays.stream(arguments.get("densities").split(",")).map(String::trim).mapToDouble(Double::parseDouble).sorted().toArray();
+        List<CostMatrixEngine> engines = Arrays.stream(arguments.get("engines").split(",")).map(String::trim).map(CostMatrixEngine::valueOf).toList();
+        int repetitions = Integer.parseInt(arguments.get("repetitions"));
+        long maxSolveNanos = Long.parseLong(arguments.get("maxSolveMs")) * 1_000_000L;
+        long seed = Long.parseLong(arguments.get("seed"));
+        Path out = arguments.get("out").isBlank() ? EngineCalibration.localPath() : Path.of(arguments.get("out"));
+
+        // Compile every engine's hot path before the first timing.
+        SyntheticInstance warmUpInstance = SyntheticInstance.generate(seed, WARM_UP_TASKS, 2 * WARM_UP_TASKS, 0.5, CostDistribution.UNIFORM);
+        engines.forEach(engine -> medianSolveNanos(warmUpInstance, engine, WARM_UP_SOLVES));
+
+        CostMatrixEngine[][][] fastestEngines = new CostMatrixEngine[taskCounts.length][ratios.length][densities.length];
+        for (int ratio = 0; ratio < ratios.length; ratio++) {
+            for (int density = 0; density < densities.length; density++) {
+                Set<CostMatrixEngine> tooSlow = EnumSet.noneOf(CostMatrixEngine.class);
+                for (int task = 0; task < taskCounts.length; task++) {
+                    int workerGroupingCount = (int) Math.ceil(taskCounts[task] * ratios[ratio]);
+                    SyntheticInstance instance = SyntheticInstance.generate(seed, taskCounts[task], workerGroupingCount, 1 - densities[density], CostDistribution.UNIFORM);
+                    CostMatrixEngine fastest = null;
+                    long fastestNanos = Long.MAX_VALUE;
+                    StringBuilder timings = new StringBuilder();
+                    for (CostMatrixEngine engine : engines) {
+                        if (tooSlow.contains(engine)) {
+                            timings.append(String.format(" %s=skipped", engine));
+                            continue;
+                        }
+                        long nanos = medianSolveNanos(instance, engine, repetitions);
+                        timings.append(String.format(" %s=%.3fms", engine, nanos / 1e6));
+                        if (nanos > maxSolveNanos) tooSlow.add(engine);
+                        if (nanos < fastestNanos) {
+                            fastestNanos = nanos;
+                            fastest = engine;
+                        }
+                    }
+                    fastestEngines[task][ratio][density] = fastest != null ? fastest : CostMatrixEngine.SHORTEST_PATH;
+                    System.out.printf("tasks=%d ratio=%s density=%s ->%s | fastest %s%n", taskCounts[task], ratios[ratio], densities[density], timings, fastestEngines[task][ratio][density]);
+                }
+            }
+        }
+        new EngineCalibration(taskCounts, ratios, densities, fastestEngines).store(out);
+        System.out.println("Calibration written to " + out.toAbsolutePath());
+    }
+
+    private static long medianSolveNanos(SyntheticInstance instance, CostMatrixEngine engine, int repetitions) {
+        SolverConfiguration<SyntheticTaskSource, SyntheticWorkerGrouping> configuration = new SolverConfigurationBuilder<SyntheticTaskSource, SyntheticWorkerGrouping>()
+                .setCostMatrixFactory(engine.createFactory())
+                .setEngineCalibration(null)
+                .setSparseDensityThreshold(0)
+                .setComponentDecomposition(false)
+                .build();
+        long[] solveNanos = new long[repetitions];
+        for (int repetition = -1; repetition < repetitions; repetition++) {
+            long start = System.nanoTime();
+            CostMatrixSolver<SyntheticTaskSource, SyntheticWorkerGrouping> solver =
+                    new CostMatrixSolver<>(new ArrayList<>(instance.getWorkerGroupings()), instance.freshTasks(), 1, configuration);
+            if (!solver.applyAlgorithm())
+                throw new IllegalStateException(engine + " found no solution to a batch with a planted complete matching.");
+            long elapsed = System.nanoTime() - start;
+            solver.release();
+            if (repetition >= 0) solveNanos[repetition] = elapsed;
+        }
+        Arrays.sort(solveNanos);
+        return solveNanos[repetitions / 2];
+    }
+}
@@ -0,0 +1,164 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.TaskElements.EntryToken;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerDomain;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      One subject taught to one class by one teacher, as a number of sittings of given lengths over the week. Each sitting enters the auctions as a task request.
+ * </li>
+ * <li>
+ *      A period costs the class's preference for it, plus the class's load on that day and a penalty for a second sitting on the same day. Periods in which the class is already taught are infinite.
+ * </li>
+ * </ul>
+ */
+public class Lesson implements TaskSource<Lesson, PeriodGrouping> {
+    private static final double SAME_DAY_PENALTY = 10;
+
+    private final int id;
+    private final SchoolClass schoolClass;
+    private final int teacher;
+    private final TimetableCalendar calendar;
+    private final double[] periodPreferences;
+    private final List<TaskRequest<Lesson, PeriodGrouping>> sittings;
+    private final Map<TaskRequest<Lesson, PeriodGrouping>, PeriodGrouping> allocatedSittings = new HashMap<>();
+
+    Lesson(int id, SchoolClass schoolClass, int teacher, TimetableCalendar calendar, double[] periodPreferences, List<Integer> sittingLengths) {
+        this.id = id;
+        this.schoolClass = schoolClass;
+        this.teacher = teacher;
+        this.calendar = calendar;
+        this.periodPreferences = periodPreferences;
+        List<TaskRequest<Lesson, PeriodGrouping>> taskRequests = new ArrayList<>(sittingLengths.size());
+        for (int sittingLength : sittingLengths) {
+            taskRequests.add(new TaskRequest<>(this, new EntryToken<>(sittingLength)));
+        }
+        this.sittings = List.copyOf(taskRequests);
+    }
+
+    double costOfPeriod(Period period) {
+        if (schoolClass.isOccupied(period)) return Double.POSITIVE_INFINITY;
+        double cost = periodPreferences[period.getIndex()] + schoolClass.countPeriodsOnDay(period.getDay());
+        if (isTaughtOnDay(period.getDay())) cost += SAME_DAY_PENALTY;
+        return cost;
+    }
+
+    private boolean isTaughtOnDay(int day) {
+        return allocatedSittings.values().stream().anyMatch(periodGrouping -> periodGrouping.getDay() == day);
+    }
+
+    public int getTeacher() {
+        return teacher;
+    }
+
+    public List<TaskRequest<Lesson, PeriodGrouping>> getSittings() {
+        return sittings;
+    }
+
+    public Collection<PeriodGrouping> getAllocatedPeriodGroupings() {
+        return Collections.unmodifiableCollection(allocatedSittings.values());
+    }
+
+    public int countAllocatedSittings() {
+        return allocatedSittings.size();
+    }
+
+    private List<TaskRequest<Lesson, PeriodGrouping>> unallocatedSittings() {
+        return sittings.stream().filter(sitting -> !allocatedSittings.containsKey(sitting)).toList();
+    }
+
+    @Override
+    public TaskRequest<Lesson, PeriodGrouping> getLargestUnallocatedTask() {
+        return unallocatedSittings().stream().max(Comparator.comparingInt(TaskRequest::getEntryTokenSize)).orElse(null);
+    }
+
+    @Override
+    public TaskRequest<Lesson, PeriodGrouping> getTaskOfSize(int size) {
+        return unallocatedSittings().stream().filter(sitting -> sitting.getEntryTokenSize() == size).findFirst().orElse(null);
+    }
+
+    @Override
+    public void receiveWorkerGrouping(@NotNull WorkerGrouping<Lesson, PeriodGrouping> workerGrouping, @NotNull TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        PeriodGrouping periodGrouping = workerGrouping.unboxWorkerGrouping(taskRequest);
+        if (allocatedSittings.putIfAbsent(taskRequest, periodGrouping) != null)
+            throw new IllegalStateException(taskRequest + " is already allocated.");
+        schoolClass.occupy(periodGrouping);
+    }
+
+    @Override
+    public void recallWorkerGrouping(@NotNull WorkerGrouping<Lesson, PeriodGrouping> workerGrouping, @NotNull TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        PeriodGrouping periodGrouping = allocatedSittings.remove(taskRequest);
+        if (periodGrouping != null) schoolClass.vacate(periodGrouping);
+    }
+
+    @Override
+    public Lesson unboxSource() {
+        return this;
+    }
+
+    @Override
+    public boolean hasTokensOfSize(int tokenSize) {
+        return countTokensOfSize(tokenSize) > 0;
+    }
+
+    @Override
+    public int getTotalTaskBandwidth() {
+        return sittings.stream().mapToInt(TaskRequest::getEntryTokenSize).sum();
+    }
+
+    @Override
+    public int getMaxTaskBandwidth() {
+        return sittings.stream().mapToInt(TaskRequest::getEntryTokenSize).max().orElse(0);
+    }
+
+    @Override
+    public int getMaxUnallocatedTokenSize() {
+        return unallocatedSittings().stream().mapToInt(TaskRequest::getEntryTokenSize).max().orElse(0);
+    }
+
+    @Override
+    public int countTokensOfSize(int tokenSize) {
+        return (int) unallocatedSittings().stream().filter(sitting -> sitting.getEntryTokenSize() == tokenSize).count();
+    }
+
+    /**
+     * The domains of every day on which this lesson has no sitting yet.
+     * */
+    @Override
+    public Set<WorkerDomain<Lesson, PeriodGrouping>> getUnusedDomains() {
+        Set<WorkerDomain<Lesson, PeriodGrouping>> unusedDomains = new HashSet<>();
+        for (int day = 0; day < calendar.getDays(); day++) {
+            if (!isTaughtOnDay(day)) unusedDomains.addAll(calendar.getDomainsOfDay(day));
+        }
+        return unusedDomains;
+    }
+
+    @Override
+    public List<Lesson> getNodeLinks() {
+        return List.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Lesson lesson)) return false;
+        return id == lesson.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Lesson{id=" + id + ", " + schoolClass + ", teacher=" + teacher + '}';
+    }
+}
@@ -0,0 +1,42 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.Worker;
+
+/**
+ * One teaching period of the week. Its cost for a lesson is whatever the lesson makes of it.
+ */
+public class Period implements Worker<Lesson, PeriodGrouping> {
+    private final int index;
+    private final int day;
+    private final int slot;
+
+    Period(int index, int day, int slot) {
+        this.index = index;
+        this.day = day;
+        this.slot = slot;
+    }
+
+    @Override
+    public TaskCost calculateBaseCost(TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        return new TaskCost(taskRequest.getTaskSource().unboxSource().costOfPeriod(this));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return "Period{day=" + day + ", slot=" + slot + '}';
+    }
+}
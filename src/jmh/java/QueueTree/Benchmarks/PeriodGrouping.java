@@ -0,0 +1,80 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A run of consecutive periods on one day, long enough for one lesson.
+ */
+public class PeriodGrouping implements WorkerGrouping<Lesson, PeriodGrouping> {
+    private final List<Period> periods;
+    private final Set<Worker<Lesson, PeriodGrouping>> workers;
+    private double scarcityFactor = 1;
+
+    PeriodGrouping(List<Period> periods) {
+        this.periods = List.copyOf(periods);
+        this.workers = Set.copyOf(periods);
+    }
+
+    public List<Period> getPeriods() {
+        return periods;
+    }
+
+    public int getDay() {
+        return periods.get(0).getDay();
+    }
+
+    @Override
+    public Set<Worker<Lesson, PeriodGrouping>> getWorkers() {
+        return workers;
+    }
+
+    @Override
+    public int getSize() {
+        return periods.size();
+    }
+
+    @Override
+    public void setScarcityFactor(double scarcityFactor) {
+        this.scarcityFactor = scarcityFactor;
+    }
+
+    @Override
+    public double getScarcityFactor() {
+        return scarcityFactor;
+    }
+
+    @Override
+    public TaskCost calculateMaxWorkerCost(TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        return new TaskCost(periods.stream().mapToDouble(period -> period.calculateBaseCost(taskRequest).getFinalValue()).max().orElse(Double.POSITIVE_INFINITY));
+    }
+
+    @Override
+    public TaskCost calculateMinWorkerCost(TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        return new TaskCost(periods.stream().mapToDouble(period -> period.calculateBaseCost(taskRequest).getFinalValue()).min().orElse(Double.POSITIVE_INFINITY));
+    }
+
+    @Override
+    public TaskCost calculateTotalCost(TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        double totalCost = 0;
+        for (Period period : periods) {
+            totalCost += period.calculateBaseCost(taskRequest).getFinalValue();
+        }
+        return new TaskCost(totalCost);
+    }
+
+    @Override
+    public PeriodGrouping unboxWorkerGrouping(TaskRequest<Lesson, PeriodGrouping> taskRequest) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "PeriodGrouping{day=" + getDay() + ", slots=" + periods.get(0).getSlot() + "-" + periods.get(periods.size() - 1).getSlot() + '}';
+    }
+}
@@ -0,0 +1,45 @@
+package QueueTree.Benchmarks;
+
+/**
+ * A class of pupils: it can be in one lesson at a time, and prefers its lessons spread evenly over the days.
+ */
+public class SchoolClass {
+    private final int id;
+    private final boolean[] occupiedPeriods;
+    private final int[] periodsOnDay;
+
+    SchoolClass(int id, int periodCount, int days) {
+        this.id = id;
+        this.occupiedPeriods = new boolean[periodCount];
+        this.periodsOnDay = new int[days];
+    }
+
+    boolean isOccupied(Period period) {
+        return occupiedPeriods[period.getIndex()];
+    }
+
+    int countPeriodsOnDay(int day) {
+        return periodsOnDay[day];
+    }
+
+    void occupy(PeriodGrouping periodGrouping) {
+        for (Period period : periodGrouping.getPeriods()) {
+            if (occupiedPeriods[period.getIndex()])
+                throw new IllegalStateException(this + " is already taught in " + period);
+            occupiedPeriods[period.getIndex()] = true;
+            periodsOnDay[period.getDay()]++;
+        }
+    }
+
+    void vacate(PeriodGrouping periodGrouping) {
+        for (Period period : periodGrouping.getPeriods()) {
+            occupiedPeriods[period.getIndex()] = false;
+            periodsOnDay[period.getDay()]--;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SchoolClass{id=" + id + '}';
+    }
+}
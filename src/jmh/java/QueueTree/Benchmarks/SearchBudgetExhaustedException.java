@@ -0,0 +1,12 @@
+package QueueTree.Benchmarks;
+
+/**
+ * Thrown from inside the queue loop to abandon a run which has used up its loops or wall time, since the processor itself only ever undoes and retries.
+ */
+class SearchBudgetExhaustedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    SearchBudgetExhaustedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,40 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.Auction.Auction;
+import QueueTree.GenericBuildMetric;
+
+/**
+ * What a queue run left behind: how many loops it took, how it ended, and how many batches it left allocated.
+ */
+public class TimetableBuildMetric implements GenericBuildMetric<Lesson, PeriodGrouping> {
+    private int totalAllocationLoops = 0;
+    private Auction.AuctionState outcome;
+    private int allocatedBatches;
+
+    void incrementTotalAllocationLoops() {
+        totalAllocationLoops++;
+    }
+
+    void setAllocatedBatches(int allocatedBatches) {
+        this.allocatedBatches = allocatedBatches;
+    }
+
+    void setOutcome(Auction.AuctionState outcome) {
+        this.outcome = outcome;
+    }
+
+    public int getTotalAllocationLoops() {
+        return totalAllocationLoops;
+    }
+
+    /**
+     * Null while the run is in progress, or if it was stopped by its budget.
+     * */
+    public Auction.AuctionState getOutcome() {
+        return outcome;
+    }
+
+    public int getAllocatedBatches() {
+        return allocatedBatches;
+    }
+}
@@ -0,0 +1,80 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerDomain;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      The periods of the week, and one domain per day and lesson length.
+ * </li>
+ * <li>
+ *      For each lesson length the periods of a day are tiled by non-overlapping groupings, so the groupings of one auction never compete for a period.
+ * </li>
+ * </ul>
+ */
+public class TimetableCalendar {
+    private final int days;
+    private final int periodsPerDay;
+    private final List<Period> periods;
+    private final Map<Integer, Set<WorkerDomain<Lesson, PeriodGrouping>>> domainsByLength = new HashMap<>();
+    private final Map<Integer, Set<WorkerDomain<Lesson, PeriodGrouping>>> domainsByDay = new HashMap<>();
+
+    TimetableCalendar(int days, int periodsPerDay, Set<Integer> lessonLengths) {
+        this.days = days;
+        this.periodsPerDay = periodsPerDay;
+        List<Period> allPeriods = new ArrayList<>(days * periodsPerDay);
+        for (int day = 0; day < days; day++) {
+            for (int slot = 0; slot < periodsPerDay; slot++) {
+                allPeriods.add(new Period(allPeriods.size(), day, slot));
+            }
+        }
+        this.periods = List.copyOf(allPeriods);
+        for (int lessonLength : lessonLengths) {
+            if (lessonLength < 1 || lessonLength > periodsPerDay)
+                throw new IllegalArgumentException("A lesson of " + lessonLength + " periods does not fit a day of " + periodsPerDay + ".");
+            for (int day = 0; day < days; day++) {
+                WorkerDomain<Lesson, PeriodGrouping> domain = createDayDomain(day, lessonLength);
+                domainsByLength.computeIfAbsent(lessonLength, k -> new HashSet<>()).add(domain);
+                domainsByDay.computeIfAbsent(day, k -> new HashSet<>()).add(domain);
+            }
+        }
+    }
+
+    private WorkerDomain<Lesson, PeriodGrouping> createDayDomain(int day, int lessonLength) {
+        List<Period> dayPeriods = periods.subList(day * periodsPerDay, (day + 1) * periodsPerDay);
+        WorkerDomain<Lesson, PeriodGrouping> domain = new WorkerDomain<>(new HashSet<Worker<Lesson, PeriodGrouping>>(dayPeriods));
+        for (int firstSlot = 0; firstSlot + lessonLength <= periodsPerDay; firstSlot += lessonLength) {
+            domain.addSubDomain(new PeriodGrouping(dayPeriods.subList(firstSlot, firstSlot + lessonLength)));
+        }
+        return domain;
+    }
+
+    public List<Period> getPeriods() {
+        return periods;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getPeriodsPerDay() {
+        return periodsPerDay;
+    }
+
+    /**
+     * The day domains holding groupings of the given lesson length.
+     * */
+    Set<WorkerDomain<Lesson, PeriodGrouping>> getDomainsOfLength(int lessonLength) {
+        return domainsByLength.getOrDefault(lessonLength, Set.of());
+    }
+
+    /**
+     * The domains of the given day, one per lesson length.
+     * */
+    Set<WorkerDomain<Lesson, PeriodGrouping>> getDomainsOfDay(int day) {
+        return domainsByDay.getOrDefault(day, Set.of());
+    }
+}
@@ -0,0 +1,133 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskBatch;
+import HungarianAuction.TaskElements.TaskRequest;
+import QueueTree.TaskQueueBuilder;
+import QueueTree.WorkerPoolManager;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      A seeded random school week: every class is given lessons filling a share of its periods, each split into sittings of the allowed lengths, on no more days than the week has.
+ * </li>
+ * <li>
+ *      Lessons go to the least loaded teacher, so no teacher is asked for more periods than a class is.
+ * </li>
+ * <li>
+ *      The queue holds one batch per teacher, sitting length and round: the first sitting of that length of each of the teacher's lessons, then the second, and so on, in {@link TaskBatch#getComparator()} order.
+ * </li>
+ * </ul>
+ */
+public class TimetableInstance implements TaskQueueBuilder<Lesson, PeriodGrouping> {
+    private final TimetableCalendar calendar;
+    private final List<Lesson> lessons;
+    private final TimetablePoolManager workerPoolManager;
+    private final List<TaskBatch<Lesson, PeriodGrouping>> taskBatches;
+
+    private TimetableInstance(TimetableCalendar calendar, List<Lesson> lessons, Map<Integer, List<Lesson>> lessonsByTeacher) {
+        this.calendar = calendar;
+        this.lessons = List.copyOf(lessons);
+        this.workerPoolManager = new TimetablePoolManager(calendar, lessonsByTeacher);
+        this.taskBatches = createTaskBatches(lessonsByTeacher);
+    }
+
+    public static TimetableInstance generate(long seed, int classes, int days, int periodsPerDay, Set<Integer> lessonLengths, int teachers, double fillRatio) {
+        if (classes < 1 || teachers < 1 || days < 1 || lessonLengths.isEmpty())
+            throw new IllegalArgumentException("A timetable needs classes, teachers, days and lesson lengths.");
+        if (!(fillRatio > 0 && fillRatio <= 1))
+            throw new IllegalArgumentException("Fill ratio " + fillRatio + " is not in (0, 1].");
+        Random random = new Random(seed);
+        TimetableCalendar calendar = new TimetableCalendar(days, periodsPerDay, lessonLengths);
+        List<Integer> lengths = lessonLengths.stream().sorted().toList();
+        int periodCount = days * periodsPerDay;
+        int[] teacherLoads = new int[teachers];
+        List<Lesson> lessons = new ArrayList<>();
+        Map<Integer, List<Lesson>> lessonsByTeacher = new HashMap<>();
+
+        for (int classId = 0; classId < classes; classId++) {
+            SchoolClass schoolClass = new SchoolClass(classId, periodCount, days);
+            int remainingPeriods = (int) Math.round(fillRatio * periodCount);
+            while (remainingPeriods >= lengths.get(0)) {
+                List<Integer> sittingLengths = new ArrayList<>();
+                int sittingCount = 1 + random.nextInt(days);
+                while (sittingLengths.size() < sittingCount && remainingPeriods >= lengths.get(0)) {
+                    int fittingLengths = 0;
+                    while (fittingLengths < lengths.size() && lengths.get(fittingLengths) <= remainingPeriods) fittingLengths++;
+                    int sittingLength = lengths.get(random.nextInt(fittingLengths));
+                    sittingLengths.add(sittingLength);
+                    remainingPeriods -= sittingLength;
+                }
+                int teacher = leastLoaded(teacherLoads);
+                teacherLoads[teacher] += sittingLengths.stream().mapToInt(Integer::intValue).sum();
+                double[] periodPreferences = new double[periodCount];
+                for (int period = 0; period < periodCount; period++) {
+                    periodPreferences[period] = random.nextDouble() * periodsPerDay + period % periodsPerDay;
+                }
+                Lesson lesson = new Lesson(lessons.size(), schoolClass, teacher, calendar, periodPreferences, sittingLengths);
+                lessons.add(lesson);
+                lessonsByTeacher.computeIfAbsent(teacher, k -> new ArrayList<>()).add(lesson);
+            }
+        }
+        return new TimetableInstance(calendar, lessons, lessonsByTeacher);
+    }
+
+    private static int leastLoaded(int[] teacherLoads) {
+        int leastLoaded = 0;
+        for (int teacher = 1; teacher < teacherLoads.length; teacher++) {
+            if (teacherLoads[teacher] < teacherLoads[leastLoaded]) leastLoaded = teacher;
+        }
+        return leastLoaded;
+    }
+
+    private static List<TaskBatch<Lesson, PeriodGrouping>> createTaskBatches(Map<Integer, List<Lesson>> lessonsByTeacher) {
+        List<TaskBatch<Lesson, PeriodGrouping>> taskBatches = new ArrayList<>();
+        for (List<Lesson> teacherLessons : lessonsByTeacher.values()) {
+            Map<Integer, List<List<TaskRequest<Lesson, PeriodGrouping>>>> roundsByLength = new TreeMap<>();
+            for (Lesson lesson : teacherLessons) {
+                Map<Integer, Integer> sittingsSeenByLength = new HashMap<>();
+                for (TaskRequest<Lesson, PeriodGrouping> sitting : lesson.getSittings()) {
+                    int round = sittingsSeenByLength.merge(sitting.getEntryTokenSize(), 1, Integer::sum) - 1;
+                    List<List<TaskRequest<Lesson, PeriodGrouping>>> rounds = roundsByLength.computeIfAbsent(sitting.getEntryTokenSize(), k -> new ArrayList<>());
+                    while (rounds.size() <= round) rounds.add(new ArrayList<>());
+                    rounds.get(round).add(sitting);
+                }
+            }
+            roundsByLength.forEach((sittingLength, rounds) -> rounds.forEach(
+                    round -> taskBatches.add(new TaskBatch<>(round, 0, sittingLength))));
+        }
+        taskBatches.sort(TaskBatch.getComparator());
+        return List.copyOf(taskBatches);
+    }
+
+    @Override
+    public Deque<TaskBatch<Lesson, PeriodGrouping>> getTaskBatchForwardsDeque() {
+        return new ArrayDeque<>(taskBatches);
+    }
+
+    @Override
+    public WorkerPoolManager<Lesson, PeriodGrouping> getWorkerPoolManager() {
+        return workerPoolManager;
+    }
+
+    public TimetableCalendar getCalendar() {
+        return calendar;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    public int countSittings() {
+        return lessons.stream().mapToInt(lesson -> lesson.getSittings().size()).sum();
+    }
+
+    public int countAllocatedSittings() {
+        return lessons.stream().mapToInt(Lesson::countAllocatedSittings).sum();
+    }
+
+    public int countTaskBatches() {
+        return taskBatches.size();
+    }
+}
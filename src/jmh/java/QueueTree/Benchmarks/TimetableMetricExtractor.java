@@ -0,0 +1,54 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.Auction.Auction;
+import HungarianAuction.TaskElements.TaskBatch;
+import QueueTree.BuildMetricExtractor;
+
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * <ul>
+ * <li>
+ *      Counts the loops of a queue run, and records how it ended.
+ * </li>
+ * <li>
+ *      Enforces the run's budget: once the loop count or the wall-clock deadline is passed, the next loop throws {@link SearchBudgetExhaustedException}.
+ * </li>
+ * </ul>
+ */
+class TimetableMetricExtractor implements BuildMetricExtractor<Lesson, PeriodGrouping, TimetableBuildMetric> {
+    private final TimetableBuildMetric buildMetric = new TimetableBuildMetric();
+    private final int maxAllocationLoops;
+    private final long deadlineNanos;
+
+    TimetableMetricExtractor(int maxAllocationLoops, long maxWallTimeMs) {
+        this.maxAllocationLoops = maxAllocationLoops;
+        this.deadlineNanos = System.nanoTime() + maxWallTimeMs * 1_000_000L;
+    }
+
+    @Override
+    public TimetableBuildMetric getBuildMetric() {
+        return buildMetric;
+    }
+
+    @Override
+    public void incrementTotalAllocationLoops() {
+        if (buildMetric.getTotalAllocationLoops() >= maxAllocationLoops)
+            throw new SearchBudgetExhaustedException("Loop budget of " + maxAllocationLoops + " used up.");
+        if (System.nanoTime() - deadlineNanos > 0)
+            throw new SearchBudgetExhaustedException("Wall time budget used up.");
+        buildMetric.incrementTotalAllocationLoops();
+    }
+
+    @Override
+    public void extractBuildMetrics(Auction.AuctionState taskQueueResult, Deque<TaskBatch<Lesson, PeriodGrouping>> forwardsQueue, Deque<TaskBatch<Lesson, PeriodGrouping>> backwardsQueue, List<Integer> queueProgress) {
+        buildMetric.setOutcome(taskQueueResult);
+        buildMetric.setAllocatedBatches(backwardsQueue.size());
+    }
+
+    @Override
+    public int getTotalAllocationLoops() {
+        return buildMetric.getTotalAllocationLoops();
+    }
+}
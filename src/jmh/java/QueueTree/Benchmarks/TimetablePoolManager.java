@@ -0,0 +1,68 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskBatch;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerPool;
+import QueueTree.WorkerPoolManager;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      One worker pool per teacher and lesson length: a batch holds sittings of one teacher and one length, so its pool is the teacher's week, tiled for that length.
+ * </li>
+ * <li>
+ *      Availability is rebuilt from the sittings the teacher's lessons currently hold whenever a pool is handed out or a batch changes, so undone auctions never leave periods behind.
+ * </li>
+ * </ul>
+ */
+public class TimetablePoolManager implements WorkerPoolManager<Lesson, PeriodGrouping> {
+    private final Map<Integer, List<Lesson>> lessonsByTeacher;
+    private final Map<Integer, Map<Integer, WorkerPool<Lesson, PeriodGrouping>>> poolsByTeacher = new HashMap<>();
+    private final TimetableCalendar calendar;
+
+    TimetablePoolManager(TimetableCalendar calendar, Map<Integer, List<Lesson>> lessonsByTeacher) {
+        this.calendar = calendar;
+        this.lessonsByTeacher = lessonsByTeacher;
+    }
+
+    @Override
+    public WorkerPool<Lesson, PeriodGrouping> getWorkerPool(TaskBatch<Lesson, PeriodGrouping> taskBatch) {
+        int teacher = teacherOf(taskBatch);
+        WorkerPool<Lesson, PeriodGrouping> workerPool = poolsByTeacher.computeIfAbsent(teacher, k -> new HashMap<>())
+                .computeIfAbsent(taskBatch.getTaskSize(), this::createWorkerPool);
+        synchroniseAvailability(workerPool, teacher);
+        return workerPool;
+    }
+
+    @Override
+    public void notifyWorkerPoolSource(TaskBatch<Lesson, PeriodGrouping> taskBatch) {
+        int teacher = teacherOf(taskBatch);
+        poolsByTeacher.getOrDefault(teacher, Map.of()).values()
+                .forEach(workerPool -> synchroniseAvailability(workerPool, teacher));
+    }
+
+    private WorkerPool<Lesson, PeriodGrouping> createWorkerPool(int lessonLength) {
+        WorkerPool<Lesson, PeriodGrouping> workerPool = new WorkerPool<>(new HashSet<>(calendar.getPeriods()));
+        workerPool.setDomains(calendar.getDomainsOfLength(lessonLength));
+        return workerPool;
+    }
+
+    private void synchroniseAvailability(WorkerPool<Lesson, PeriodGrouping> workerPool, int teacher) {
+        workerPool.resetWorkerAvailability();
+        for (Lesson lesson : lessonsByTeacher.getOrDefault(teacher, List.of())) {
+            for (PeriodGrouping periodGrouping : lesson.getAllocatedPeriodGroupings()) {
+                for (Worker<Lesson, PeriodGrouping> period : periodGrouping.getWorkers()) {
+                    workerPool.assignWorker(period);
+                }
+            }
+        }
+    }
+
+    private static int teacherOf(TaskBatch<Lesson, PeriodGrouping> taskBatch) {
+        Set<TaskRequest<Lesson, PeriodGrouping>> tasks = taskBatch.getTasks();
+        return tasks.iterator().next().getTaskSource().unboxSource().getTeacher();
+    }
+}
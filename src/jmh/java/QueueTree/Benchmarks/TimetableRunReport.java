@@ -0,0 +1,36 @@
+package QueueTree.Benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The measurements of one queue run, as a flat row of the report.
+ */
+public record TimetableRunReport(TimetableScenario scenario, boolean domainProxies, int sittings, int taskBatches, String outcome,
+                                 int allocationLoops, int backtracks, int timeOuts, int allocatedSittings, long wallTimeMs, long peakHeapBytes) {
+
+    /**
+     * The columns in report order.
+     * */
+    Map<String, Object> toColumns() {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("classes", scenario.classes());
+        columns.put("days", scenario.days());
+        columns.put("periodsPerDay", scenario.periodsPerDay());
+        columns.put("lessonLengths", scenario.lessonLengthsLabel());
+        columns.put("teachers", scenario.teachers() == 0 ? scenario.classes() : scenario.teachers());
+        columns.put("fillRatio", scenario.fillRatio());
+        columns.put("seed", scenario.seed());
+        columns.put("domainProxies", domainProxies);
+        columns.put("sittings", sittings);
+        columns.put("taskBatches", taskBatches);
+        columns.put("outcome", outcome);
+        columns.put("allocationLoops", allocationLoops);
+        columns.put("backtracks", backtracks);
+        columns.put("timeOuts", timeOuts);
+        columns.put("allocatedSittings", allocatedSittings);
+        columns.put("wallTimeMs", wallTimeMs);
+        columns.put("peakHeapBytes", peakHeapBytes);
+        return columns;
+    }
+}
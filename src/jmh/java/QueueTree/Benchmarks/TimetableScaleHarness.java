@@ -0,0 +1,165 @@
+package QueueTree.Benchmarks;
+
+import HungarianAuction.Auction.Auction;
+import HungarianAuction.Method.SolverConfiguration;
+import QueueTree.PreComputedQueueProcessor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <ul>
+ * <li>
+ *      Macro-benchmark of the whole allocation: generates timetables over a grid of classes, days, periods per day and lesson lengths, and runs each through {@link PreComputedQueueProcessor#processTaskBatchQueue(int, int)} with and without domain proxies.
+ * </li>
+ * <li>
+ *      Every run gets a fresh instance from the same seed, and stops at a loop and wall-time budget, so the grid always finishes. Runs which hit the budget are reported as {@value #BUDGET_EXHAUSTED}.
+ * </li>
+ * <li>
+ *      Writes one row per run to a CSV report, or a JSON array if the report path ends in {@code .json}.
+ * </li>
+ * </ul>
+ * <p>Arguments are {@code key=value} pairs, lists comma separated and lesson length sets joined by {@code +}, e.g.
+ * {@code classes=4,8,16 days=5 periods=6,8 lengths=1,1+2 proxies=both out=build/reports/timetable-scale.json}.</p>
+ */
+public class TimetableScaleHarness {
+    static final String BUDGET_EXHAUSTED = "BUDGET_EXHAUSTED";
+
+    private static final Map<String, String> DEFAULT_ARGUMENTS = Map.ofEntries(
+            Map.entry("classes", "2,4,8"),
+            Map.entry("days", "5"),
+            Map.entry("periods", "6"),
+            Map.entry("lengths", "1,1+2"),
+            Map.entry("teachers", "0"),
+            Map.entry("fill", "0.7"),
+            Map.entry("seed", "1"),
+            Map.entry("proxies", "both"),
+            Map.entry("multiUndo", "1"),
+            Map.entry("timeOutMs", "2000"),
+            Map.entry("maxLoops", "20000"),
+            Map.entry("maxWallMs", "60000"),
+            Map.entry("out", "build/reports/timetable-scale/report.csv")
+    );
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = parseArguments(args);
+        List<TimetableScenario> scenarios = scenarioGrid(arguments);
+        List<Boolean> proxySettings = switch (arguments.get("proxies")) {
+            case "both" -> List.of(true, false);
+            case "on" -> List.of(true);
+            case "off" -> List.of(false);
+            default -> throw new IllegalArgumentException("proxies must be both, on or off: " + arguments.get("proxies"));
+        };
+        int multiUndo = Integer.parseInt(arguments.get("multiUndo"));
+        int timeOutMs = Integer.parseInt(arguments.get("timeOutMs"));
+        int maxLoops = Integer.parseInt(arguments.get("maxLoops"));
+        long maxWallMs = Long.parseLong(arguments.get("maxWallMs"));
+
+        List<TimetableRunReport> reports = new ArrayList<>();
+        for (TimetableScenario scenario : scenarios) {
+            for (boolean domainProxies : proxySettings) {
+                TimetableRunReport report = run(scenario, domainProxies, multiUndo, timeOutMs, maxLoops, maxWallMs);
+                System.out.println(report.toColumns());
+                reports.add(report);
+            }
+        }
+        Path reportPath = Path.of(arguments.get("out"));
+        writeReport(reportPath, reports);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    static TimetableRunReport run(TimetableScenario scenario, boolean domainProxies, int multiUndo, int timeOutMs, int maxLoops, long maxWallMs) {
+        TimetableInstance instance = scenario.generate();
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        TimetableMetricExtractor metricExtractor = new TimetableMetricExtractor(maxLoops, maxWallMs);
+        PreComputedQueueProcessor<Lesson, PeriodGrouping, TimetableBuildMetric> processor =
+                new PreComputedQueueProcessor<>(instance, metricExtractor, SolverConfiguration.defaults());
+        processor.setUseDomainProxies(domainProxies);
+
+        String outcome;
+        long start = System.nanoTime();
+        try {
+            Auction.AuctionState auctionState = processor.processTaskBatchQueue(multiUndo, timeOutMs);
+            outcome = auctionState.name();
+        } catch (SearchBudgetExhaustedException e) {
+            outcome = BUDGET_EXHAUSTED;
+        }
+        long wallTimeMs = (System.nanoTime() - start) / 1_000_000L;
+        long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        return new TimetableRunReport(scenario, domainProxies, instance.countSittings(), instance.countTaskBatches(), outcome,
+                metricExtractor.getTotalAllocationLoops(), processor.getBacktrackCount(), processor.getTimeOutCount(),
+                instance.countAllocatedSittings(), wallTimeMs, peakHeapBytes);
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> arguments = new HashMap<>(DEFAULT_ARGUMENTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1 || !DEFAULT_ARGUMENTS.containsKey(arg.substring(0, separator)))
+                throw new IllegalArgumentException("Unknown argument " + arg + ", expected one of " + new TreeSet<>(DEFAULT_ARGUMENTS.keySet()));
+            arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return arguments;
+    }
+
+    private static List<TimetableScenario> scenarioGrid(Map<String, String> arguments) {
+        List<TimetableScenario> scenarios = new ArrayList<>();
+        int teachers = Integer.parseInt(arguments.get("teachers"));
+        double fillRatio = Double.parseDouble(arguments.get("fill"));
+        long seed = Long.parseLong(arguments.get("seed"));
+        for (int classes : integers(arguments.get("classes"))) {
+            for (int days : integers(arguments.get("days"))) {
+                for (int periodsPerDay : integers(arguments.get("periods"))) {
+                    for (String lessonLengths : arguments.get("lengths").split(",")) {
+                        Set<Integer> lengths = Arrays.stream(lessonLengths.split("\\+")).map(String::trim).map(Integer::valueOf).collect(Collectors.toSet());
+                        scenarios.add(new TimetableScenario(classes, days, periodsPerDay, lengths, teachers, fillRatio, seed));
+                    }
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    private static List<Integer> integers(String list) {
+        return Arrays.stream(list.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    private static void writeReport(Path reportPath, List<TimetableRunReport> reports) throws IOException {
+        if (reportPath.getParent() != null) Files.createDirectories(reportPath.getParent());
+        boolean json = reportPath.toString().endsWith(".json");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportPath))) {
+            if (json) {
+                writer.println("[");
+                for (int row = 0; row < reports.size(); row++) {
+                    String fields = reports.get(row).toColumns().entrySet().stream()
+                            .map(column -> '"' + column.getKey() + "\": " + jsonValue(column.getValue()))
+                            .collect(Collectors.joining(", "));
+                    writer.println("  {" + fields + "}" + (row + 1 < reports.size() ? "," : ""));
+                }
+                writer.println("]");
+            } else {
+                if (!reports.isEmpty()) writer.println(String.join(",", reports.get(0).toColumns().keySet()));
+                for (TimetableRunReport report : reports) {
+                    writer.println(report.toColumns().values().stream().map(String::valueOf).collect(Collectors.joining(",")));
+                }
+            }
+        }
+    }
+
+    private static String jsonValue(Object value) {
+        return value instanceof String ? '"' + (String) value + '"' : String.valueOf(value);
+    }
+}
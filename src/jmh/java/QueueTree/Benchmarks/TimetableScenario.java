@@ -0,0 +1,18 @@
+package QueueTree.Benchmarks;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One point of the scale grid. A teacher count of zero gives one teacher per class.
+ */
+public record TimetableScenario(int classes, int days, int periodsPerDay, Set<Integer> lessonLengths, int teachers, double fillRatio, long seed) {
+
+    public TimetableInstance generate() {
+        return TimetableInstance.generate(seed, classes, days, periodsPerDay, lessonLengths, teachers == 0 ? classes : teachers, fillRatio);
+    }
+
+    public String lessonLengthsLabel() {
+        return lessonLengths.stream().sorted().map(String::valueOf).collect(Collectors.joining("+"));
+    }
+}
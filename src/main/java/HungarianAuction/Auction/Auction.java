@@ -1,6 +1,8 @@
 package HungarianAuction.Auction;
 
 import HungarianAuction.Method.CostMatrixSolver;
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.Method.SolverInstrumentation;
 import HungarianAuction.TaskElements.TaskBatch;
 import HungarianAuction.TaskElements.TaskRequest;
 import HungarianAuction.TaskElements.TaskSource;
@@ -33,11 +35,16 @@ public class Auction<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
     private final int taskSize;
     private final TaskBatch<T,W> taskBatch;
     private final WorkerPool<T,W> workerPool;
+    private final SolverConfiguration<T,W> solverConfiguration;
     private CostMatrixSolver<T,W> costMatrixSolver = null;
     private Result<T,W> currentResult;
     private AuctionState currentState;
 
     public Auction(@NotNull WorkerPool<T, W> workerPool, @NotNull TaskBatch<T, W> taskBatch) {
+        this(workerPool, taskBatch, SolverConfiguration.defaults());
+    }
+
+    public Auction(@NotNull WorkerPool<T, W> workerPool, @NotNull TaskBatch<T, W> taskBatch, @NotNull SolverConfiguration<T, W> solverConfiguration) {
         // This auction has no prior memory, but the batch may have been processed before on a different branch.
         taskBatch.getTasks().forEach(TaskRequest::resetAllCosts);
 
@@ -45,6 +52,7 @@ public class Auction<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
         this.taskBatch = taskBatch;
         this.taskSize = taskBatch.getTaskSize();
         this.workerPool = workerPool;
+        this.solverConfiguration = solverConfiguration;
         this.currentState = AuctionState.INITIALISED;
         this.id = auctionCounter.incrementAndGet();
     }
@@ -94,6 +102,18 @@ public class Auction<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
      * </ol>
      * */
     public AuctionState callAuction() {
+        if (!SolverInstrumentation.ENABLED) return runAuction();
+        AuctionCallEvent auctionCallEvent = new AuctionCallEvent();
+        auctionCallEvent.begin();
+        AuctionState auctionState = runAuction();
+        auctionCallEvent.auctionId = getId();
+        auctionCallEvent.batchSize = taskBatch.getBatchSize();
+        auctionCallEvent.state = auctionState.name();
+        auctionCallEvent.commit();
+        return auctionState;
+    }
+
+    private AuctionState runAuction() {
         if (getCurrentState() == AuctionState.FAILURE || getCurrentState() == AuctionState.COMPLETE_NULL)
             return getCurrentState();
 
@@ -148,16 +168,31 @@ public class Auction<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
         //  Use Hungarian Algorithm to Allocate tasks.
         List<TaskRequest<T,W>> taskRequestList = new ArrayList<>(taskBatch.getTasks());
 
-        this.costMatrixSolver = new CostMatrixSolver<>(workerList, taskRequestList, taskSize);
+        this.costMatrixSolver = new CostMatrixSolver<>(workerList, taskRequestList, taskSize, solverConfiguration);
 
         CostMatrixSolver.Viability viability = this.costMatrixSolver.getViability();
 
         if (viability == CostMatrixSolver.Viability.BASE_COSTS_CONTAINED_INFINITY_COLUMN
+                || viability == CostMatrixSolver.Viability.NO_COMPLETE_MATCHING
                 || viability == CostMatrixSolver.Viability.UNKNOWN_ERROR) {
             setStateFailed();
         }
     }
 
+    /**
+     * Hands the solver's matrix buffers back for reuse, once the auction will not be asked for another allocation.
+     * */
+    public void release() {
+        if (costMatrixSolver != null) costMatrixSolver.release();
+    }
+
+    /**
+     * Hands back the matrix buffers a successful auction no longer needs, keeping what a later alternative allocation needs.
+     * */
+    public void compact() {
+        if (costMatrixSolver != null) costMatrixSolver.compact();
+    }
+
     public Result<T,W> getResult() {
         return this.currentResult;
     }
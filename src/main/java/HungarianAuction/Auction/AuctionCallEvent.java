@@ -0,0 +1,24 @@
+package HungarianAuction.Auction;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event around one call of an auction, emitted while {@link HungarianAuction.Method.SolverInstrumentation#ENABLED} is set.
+ */
+@Name("HungarianAuction.AuctionCall")
+@Label("Auction Call")
+@Category({"Hungarian Auction", "Auction"})
+@Description("One auction called for its first or an alternative allocation")
+final class AuctionCallEvent extends jdk.jfr.Event {
+    @Label("Auction Id")
+    int auctionId;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("State")
+    String state;
+}
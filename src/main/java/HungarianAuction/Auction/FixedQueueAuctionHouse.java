@@ -1,10 +1,12 @@
 package HungarianAuction.Auction;
 
 import HungarianAuction.Method.Assignment;
+import HungarianAuction.Method.SolverConfiguration;
 import HungarianAuction.TaskElements.TaskBatch;
 import HungarianAuction.TaskElements.TaskRequest;
 import HungarianAuction.TaskElements.TaskSource;
 import HungarianAuction.WorkerElements.DomainProxy;
+import HungarianAuction.WorkerElements.Worker;
 import HungarianAuction.WorkerElements.WorkerDomain;
 import HungarianAuction.WorkerElements.WorkerGrouping;
 import HungarianAuction.WorkerElements.WorkerPool;
@@ -24,8 +26,14 @@ public class FixedQueueAuctionHouse<T extends TaskSource<T,W>, W extends WorkerG
     // Initialise backwards queue (successful auctions) and cache of recently failed auctions..
     private final Deque<Auction<T, W>> successfulAuctions = new ArrayDeque<>();
     private final Deque<Auction<T, W>> failedAuctions = new ArrayDeque<>();
+    private final SolverConfiguration<T, W> solverConfiguration;
 
     public FixedQueueAuctionHouse() {
+        this(SolverConfiguration.defaults());
+    }
+
+    public FixedQueueAuctionHouse(@NotNull SolverConfiguration<T, W> solverConfiguration) {
+        this.solverConfiguration = solverConfiguration;
     }
 
     @Override
@@ -50,7 +58,7 @@ public class FixedQueueAuctionHouse<T extends TaskSource<T,W>, W extends WorkerG
     public Auction.AuctionState createNextAuction(WorkerPool<T,W> workerPool, TaskBatch<T,W> preMadeTaskBatch, boolean useDomainProxies) {
 
         int currentTokenSize = preMadeTaskBatch.getTaskSize();
-        Set<WorkerDomain<T,W>> unusedDomainsInThisFactoryBatch = new HashSet<>();
+        Set<WorkerDomain<T,W>> unusedDomainsInThisFactoryBatch = new LinkedHashSet<>();
         for (TaskRequest<T,W> tTaskRequest : preMadeTaskBatch.getTasks()) {
             TaskSource<T,W> taskSource = tTaskRequest.getTaskSource();
             Set<WorkerDomain<T,W>> unusedDomains = taskSource.getUnusedDomains();
@@ -72,16 +80,18 @@ public class FixedQueueAuctionHouse<T extends TaskSource<T,W>, W extends WorkerG
     @NotNull
     private static <T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> WorkerPool<T, W> createProxyPool(int currentTokenSize, Map<WorkerDomain<T, W>, Set<WorkerGrouping<T, W>>> availableWorkerGroupings) {
         WorkerPool<T,W> poolForThisAuction;
-        Set<DomainProxy<T,W>> domainProxies = availableWorkerGroupings.values().stream().map(workerGroupings -> new DomainProxy<>(workerGroupings, currentTokenSize)).collect(Collectors.toSet());
-        Set<WorkerGrouping<T,W>> workerGroupingSet = domainProxies.stream().map(domainProxy -> (WorkerGrouping<T,W>) domainProxy).collect(Collectors.toSet());
-        WorkerPool<T,W> proxyPool = new WorkerPool<>(domainProxies.stream().map(DomainProxy::getWorkers).flatMap(Set::stream).collect(Collectors.toSet()));
+        Set<DomainProxy<T,W>> domainProxies = availableWorkerGroupings.values().stream().map(workerGroupings -> new DomainProxy<>(workerGroupings, currentTokenSize)).collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<WorkerGrouping<T,W>> workerGroupingSet = domainProxies.stream().map(domainProxy -> (WorkerGrouping<T,W>) domainProxy).collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Worker<T,W>> proxyWorkers = new LinkedHashSet<>();
+        domainProxies.forEach(domainProxy -> proxyWorkers.addAll(domainProxy.getWorkers()));
+        WorkerPool<T,W> proxyPool = new WorkerPool<>(proxyWorkers);
         proxyPool.addValidWorkerGroupings(workerGroupingSet);
         poolForThisAuction = proxyPool;
         return poolForThisAuction;
     }
 
     private Auction.AuctionState processNewAuction(WorkerPool<T, W> workerPool, TaskBatch<T, W> tTaskBatch) {
-        Auction<T, W> auction = new Auction<>(workerPool, tTaskBatch);
+        Auction<T, W> auction = new Auction<>(workerPool, tTaskBatch, solverConfiguration);
         Auction.AuctionState auctionState = auction.validateState();
 
         if (auctionState == Auction.AuctionState.READY_TO_CALL) {
@@ -98,6 +108,8 @@ public class FixedQueueAuctionHouse<T extends TaskSource<T,W>, W extends WorkerG
     }
 
     private void pushOntoFailedStack(Auction<T, W> failedAuction) {
+        // Failed auctions are never called again, so their matrices can be reused by the next auction.
+        failedAuction.release();
         failedAuctions.push(failedAuction);
         if (failedAuctions.size() > 5) failedAuctions.pollLast();
     }
@@ -111,6 +123,8 @@ public class FixedQueueAuctionHouse<T extends TaskSource<T,W>, W extends WorkerG
         winningAssignmentSet.forEach(assignment -> FixedQueueAuctionHouse.confirmAssignment(workerPool, assignment)
         );
 
+        // Successful auctions wait on the queue for a possible alternative, so they keep only the search state.
+        auction.compact();
         successfulAuctions.push(auction);
     }
 
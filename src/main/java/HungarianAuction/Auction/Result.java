@@ -6,6 +6,8 @@ import HungarianAuction.WorkerElements.WorkerGrouping;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public class Result<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
@@ -16,7 +18,7 @@ public class Result<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
 
 
     public Result(@NotNull Set<Assignment<T,W>> assignedWorkerGroupingList) {
-        this.assignmentSet = Set.copyOf(assignedWorkerGroupingList);
+        this.assignmentSet = Collections.unmodifiableSet(new LinkedHashSet<>(assignedWorkerGroupingList));
         timestamp = LocalTime.now();
     }
 
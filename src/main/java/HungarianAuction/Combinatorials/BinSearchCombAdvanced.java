@@ -3,6 +3,7 @@ package HungarianAuction.Combinatorials;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -13,6 +14,7 @@ import java.util.Set;
 public class BinSearchCombAdvanced<T> extends BinarySearchCombinatorial<T>{
 
     private final Set<Long> avoidSet = new HashSet<>();
+    private long avoidSetHits = 0;
 
     public BinSearchCombAdvanced(Set<T> elements) {
         super(elements);
@@ -22,10 +24,11 @@ public class BinSearchCombAdvanced<T> extends BinarySearchCombinatorial<T>{
     @Override
     @NotNull
     public Set<T> next() {
-        if (!hasNext()) return new HashSet<>();
+        if (!hasNext()) return new LinkedHashSet<>();
         long nextCombinationBinary = combinatorialGenerator.getNext();
         while (nextContainsIgnoreSubset(nextCombinationBinary)) {
-            if (!hasNext()) return new HashSet<>();
+            avoidSetHits++;
+            if (!hasNext()) return new LinkedHashSet<>();
             nextCombinationBinary = combinatorialGenerator.getNext();
         }
 
@@ -39,6 +42,13 @@ public class BinSearchCombAdvanced<T> extends BinarySearchCombinatorial<T>{
         return false;
     }
 
+    /**
+     * How many generated combinations have been skipped so far for containing an avoided subset.
+     */
+    public long getAvoidSetHits() {
+        return avoidSetHits;
+    }
+
     public void addAvoidSet(Set<T> elementSetToAvoid) {
         long binarySetExpression = 0;
         for (T element : elementSetToAvoid) {
@@ -2,7 +2,8 @@ package HungarianAuction.Combinatorials;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -26,14 +27,14 @@ public class BinarySearchCombinatorial<T> {
 
     @NotNull
     public Set<T> next() {
-        if (!hasNext()) return new HashSet<>();
+        if (!hasNext()) return new LinkedHashSet<>();
         long nextCombinationBinary = combinatorialGenerator.getNext();
         return convertBinaryToSet(nextCombinationBinary);
     }
 
     @NotNull
     protected Set<T> convertBinaryToSet(long nextCombinationBinary) {
-        Set<T> nextCombination = new HashSet<>();
+        Set<T> nextCombination = new LinkedHashSet<>();
         for (int include = 0; include < elements.size(); include++) {
             if ((nextCombinationBinary & (1L << include)) != 0) nextCombination.add(elements.get(include));
         }
@@ -41,7 +42,7 @@ public class BinarySearchCombinatorial<T> {
     }
 
     public Set<T> getElementSet() {
-        return Set.copyOf(elements);
+        return Collections.unmodifiableSet(new LinkedHashSet<>(elements));
     }
 
 
@@ -0,0 +1,179 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.DoNothingTask;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bookkeeping shared by every cost matrix engine: the worker and task axes, the matrix id and the assignments confirmed by the last solve.
+ */
+abstract class AbstractCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> implements CostMatrixInterface<T, W> {
+    private static final AtomicInteger matrixCounter = new AtomicInteger();
+    private static final double NO_ASSIGNMENTS_MADE = -1;
+    private final int id;
+    protected final List<WorkerGrouping<T, W>> workers;
+    protected final List<TaskRequest<T, W>> tasks;
+    protected final Set<Assignment<T, W>> assignedTasks = new LinkedHashSet<>();
+    private SolverInstrumentation instrumentation = SolverInstrumentation.DISABLED;
+
+    /**
+     * The lists are held as supplied: copying them is the caller's decision, so clones can share the same axes.
+     * */
+    protected AbstractCostMatrix(List<WorkerGrouping<T, W>> workers, List<TaskRequest<T, W>> tasks) {
+        this.workers = workers;
+        this.tasks = tasks;
+        this.id = matrixCounter.getAndIncrement();
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process: a clone shares the template's axes and reports to the same counters.
+     * */
+    protected AbstractCostMatrix(AbstractCostMatrix<T, W> template) {
+        this(template.workers, template.tasks);
+        this.instrumentation = template.instrumentation;
+    }
+
+    @Override
+    public void attachInstrumentation(SolverInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public SolverInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Last operation of a solve: records the pairing, unless the task is only padding.
+     * */
+    protected void confirmAssignment(int workerIndex, int taskIndex) {
+        TaskRequest<T, W> task = tasks.get(taskIndex);
+        if (task instanceof DoNothingTask<T, W>) return;
+        WorkerGrouping<T, W> worker = workers.get(workerIndex);
+        assignedTasks.add(new Assignment<>(task, worker, workerIndex, taskIndex));
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public void forceAssignment(Assignment<T, W> requiredAssignment) {
+        int workerIndex = workerIndexOf(requiredAssignment);
+        int taskIndex = taskIndexOf(requiredAssignment);
+        if (workerIndex < 0 || taskIndex < 0) return;
+        TaskRequest<T, W> task = tasks.get(taskIndex);
+        WorkerGrouping<T, W> worker = workers.get(workerIndex);
+        for (int otherWorker = 0; otherWorker < workers.size(); otherWorker++) {
+            if (otherWorker == workerIndex) continue;
+            overrideAssignmentCost(new Assignment<>(task, workers.get(otherWorker), otherWorker, taskIndex), Double.POSITIVE_INFINITY);
+        }
+        for (int otherTask = 0; otherTask < tasks.size(); otherTask++) {
+            if (otherTask == taskIndex) continue;
+            overrideAssignmentCost(new Assignment<>(tasks.get(otherTask), worker, workerIndex, otherTask), Double.POSITIVE_INFINITY);
+        }
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices, by Hopcroft-Karp matching over the finite cells.
+     * */
+    @Override
+    public HallViolation<T, W> findHallViolation() {
+        HopcroftKarpMatcher matcher = new HopcroftKarpMatcher(finiteWorkersByTask(), workers.size());
+        boolean[] violatingTasks = new boolean[tasks.size()];
+        boolean[] neighbouringWorkers = new boolean[workers.size()];
+        if (!matcher.markHallViolator(violatingTasks, neighbouringWorkers)) return null;
+        Set<TaskRequest<T, W>> violatingTaskSet = new LinkedHashSet<>();
+        for (int task = 0; task < tasks.size(); task++) {
+            if (violatingTasks[task]) violatingTaskSet.add(tasks.get(task));
+        }
+        Set<WorkerGrouping<T, W>> neighbouringWorkerSet = new LinkedHashSet<>();
+        for (int worker = 0; worker < workers.size(); worker++) {
+            if (neighbouringWorkers[worker]) neighbouringWorkerSet.add(workers.get(worker));
+        }
+        return new HallViolation<>(violatingTaskSet, neighbouringWorkerSet);
+    }
+
+    /**
+     * The worker indices of each task's finite cells, for {@link #findHallViolation()}.
+     * */
+    protected int[][] finiteWorkersByTask() {
+        int[][] workersByTask = new int[tasks.size()][];
+        int[] finiteWorkers = new int[workers.size()];
+        for (int task = 0; task < tasks.size(); task++) {
+            int finiteCount = 0;
+            for (int worker = 0; worker < workers.size(); worker++) {
+                if (isFiniteCell(worker, task)) finiteWorkers[finiteCount++] = worker;
+            }
+            workersByTask[task] = Arrays.copyOf(finiteWorkers, finiteCount);
+        }
+        return workersByTask;
+    }
+
+    /**
+     * Whether the worker grouping can still take the task. Engines override this with a direct read of their cell.
+     * */
+    protected boolean isFiniteCell(int workerIndex, int taskIndex) {
+        return getAssignmentCost(new Assignment<>(tasks.get(taskIndex), workers.get(workerIndex), workerIndex, taskIndex)) != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Reads the dense index carried by the assignment, which is O(1) for any assignment produced by this matrix or a clone of it.
+     * Falls back to a search for assignments created elsewhere.
+     * */
+    protected int workerIndexOf(Assignment<T, W> assignment) {
+        int workerIndex = assignment.workerIndex();
+        if (workerIndex >= 0 && workerIndex < workers.size() && workers.get(workerIndex) == assignment.workerGrouping())
+            return workerIndex;
+        return workers.indexOf(assignment.workerGrouping());
+    }
+
+    /**
+     * As {@link #workerIndexOf(Assignment)}, for the task axis.
+     * */
+    protected int taskIndexOf(Assignment<T, W> assignment) {
+        int taskIndex = assignment.taskIndex();
+        if (taskIndex >= 0 && taskIndex < tasks.size() && tasks.get(taskIndex) == assignment.task())
+            return taskIndex;
+        return tasks.indexOf(assignment.task());
+    }
+
+    /**
+     * Outcome retrieval
+     * */
+    @Override
+    public Set<Assignment<T, W>> getAssignments() {
+        return Collections.unmodifiableSet(assignedTasks);
+    }
+
+    /**
+     * Diagnostic method to check the combinatorial iteration is generating different, progressively less optimal outcomes.
+     * */
+    @Override
+    public double getSumOfAssignments() {
+        if (assignedTasks.isEmpty()) return NO_ASSIGNMENTS_MADE;
+        double sum = 0.0;
+        for (Assignment<T, W> assignedTask : assignedTasks) {
+            double trueAssignmentCost = getTrueAssignmentCost(assignedTask);
+            sum += trueAssignmentCost;
+        }
+        return sum;
+    }
+
+    /**
+     * Part of the diagnostic method getSumOfAssignments()
+     * */
+    private double getTrueAssignmentCost(Assignment<T, W> assignment) {
+
+        // TODO This line changed
+        return assignment.task().getCost(assignment.workerGrouping());
+    }
+}
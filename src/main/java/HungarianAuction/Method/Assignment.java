@@ -4,5 +4,30 @@ import HungarianAuction.TaskElements.TaskRequest;
 import HungarianAuction.TaskElements.TaskSource;
 import HungarianAuction.WorkerElements.WorkerGrouping;
 
-public record Assignment<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>(TaskRequest<T, W> task, WorkerGrouping<T, W> workerGrouping) {
+import java.util.Objects;
+
+/**
+ * A task paired with a worker grouping.
+ * <p>Assignments read back from a cost matrix also carry that matrix's dense row and column indices, so the matrix and its clones can find the cell again without searching.
+ * The indices are only a handle: they take no part in equality.</p>
+ */
+public record Assignment<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>(TaskRequest<T, W> task, WorkerGrouping<T, W> workerGrouping, int workerIndex, int taskIndex) {
+
+    public static final int NO_INDEX = -1;
+
+    public Assignment(TaskRequest<T, W> task, WorkerGrouping<T, W> workerGrouping) {
+        this(task, workerGrouping, NO_INDEX, NO_INDEX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Assignment<?, ?> that)) return false;
+        return Objects.equals(task, that.task()) && Objects.equals(workerGrouping, that.workerGrouping());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(task, workerGrouping);
+    }
 }
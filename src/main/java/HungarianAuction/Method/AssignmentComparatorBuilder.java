@@ -5,29 +5,39 @@ import HungarianAuction.TaskElements.TaskSource;
 import HungarianAuction.WorkerElements.WorkerGrouping;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class AssignmentComparatorBuilder<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
 
 
     private final List<WorkerGrouping<T, W>> workers;
     private final List<TaskRequest<T, W>> taskRequests;
+    private final Map<WorkerGrouping<T, W>, Integer> workerPositions = new HashMap<>();
 
     public AssignmentComparatorBuilder(List<WorkerGrouping<T,W>> workers, List<TaskRequest<T,W>> taskRequests) {
         this.workers = workers;
         this.taskRequests = taskRequests;
+        for (int position = 0; position < workers.size(); position++) workerPositions.putIfAbsent(workers.get(position), position);
     }
 
     public Comparator<Assignment<T, W>> build() {
         return (assignment1, assignment2) -> {
             double crossedSum1 = getSumOfRowAndColumnForAssignment(assignment1);
             double crossedSum2 = getSumOfRowAndColumnForAssignment(assignment2);
-            if (crossedSum1 == crossedSum2) return assignment1.hashCode() - assignment2.hashCode();
-            else return Double.compare(crossedSum1, crossedSum2);
+            if (crossedSum1 != crossedSum2) return Double.compare(crossedSum1, crossedSum2);
+            int taskComparison = Integer.compare(assignment1.task().getId(), assignment2.task().getId());
+            if (taskComparison != 0) return taskComparison;
+            return Integer.compare(getWorkerPosition(assignment1), getWorkerPosition(assignment2));
         };
     }
 
 
+    private int getWorkerPosition(Assignment<T, W> assignment) {
+        return workerPositions.getOrDefault(assignment.workerGrouping(), workers.size());
+    }
+
     private double getSumOfRowAndColumnForAssignment(Assignment<T, W> assignment) {
         double sum = 0D;
         TaskRequest<T, W> task = assignment.task();
@@ -0,0 +1,26 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+/**
+ * Source of the solutions walked by the k-best search of {@link CostMatrixSolver}.
+ */
+interface AssignmentEnumerator<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
+
+    /**
+     * Returns the next cheapest solved matrix, or null once the solution space is exhausted.
+     * <p>The matrix is only valid until the next call: the enumerator may then release it.</p>
+     * */
+    CostMatrixInterface<T, W> next();
+
+    /**
+     * Releases the last solution returned and the queued solutions it can solve again, keeping the search state. It can still be used afterwards.
+     * */
+    void compact();
+
+    /**
+     * Releases the matrices the enumerator still holds. It must not be used afterwards.
+     * */
+    void release();
+}
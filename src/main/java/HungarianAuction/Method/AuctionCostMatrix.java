@@ -0,0 +1,535 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * <ul>
+ * <li>
+ *      Solves the assignment problem by Bertsekas' forward auction: each unassigned task bids for its cheapest worker grouping, raising its price by the margin over the second cheapest plus epsilon.
+ * </li>
+ * <li>
+ *      Epsilon is scaled down phase by phase, keeping the prices, until it is below 1/n for integer costs, or a relative {@value #RELATIVE_PRECISION} of the cost range otherwise.
+ *      The auction alone is therefore exact for integer costs, and within n * epsilon of the optimum for others.
+ * </li>
+ * <li>
+ *      A final shortest augmenting path pass, started from the auction's prices, re-matches every task whose cell is not tight, so the result is the exact optimum for any costs, as the k-best search needs.
+ * </li>
+ * <li>
+ *      Bids within a round are computed Jacobi style, in parallel on a {@link ForkJoinPool}, then resolved sequentially so the outcome does not depend on scheduling.
+ * </li>
+ * <li>
+ *      An auction never ends on an infeasible matrix, so a bipartite matching over the finite cells is checked first.
+ * </li>
+ * <li>
+ *      The costs and the per-solve scratch arrays are borrowed from the {@link MatrixBufferPool} of the calling thread and handed back on release and at the end of each solve.
+ * </li>
+ * </ul>
+ */
+public class AuctionCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends AbstractCostMatrix<T, W> {
+    private static final int UNASSIGNED = -1;
+    private static final double RELATIVE_PRECISION = 1e-9;
+    private static final double EPSILON_SCALING_FACTOR = 6;
+    private static final int PARALLEL_BIDDING_THRESHOLD = 64;
+    private final int size;
+    private final ForkJoinPool biddingPool;
+
+    /**
+     * Row-major, one row per task: the cell for task t and worker w is {@code t * size + w}.
+     * */
+    private final double[] costsTaskWorker;
+    private double[] taskReductions;
+    private double[] workerReductions;
+
+    private double[] workerPrices;
+    private final int[] workerForTask;
+    private final int[] taskForWorker;
+    private boolean released = false;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * */
+    public AuctionCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks, ForkJoinPool biddingPool) {
+        super(List.copyOf(workerGroupings), List.copyOf(tasks));
+        if (workerGroupings.size() != tasks.size())
+            throw new IllegalArgumentException(workerGroupings.size() + " worker groupings must equal " + tasks.size() + " tasks.");
+
+        this.size = this.tasks.size();
+        this.biddingPool = biddingPool;
+        this.costsTaskWorker = MatrixBufferPool.local().borrowDoubles(size * size);
+        for (int task = 0; task < size; task++) {
+            TaskRequest<T, W> taskRequest = this.tasks.get(task);
+            for (int worker = 0; worker < size; worker++) {
+                costsTaskWorker[task * size + worker] = taskRequest.getCost(this.workers.get(worker)); // INITIALIZATION
+            }
+        }
+        this.taskReductions = new double[size];
+        this.workerReductions = new double[size];
+        this.workerPrices = new double[size];
+        this.workerForTask = new int[size];
+        this.taskForWorker = new int[size];
+        Arrays.fill(workerForTask, UNASSIGNED);
+        Arrays.fill(taskForWorker, UNASSIGNED);
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    private AuctionCostMatrix(AuctionCostMatrix<T, W> template) {
+        super(template);
+        this.size = template.size;
+        this.biddingPool = template.biddingPool;
+        this.costsTaskWorker = MatrixBufferPool.local().borrowDoubles(template.costsTaskWorker.length);
+        System.arraycopy(template.costsTaskWorker, 0, this.costsTaskWorker, 0, costsTaskWorker.length);
+        this.taskReductions = template.taskReductions;
+        this.workerReductions = template.workerReductions;
+        this.workerPrices = template.workerPrices.clone();
+        this.workerForTask = template.workerForTask.clone();
+        this.taskForWorker = template.taskForWorker.clone();
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices.
+     * */
+    @Override
+    public boolean checkRowsAndColumnsAreViable() {
+        boolean[] workerHasFiniteCell = new boolean[size];
+        for (int task = 0; task < size; task++) {
+            boolean taskHasFiniteCell = false;
+            for (int worker = 0; worker < size; worker++) {
+                if (costsTaskWorker[task * size + worker] == Double.POSITIVE_INFINITY) continue;
+                taskHasFiniteCell = true;
+                workerHasFiniteCell[worker] = true;
+            }
+            if (!taskHasFiniteCell) return false;
+        }
+        for (boolean hasFiniteCell : workerHasFiniteCell) {
+            if (!hasFiniteCell) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Outcome retrieval: the marginal cost left after the initial reductions.
+     * */
+    @Override
+    public double getAssignmentCost(Assignment<T, W> assignment) {
+        int workerIndex = workerIndexOf(assignment);
+        int taskIndex = taskIndexOf(assignment);
+        if (workerIndex < 0 || taskIndex < 0) return -1D;
+        return costsTaskWorker[taskIndex * size + workerIndex] - taskReductions[taskIndex] - workerReductions[workerIndex];
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public CostMatrixInterface<T, W> cloneMatrix() {
+        return new AuctionCostMatrix<>(this);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>Records the same task-then-worker reductions as {@link CostMatrix}, for the marginal costs, and clears the prices for a fresh auction.</p>
+     * */
+    @Override
+    public void computeMarginalTaskCosts() {
+        double[] newTaskReductions = new double[size];
+        double[] newWorkerReductions = new double[size];
+        Arrays.fill(newWorkerReductions, Double.POSITIVE_INFINITY);
+        for (int task = 0; task < size; task++) {
+            double lowestValue = Double.POSITIVE_INFINITY;
+            for (int worker = 0; worker < size; worker++) {
+                lowestValue = Math.min(lowestValue, costsTaskWorker[task * size + worker]);
+            }
+            double taskReduction = lowestValue == Double.POSITIVE_INFINITY ? 0 : lowestValue;
+            newTaskReductions[task] = taskReduction;
+            for (int worker = 0; worker < size; worker++) {
+                newWorkerReductions[worker] = Math.min(newWorkerReductions[worker], costsTaskWorker[task * size + worker] - taskReduction);
+            }
+        }
+        for (int worker = 0; worker < size; worker++) {
+            if (newWorkerReductions[worker] == Double.POSITIVE_INFINITY) newWorkerReductions[worker] = 0;
+        }
+        this.taskReductions = newTaskReductions;
+        this.workerReductions = newWorkerReductions;
+        this.workerPrices = new double[size];
+    }
+
+    /**
+     * <b>Solve:</b> runs the epsilon-scaled auction to completion, then repairs its result to the exact optimum.
+     * <p><b>True</b> means the matrix is solved.</p>
+     * <p><b>False</b> means no complete assignment of finite cost exists.</p>
+     * */
+    @Override
+    public boolean applyMinimumCrossings() {
+        MatrixBufferPool bufferPool = MatrixBufferPool.local();
+        AuctionBuffers buffers = new AuctionBuffers(bufferPool, size);
+        try {
+            return solve(buffers);
+        } finally {
+            buffers.release(bufferPool);
+        }
+    }
+
+    private boolean solve(AuctionBuffers buffers) {
+        if (!hasCompleteFiniteMatching(buffers)) return false;
+
+        double lowestCost = Double.POSITIVE_INFINITY;
+        double highestCost = Double.NEGATIVE_INFINITY;
+        boolean integerCosts = true;
+        for (double cost : costsTaskWorker) {
+            if (cost == Double.POSITIVE_INFINITY) continue;
+            lowestCost = Math.min(lowestCost, cost);
+            highestCost = Math.max(highestCost, cost);
+            integerCosts = integerCosts && cost == Math.rint(cost);
+        }
+        double costRange = highestCost - lowestCost;
+        double finalEpsilon = integerCosts || costRange == 0
+                ? 1.0 / (size + 1)
+                : costRange * RELATIVE_PRECISION / (size + 1);
+        double epsilon = Math.max(costRange / EPSILON_SCALING_FACTOR, finalEpsilon);
+
+        while (true) {
+            runAuctionPhase(epsilon, costRange, buffers);
+            if (epsilon <= finalEpsilon) break;
+            epsilon = Math.max(epsilon / EPSILON_SCALING_FACTOR, finalEpsilon);
+        }
+        repairToOptimum(buffers);
+
+        assignedTasks.clear();
+        for (int task = 0; task < size; task++) {
+            confirmAssignment(workerForTask[task], task);
+        }
+        return true;
+    }
+
+    /**
+     * <b>Solve:</b> one epsilon phase. Every task starts unassigned, against the prices left by the previous phase.
+     * */
+    private void runAuctionPhase(double epsilon, double costRange, AuctionBuffers buffers) {
+        Arrays.fill(workerForTask, UNASSIGNED);
+        Arrays.fill(taskForWorker, UNASSIGNED);
+        int[] biddingTasks = buffers.biddingTasks;
+        for (int task = 0; task < size; task++) {
+            biddingTasks[task] = task;
+        }
+        int biddingCount = size;
+        int[] bidWorker = buffers.bidWorker;
+        double[] bidPrice = buffers.bidPrice;
+        double[] winningPrice = buffers.winningPrice;
+        int[] winningTask = buffers.winningTask;
+        Arrays.fill(winningTask, UNASSIGNED);
+        int[] nextBiddingTasks = buffers.nextBiddingTasks;
+
+        while (biddingCount > 0) {
+            computeBids(biddingTasks, biddingCount, bidWorker, bidPrice, epsilon, costRange);
+
+            // Resolve in bidding order: the highest bid takes each worker grouping, the earlier bid winning ties.
+            int nextBiddingCount = 0;
+            for (int bid = 0; bid < biddingCount; bid++) {
+                int worker = bidWorker[bid];
+                if (winningTask[worker] == UNASSIGNED || bidPrice[bid] > winningPrice[worker]) {
+                    if (winningTask[worker] != UNASSIGNED) nextBiddingTasks[nextBiddingCount++] = winningTask[worker];
+                    winningTask[worker] = biddingTasks[bid];
+                    winningPrice[worker] = bidPrice[bid];
+                } else {
+                    nextBiddingTasks[nextBiddingCount++] = biddingTasks[bid];
+                }
+            }
+            for (int bid = 0; bid < biddingCount; bid++) {
+                int worker = bidWorker[bid];
+                if (winningTask[worker] == UNASSIGNED) continue;
+                int previousTask = taskForWorker[worker];
+                if (previousTask != UNASSIGNED) {
+                    workerForTask[previousTask] = UNASSIGNED;
+                    nextBiddingTasks[nextBiddingCount++] = previousTask;
+                }
+                int winner = winningTask[worker];
+                taskForWorker[worker] = winner;
+                workerForTask[winner] = worker;
+                workerPrices[worker] = winningPrice[worker];
+                winningTask[worker] = UNASSIGNED;
+            }
+
+            int[] swap = biddingTasks;
+            biddingTasks = nextBiddingTasks;
+            nextBiddingTasks = swap;
+            biddingCount = nextBiddingCount;
+        }
+    }
+
+    /**
+     * <b>Solve:</b> the bidding half of a round, which only reads the prices, so large rounds are split across the pool.
+     * */
+    private void computeBids(int[] biddingTasks, int biddingCount, int[] bidWorker, double[] bidPrice, double epsilon, double costRange) {
+        if (biddingCount < PARALLEL_BIDDING_THRESHOLD) {
+            for (int bid = 0; bid < biddingCount; bid++) {
+                computeBid(biddingTasks[bid], bid, bidWorker, bidPrice, epsilon, costRange);
+            }
+        } else {
+            biddingPool.submit(() -> IntStream.range(0, biddingCount).parallel()
+                    .forEach(bid -> computeBid(biddingTasks[bid], bid, bidWorker, bidPrice, epsilon, costRange))).join();
+        }
+    }
+
+    /**
+     * A task bids on its cheapest worker grouping, at the price which makes it only epsilon cheaper than the runner-up.
+     * <p>With no runner-up, the margin is taken as the whole cost range.</p>
+     * */
+    private void computeBid(int task, int bid, int[] bidWorker, double[] bidPrice, double epsilon, double costRange) {
+        int rowStart = task * size;
+        int bestWorker = UNASSIGNED;
+        double bestValue = Double.POSITIVE_INFINITY;
+        double secondValue = Double.POSITIVE_INFINITY;
+        for (int worker = 0; worker < size; worker++) {
+            double cost = costsTaskWorker[rowStart + worker];
+            if (cost == Double.POSITIVE_INFINITY) continue;
+            double value = cost + workerPrices[worker];
+            if (value < bestValue) {
+                secondValue = bestValue;
+                bestValue = value;
+                bestWorker = worker;
+            } else if (value < secondValue) {
+                secondValue = value;
+            }
+        }
+        if (secondValue == Double.POSITIVE_INFINITY) secondValue = bestValue + costRange + epsilon;
+        bidWorker[bid] = bestWorker;
+        bidPrice[bid] = workerPrices[bestWorker] + (secondValue - bestValue) + epsilon;
+    }
+
+    /**
+     * <b>Solve:</b> the exact repair. The prices give feasible dual potentials once each task takes the least priced cost of its row,
+     * so every task whose cell is not tight under them is unmatched, and re-matched by a Dijkstra search over the reduced costs, as in {@link ShortestPathCostMatrix}.
+     * <p>Usually only a few tasks are left loose by the last phase, so this adds O(k n^2) for k of them.</p>
+     * */
+    private void repairToOptimum(AuctionBuffers buffers) {
+        double[] taskPotentials = buffers.taskPotentials;
+        double[] workerPotentials = buffers.workerPotentials;
+        for (int worker = 0; worker < size; worker++) {
+            workerPotentials[worker] = -workerPrices[worker];
+        }
+        for (int task = 0; task < size; task++) {
+            double lowestValue = Double.POSITIVE_INFINITY;
+            for (int worker = 0; worker < size; worker++) {
+                lowestValue = Math.min(lowestValue, costsTaskWorker[task * size + worker] - workerPotentials[worker]);
+            }
+            taskPotentials[task] = lowestValue;
+        }
+        int[] freeTasks = buffers.biddingTasks;
+        int freeCount = 0;
+        for (int task = 0; task < size; task++) {
+            int worker = workerForTask[task];
+            if (costsTaskWorker[task * size + worker] - taskPotentials[task] - workerPotentials[worker] > 0) {
+                workerForTask[task] = UNASSIGNED;
+                taskForWorker[worker] = UNASSIGNED;
+                freeTasks[freeCount++] = task;
+            }
+        }
+        for (int free = 0; free < freeCount; free++) {
+            augmentFromTask(freeTasks[free], buffers);
+        }
+        // Keep the prices consistent with the potentials, so a clone re-solved from them starts from this optimum's duals.
+        for (int worker = 0; worker < size; worker++) {
+            workerPrices[worker] = -workerPotentials[worker];
+        }
+    }
+
+    /**
+     * <b>Solve:</b> a Dijkstra search over reduced costs from a free task to an unmatched worker grouping. One always exists, since a complete finite matching does.
+     * The potentials are moved along the way so every matched cell keeps a reduced cost of zero.
+     * */
+    private void augmentFromTask(int freeTask, AuctionBuffers buffers) {
+        if (SolverInstrumentation.ENABLED) getInstrumentation().recordAugmentingPath();
+        double[] taskPotentials = buffers.taskPotentials;
+        double[] workerPotentials = buffers.workerPotentials;
+        double[] minimumSlack = buffers.bidPrice;
+        int[] previousTask = buffers.bidWorker;
+        int[] visitedWorkers = buffers.nextBiddingTasks;
+        int[] workerVisited = buffers.workerVisited;
+        Arrays.fill(minimumSlack, Double.POSITIVE_INFINITY);
+        Arrays.fill(workerVisited, 0);
+        int visitedCount = 0;
+
+        int currentTask = freeTask;
+        int reachedWorker;
+        double distance = 0;
+        while (true) {
+            for (int worker = 0; worker < size; worker++) {
+                if (workerVisited[worker] != 0) continue;
+                double reducedCost = distance + costsTaskWorker[currentTask * size + worker] - taskPotentials[currentTask] - workerPotentials[worker];
+                if (reducedCost < minimumSlack[worker]) {
+                    minimumSlack[worker] = reducedCost;
+                    previousTask[worker] = currentTask;
+                }
+            }
+            int nextWorker = UNASSIGNED;
+            for (int worker = 0; worker < size; worker++) {
+                if (workerVisited[worker] == 0 && (nextWorker == UNASSIGNED || minimumSlack[worker] < minimumSlack[nextWorker])) nextWorker = worker;
+            }
+            distance = minimumSlack[nextWorker];
+            workerVisited[nextWorker] = 1;
+            visitedWorkers[visitedCount++] = nextWorker;
+            if (taskForWorker[nextWorker] == UNASSIGNED) {
+                reachedWorker = nextWorker;
+                break;
+            }
+            currentTask = taskForWorker[nextWorker];
+        }
+
+        // Shift the potentials of the searched tree by its distances, which keeps them feasible and the path tight.
+        taskPotentials[freeTask] += distance;
+        for (int visited = 0; visited < visitedCount; visited++) {
+            int worker = visitedWorkers[visited];
+            double shift = distance - minimumSlack[worker];
+            workerPotentials[worker] -= shift;
+            int matchedTask = taskForWorker[worker];
+            if (matchedTask != UNASSIGNED) taskPotentials[matchedTask] += shift;
+        }
+
+        int worker = reachedWorker;
+        while (true) {
+            int task = previousTask[worker];
+            int displacedWorker = workerForTask[task];
+            taskForWorker[worker] = task;
+            workerForTask[task] = worker;
+            if (task == freeTask) break;
+            worker = displacedWorker;
+        }
+    }
+
+    /**
+     * Feasibility check by augmenting paths over the finite cells: the auction is only started when it can finish.
+     * */
+    private boolean hasCompleteFiniteMatching(AuctionBuffers buffers) {
+        int[] matchedTask = buffers.winningTask;
+        Arrays.fill(matchedTask, UNASSIGNED);
+        int[] visitedInRound = buffers.biddingTasks;
+        Arrays.fill(visitedInRound, UNASSIGNED);
+        int[] stackTask = buffers.nextBiddingTasks;
+        int[] stackWorker = buffers.bidWorker;
+        int[] workerOnPath = buffers.workerOnPath;
+        for (int task = 0; task < size; task++) {
+            // Iterative depth-first search for an augmenting path from this task.
+            int depth = 0;
+            stackTask[0] = task;
+            stackWorker[0] = 0;
+            boolean augmented = false;
+            while (depth >= 0 && !augmented) {
+                int currentTask = stackTask[depth];
+                int worker = stackWorker[depth];
+                while (worker < size && (costsTaskWorker[currentTask * size + worker] == Double.POSITIVE_INFINITY || visitedInRound[worker] == task)) {
+                    worker++;
+                }
+                if (worker == size) {
+                    depth--;
+                    continue;
+                }
+                stackWorker[depth] = worker + 1;
+                visitedInRound[worker] = task;
+                workerOnPath[depth] = worker;
+                if (matchedTask[worker] == UNASSIGNED) {
+                    for (int level = depth; level >= 0; level--) {
+                        matchedTask[workerOnPath[level]] = stackTask[level];
+                    }
+                    augmented = true;
+                } else {
+                    depth++;
+                    stackTask[depth] = matchedTask[worker];
+                    stackWorker[depth] = 0;
+                }
+            }
+            if (!augmented) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The auction finishes inside {@link #applyMinimumCrossings()}, so there is never a modification to make.
+     * */
+    @Override
+    public boolean modifyCostsByLowestUncrossedValue() {
+        return false;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost) {
+        int taskIndex = taskIndexOf(invalidAssignment);
+        int workerIndex = workerIndexOf(invalidAssignment);
+        if (taskIndex < 0 || workerIndex < 0)
+            return;
+        costsTaskWorker[taskIndex * size + workerIndex] = cost; // MODIFICATION
+    }
+
+    @Override
+    protected boolean isFiniteCell(int workerIndex, int taskIndex) {
+        return costsTaskWorker[taskIndex * size + workerIndex] != Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean anyNaN() {
+        for (double cost : costsTaskWorker) {
+            if (Double.isNaN(cost)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void release() {
+        if (released) return;
+        released = true;
+        MatrixBufferPool.local().release(costsTaskWorker);
+    }
+
+    /**
+     * The scratch arrays of one solve, shared by the feasibility check, the auction phases and the repair, which never run at the same time.
+     * */
+    private static final class AuctionBuffers {
+        private final int[] biddingTasks;
+        private final int[] nextBiddingTasks;
+        private final int[] bidWorker;
+        private final int[] winningTask;
+        private final int[] workerOnPath;
+        private final double[] bidPrice;
+        private final double[] winningPrice;
+        private final double[] taskPotentials;
+        private final double[] workerPotentials;
+        private final int[] workerVisited;
+
+        private AuctionBuffers(MatrixBufferPool bufferPool, int size) {
+            this.biddingTasks = bufferPool.borrowInts(size);
+            this.nextBiddingTasks = bufferPool.borrowInts(size);
+            this.bidWorker = bufferPool.borrowInts(size);
+            this.winningTask = bufferPool.borrowInts(size);
+            this.workerOnPath = bufferPool.borrowInts(size);
+            this.bidPrice = bufferPool.borrowDoubles(size);
+            this.winningPrice = bufferPool.borrowDoubles(size);
+            this.taskPotentials = bufferPool.borrowDoubles(size);
+            this.workerPotentials = bufferPool.borrowDoubles(size);
+            this.workerVisited = bufferPool.borrowInts(size);
+        }
+
+        private void release(MatrixBufferPool bufferPool) {
+            bufferPool.release(biddingTasks);
+            bufferPool.release(nextBiddingTasks);
+            bufferPool.release(bidWorker);
+            bufferPool.release(winningTask);
+            bufferPool.release(workerOnPath);
+            bufferPool.release(workerVisited);
+            bufferPool.release(bidPrice);
+            bufferPool.release(winningPrice);
+            bufferPool.release(taskPotentials);
+            bufferPool.release(workerPotentials);
+        }
+    }
+}
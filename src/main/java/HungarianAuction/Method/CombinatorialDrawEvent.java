@@ -0,0 +1,21 @@
+package HungarianAuction.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event around one draw from the subset search, emitted while {@link SolverInstrumentation#ENABLED} is set.
+ */
+@Name("HungarianAuction.CombinatorialDraw")
+@Label("Combinatorial Draw")
+@Category({"Hungarian Auction", "Solver"})
+@Description("The next set of assignments to exclude, drawn from the subset search")
+final class CombinatorialDrawEvent extends jdk.jfr.Event {
+    @Label("Combination Size")
+    int combinationSize;
+
+    @Label("Avoid Set Hits")
+    long avoidSetHits;
+}
@@ -0,0 +1,171 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * <ul>
+ * <li>
+ *      The k-best search over a {@link ComponentCostMatrix}: each component is enumerated on its own, and the batch solutions are their combinations in non-decreasing total cost.
+ * </li>
+ * <li>
+ *      A combination is one solution index per component. Each returned combination queues its successors, which advance a single component index at or after the last one advanced, so every combination is queued once.
+ * </li>
+ * <li>
+ *      Successors wait at their parent's cost until they reach the head of the queue. Only then is the one component that needs an alternative asked for its next solution.
+ * </li>
+ * </ul>
+ */
+class ComponentAssignmentEnumerator<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> implements AssignmentEnumerator<T, W> {
+
+    private final ComponentCostMatrix<T, W> templateCostMatrix;
+    private final List<KBestAssignmentEnumerator<T, W>> componentEnumerators = new ArrayList<>();
+
+    /**
+     * The solutions each component has yielded so far, in its own cost order.
+     * */
+    private final List<List<CostMatrixInterface<T, W>>> componentSolutions = new ArrayList<>();
+    private final boolean[] componentExhausted;
+    private final PriorityQueue<Combination> combinationQueue = new PriorityQueue<>();
+    private long combinationCounter = 0;
+    private Combination lastCombination = null;
+    private boolean started = false;
+
+    ComponentAssignmentEnumerator(ComponentCostMatrix<T, W> templateCostMatrix) {
+        this.templateCostMatrix = templateCostMatrix;
+        for (CostMatrixInterface<T, W> component : templateCostMatrix.getComponents()) {
+            // Every component solution can recur in later combinations, so they are kept here rather than released by their enumerator.
+            componentEnumerators.add(new KBestAssignmentEnumerator<>(component, false));
+            componentSolutions.add(new ArrayList<>());
+        }
+        this.componentExhausted = new boolean[componentEnumerators.size()];
+    }
+
+    @Override
+    public CostMatrixInterface<T, W> next() {
+        if (!started) {
+            started = true;
+            if (!solveFirstCombination()) return null;
+        }
+        if (lastCombination != null) {
+            queueSuccessors(lastCombination);
+            lastCombination = null;
+        }
+        while (!combinationQueue.isEmpty()) {
+            Combination combination = combinationQueue.poll();
+            if (combination.resolved) {
+                lastCombination = combination;
+                return templateCostMatrix.withSolvedComponents(solutionsOf(combination));
+            }
+            // Lazy expansion: fetch the advanced component's next solution now, and requeue at the true cost.
+            CostMatrixInterface<T, W> solution = solutionAt(combination.advancedComponent, combination.indices[combination.advancedComponent]);
+            if (solution == null) continue;
+            combination.cost = costOf(solutionsOf(combination));
+            combination.resolved = true;
+            combinationQueue.add(combination);
+        }
+        return null;
+    }
+
+    /**
+     * Releases every component solution yielded so far, then the component enumerators.
+     * */
+    @Override
+    public void release() {
+        componentSolutions.forEach(solutions -> solutions.forEach(CostMatrixInterface::release));
+        componentSolutions.forEach(List::clear);
+        componentEnumerators.forEach(KBestAssignmentEnumerator::release);
+        combinationQueue.clear();
+        lastCombination = null;
+    }
+
+    /**
+     * The solutions yielded so far make up the queued combinations, so only the components' queued solutions are released.
+     * */
+    @Override
+    public void compact() {
+        componentEnumerators.forEach(KBestAssignmentEnumerator::releaseQueuedSolutions);
+    }
+
+    /**
+     * Finds the optimum of every component side by side on the pool. Returns false if any component has no complete assignment.
+     * */
+    private boolean solveFirstCombination() {
+        int componentCount = componentEnumerators.size();
+        templateCostMatrix.getComponentPool().submit(() -> IntStream.range(0, componentCount).parallel().forEach(component -> solutionAt(component, 0))).join();
+        if (componentSolutions.stream().anyMatch(List::isEmpty)) return false;
+        Combination first = new Combination(new int[componentCount], 0, 0, combinationCounter++);
+        first.cost = costOf(solutionsOf(first));
+        first.resolved = true;
+        combinationQueue.add(first);
+        return true;
+    }
+
+    private void queueSuccessors(Combination combination) {
+        for (int component = combination.advancedComponent; component < combination.indices.length; component++) {
+            if (componentExhausted[component] && combination.indices[component] + 1 >= componentSolutions.get(component).size()) continue;
+            int[] indices = combination.indices.clone();
+            indices[component]++;
+            combinationQueue.add(new Combination(indices, component, combination.cost, combinationCounter++));
+        }
+    }
+
+    /**
+     * Reads a component's solution, advancing only that component's enumerator when it has not been reached yet.
+     * */
+    private CostMatrixInterface<T, W> solutionAt(int component, int index) {
+        List<CostMatrixInterface<T, W>> solutions = componentSolutions.get(component);
+        while (solutions.size() <= index && !componentExhausted[component]) {
+            CostMatrixInterface<T, W> solution = componentEnumerators.get(component).next();
+            if (solution == null) componentExhausted[component] = true;
+            else solutions.add(solution);
+        }
+        return index < solutions.size() ? solutions.get(index) : null;
+    }
+
+    private List<CostMatrixInterface<T, W>> solutionsOf(Combination combination) {
+        List<CostMatrixInterface<T, W>> solutions = new ArrayList<>(combination.indices.length);
+        for (int component = 0; component < combination.indices.length; component++) {
+            solutions.add(componentSolutions.get(component).get(combination.indices[component]));
+        }
+        return solutions;
+    }
+
+    private double costOf(List<CostMatrixInterface<T, W>> solutions) {
+        double cost = 0;
+        for (CostMatrixInterface<T, W> solution : solutions) {
+            cost += solution.getSumOfAssignments();
+        }
+        return cost;
+    }
+
+    /**
+     * One solution index per component. Until it is resolved, its cost is the lower bound inherited from its parent.
+     * */
+    private static final class Combination implements Comparable<Combination> {
+        private final int[] indices;
+        private final int advancedComponent;
+        private final long sequence;
+        private double cost;
+        private boolean resolved = false;
+
+        private Combination(int[] indices, int advancedComponent, double cost, long sequence) {
+            this.indices = indices;
+            this.advancedComponent = advancedComponent;
+            this.cost = cost;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Combination other) {
+            int costComparison = Double.compare(cost, other.cost);
+            if (costComparison != 0) return costComparison;
+            // Unresolved bounds go first, so a combination is only returned once nothing queued could undercut it.
+            int resolvedComparison = Boolean.compare(resolved, other.resolved);
+            return resolvedComparison != 0 ? resolvedComparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
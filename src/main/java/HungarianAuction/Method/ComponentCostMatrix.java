@@ -0,0 +1,221 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * <ul>
+ * <li>
+ *      A batch split into connected components of its viable-assignment graph: groups of tasks whose finite bids reach disjoint sets of worker groupings.
+ * </li>
+ * <li>
+ *      Each component is held by its own, smaller matrix, built by whichever engine suits it. The optimum of the batch is the union of the component optima.
+ * </li>
+ * <li>
+ *      Component work is run on a fork/join pool. Overrides and forced assignments are routed to the one component holding the task.
+ * </li>
+ * </ul>
+ */
+class ComponentCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends AbstractCostMatrix<T, W> {
+    private static final int NO_COMPONENT = -1;
+
+    private final List<CostMatrixInterface<T, W>> components;
+
+    /**
+     * Shared by every clone and view, as the partition of the tasks never changes.
+     * */
+    private final Map<TaskRequest<T, W>, Integer> componentForTask;
+    private final ForkJoinPool componentPool;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>The axes are the real tasks and worker groupings of every component, in component order.</p>
+     * */
+    ComponentCostMatrix(List<CostMatrixInterface<T, W>> components, List<List<TaskRequest<T, W>>> componentTasks, List<WorkerGrouping<T, W>> workerGroupings, ForkJoinPool componentPool) {
+        super(List.copyOf(workerGroupings), componentTasks.stream().flatMap(List::stream).toList());
+        if (components.size() != componentTasks.size())
+            throw new IllegalArgumentException(components.size() + " components were given " + componentTasks.size() + " task lists.");
+        this.components = List.copyOf(components);
+        this.componentPool = componentPool;
+        Map<TaskRequest<T, W>, Integer> taskComponents = new HashMap<>();
+        for (int component = 0; component < componentTasks.size(); component++) {
+            for (TaskRequest<T, W> task : componentTasks.get(component)) {
+                taskComponents.put(task, component);
+            }
+        }
+        this.componentForTask = Collections.unmodifiableMap(taskComponents);
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process, or a read-only view over components solved elsewhere.
+     * */
+    private ComponentCostMatrix(ComponentCostMatrix<T, W> template, List<CostMatrixInterface<T, W>> components) {
+        super(template);
+        this.components = components;
+        this.componentForTask = template.componentForTask;
+        this.componentPool = template.componentPool;
+        collectAssignments();
+    }
+
+    /**
+     * The matrices of the components, in component order.
+     * */
+    List<CostMatrixInterface<T, W>> getComponents() {
+        return components;
+    }
+
+    /**
+     * Combines one solved matrix per component into a solution of the whole batch.
+     * */
+    ComponentCostMatrix<T, W> withSolvedComponents(List<CostMatrixInterface<T, W>> solvedComponents) {
+        if (solvedComponents.size() != components.size())
+            throw new IllegalArgumentException(solvedComponents.size() + " solutions do not cover " + components.size() + " components.");
+        return new ComponentCostMatrix<>(this, List.copyOf(solvedComponents));
+    }
+
+    ForkJoinPool getComponentPool() {
+        return componentPool;
+    }
+
+    @Override
+    public void attachInstrumentation(SolverInstrumentation instrumentation) {
+        super.attachInstrumentation(instrumentation);
+        components.forEach(component -> component.attachInstrumentation(instrumentation));
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices.
+     * */
+    @Override
+    public boolean checkRowsAndColumnsAreViable() {
+        return components.stream().allMatch(CostMatrixInterface::checkRowsAndColumnsAreViable);
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices. The components share no worker groupings, so each is matched on its own.
+     * */
+    @Override
+    public HallViolation<T, W> findHallViolation() {
+        for (CostMatrixInterface<T, W> component : components) {
+            HallViolation<T, W> hallViolation = component.findHallViolation();
+            if (hallViolation != null) return hallViolation;
+        }
+        return null;
+    }
+
+    /**
+     * Outcome retrieval, from the component holding the task.
+     * */
+    @Override
+    public double getAssignmentCost(Assignment<T, W> assignment) {
+        CostMatrixInterface<T, W> component = componentOf(assignment);
+        return component == null ? -1D : component.getAssignmentCost(assignment);
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public CostMatrixInterface<T, W> cloneMatrix() {
+        List<CostMatrixInterface<T, W>> clonedComponents = new ArrayList<>(components.size());
+        for (CostMatrixInterface<T, W> component : components) {
+            clonedComponents.add(component.cloneMatrix());
+        }
+        return new ComponentCostMatrix<>(this, clonedComponents);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * */
+    @Override
+    public void computeMarginalTaskCosts() {
+        forEachComponent(CostMatrixInterface::computeMarginalTaskCosts);
+    }
+
+    @Override
+    public void prepareWarmStart() {
+        forEachComponent(CostMatrixInterface::prepareWarmStart);
+    }
+
+    /**
+     * Solves every component to completion, so there is never a <b>Loop 1</b> step left for the batch as a whole.
+     * */
+    @Override
+    public boolean applyMinimumCrossings() {
+        return solveToCompletion();
+    }
+
+    /**
+     * <b>Loop 1</b>: nothing is left to modify, as {@link #applyMinimumCrossings()} runs every component to completion.
+     * */
+    @Override
+    public boolean modifyCostsByLowestUncrossedValue() {
+        return false;
+    }
+
+    /**
+     * Solves the components side by side on the pool.
+     * */
+    @Override
+    public boolean solveToCompletion() {
+        boolean solved = components.size() < 2
+                ? components.stream().allMatch(CostMatrixInterface::solveToCompletion)
+                : componentPool.submit(() -> components.parallelStream().allMatch(CostMatrixInterface::solveToCompletion)).join();
+        collectAssignments();
+        return solved;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost) {
+        CostMatrixInterface<T, W> component = componentOf(invalidAssignment);
+        if (component != null) component.overrideAssignmentCost(invalidAssignment, cost);
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process. The worker grouping of a viable assignment always lies in the task's component.
+     * */
+    @Override
+    public void forceAssignment(Assignment<T, W> requiredAssignment) {
+        CostMatrixInterface<T, W> component = componentOf(requiredAssignment);
+        if (component != null) component.forceAssignment(requiredAssignment);
+    }
+
+    @Override
+    public boolean anyNaN() {
+        return components.stream().anyMatch(CostMatrixInterface::anyNaN);
+    }
+
+    /**
+     * Releases every component. The views of {@link #withSolvedComponents(List)} share their components with the enumerator, which releases them itself.
+     * */
+    @Override
+    public void release() {
+        components.forEach(CostMatrixInterface::release);
+    }
+
+    private CostMatrixInterface<T, W> componentOf(Assignment<T, W> assignment) {
+        int component = componentForTask.getOrDefault(assignment.task(), NO_COMPONENT);
+        return component == NO_COMPONENT ? null : components.get(component);
+    }
+
+    private void forEachComponent(Consumer<CostMatrixInterface<T, W>> action) {
+        if (components.size() < 2) components.forEach(action);
+        else componentPool.submit(() -> components.parallelStream().forEach(action)).join();
+    }
+
+    /**
+     * Last operation of a solve: the batch holds the union of the component assignments.
+     * */
+    private void collectAssignments() {
+        assignedTasks.clear();
+        components.forEach(component -> assignedTasks.addAll(component.getAssignments()));
+    }
+}
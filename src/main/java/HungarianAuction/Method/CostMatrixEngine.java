@@ -0,0 +1,25 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+/**
+ * The exact engines an {@link EngineCalibration} can choose between, each naming its {@link CostMatrixFactory}.
+ */
+public enum CostMatrixEngine {
+    HUNGARIAN, // CostMatrixFactory.hungarian(): padded to a square.
+    VECTORISED_HUNGARIAN, // CostMatrixFactory.vectorisedHungarian(): padded to a square, scalar without the Vector API.
+    SHORTEST_PATH, // CostMatrixFactory.shortestAugmentingPath(): rectangular.
+    SPARSE, // CostMatrixFactory.sparse(): rectangular, finite cells only.
+    AUCTION; // CostMatrixFactory.auction(): padded to a square.
+
+    public <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> createFactory() {
+        return switch (this) {
+            case HUNGARIAN -> CostMatrixFactory.hungarian();
+            case VECTORISED_HUNGARIAN -> CostMatrixFactory.vectorisedHungarian();
+            case SHORTEST_PATH -> CostMatrixFactory.shortestAugmentingPath();
+            case SPARSE -> CostMatrixFactory.sparse();
+            case AUCTION -> CostMatrixFactory.auction();
+        };
+    }
+}
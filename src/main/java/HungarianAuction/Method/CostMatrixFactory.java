@@ -0,0 +1,131 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Strategy used by {@link CostMatrixSolver} to build its template matrix, which decides the engine that solves every matrix cloned from it.
+ */
+@FunctionalInterface
+public interface CostMatrixFactory<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
+    int DEFAULT_PARALLEL_CUTOFF = 256;
+    double DEFAULT_FIXED_POINT_SCALE = 1_000_000;
+
+    CostMatrixInterface<T, W> createCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks);
+
+    /**
+     * Whether the tasks must be padded with DoNothingTasks up to the number of worker groupings before the matrix is built.
+     */
+    default boolean requiresSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The star, prime and cover method of {@link CostMatrix}.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> hungarian() {
+        return CostMatrix::new;
+    }
+
+    /**
+     * As {@link #hungarian()}, with the n^2 sweeps run over SIMD lanes when the {@code jdk.incubator.vector} module is present at runtime.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> vectorisedHungarian() {
+        CostSweepKernel sweepKernel = CostSweepKernel.vectorised();
+        return (workerGroupings, tasks) -> new CostMatrix<>(workerGroupings, tasks, sweepKernel);
+    }
+
+    /**
+     * As {@link #hungarian()}, with the n^2 sweeps split across row blocks on the common pool once the matrix reaches {@value #DEFAULT_PARALLEL_CUTOFF} rows.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> parallelHungarian() {
+        return parallelHungarian(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_CUTOFF);
+    }
+
+    /**
+     * As {@link #hungarian()}, with the n^2 sweeps split across row blocks on the supplied pool once the matrix reaches the cutoff size.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> parallelHungarian(ForkJoinPool pool, int sequentialCutoff) {
+        CostSweepKernel sweepKernel = new ParallelCostSweepKernel(CostSweepKernel.scalar(), pool, sequentialCutoff);
+        return (workerGroupings, tasks) -> new CostMatrix<>(workerGroupings, tasks, sweepKernel);
+    }
+
+    /**
+     * The method of {@link CostMatrix} in exact {@code long} arithmetic, with costs scaled by {@value #DEFAULT_FIXED_POINT_SCALE}.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> fixedPoint() {
+        return fixedPoint(DEFAULT_FIXED_POINT_SCALE);
+    }
+
+    /**
+     * As {@link #fixedPoint()}, with costs scaled by the supplied factor before rounding.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> fixedPoint(double scale) {
+        return (workerGroupings, tasks) -> new FixedPointCostMatrix<>(workerGroupings, tasks, scale);
+    }
+
+    /**
+     * The O(n^2 m) shortest augmenting path method of {@link ShortestPathCostMatrix}, for n tasks and m worker groupings, built without DoNothingTasks.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> shortestAugmentingPath() {
+        return rectangular(ShortestPathCostMatrix::new);
+    }
+
+    /**
+     * As {@link #shortestAugmentingPath()}, with the base costs in native memory outside the heap, freed when the solver is released.
+     * <p>Falls back to the heap without the {@code jdk.incubator.foreign} module at runtime.</p>
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> offHeapShortestAugmentingPath() {
+        return rectangular((workerGroupings, tasks) -> new ShortestPathCostMatrix<>(workerGroupings, tasks, CostStore::offHeap));
+    }
+
+    /**
+     * As {@link #offHeapShortestAugmentingPath()}, with the base costs mapped from a temporary file in the directory, deleted when the solver is released.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> memoryMappedShortestAugmentingPath(Path directory) {
+        return rectangular((workerGroupings, tasks) -> new ShortestPathCostMatrix<>(workerGroupings, tasks, cellCount -> CostStore.memoryMapped(cellCount, directory)));
+    }
+
+    /**
+     * The sparse shortest augmenting path method of {@link SparseCostMatrix}, which only stores and searches the finite cells.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> sparse() {
+        return rectangular(SparseCostMatrix::new);
+    }
+
+    /**
+     * The epsilon-scaled forward auction of {@link AuctionCostMatrix}, bidding on the common pool.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> auction() {
+        return auction(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * As {@link #auction()}, bidding on the supplied pool.
+     */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> auction(ForkJoinPool biddingPool) {
+        return (workerGroupings, tasks) -> new AuctionCostMatrix<>(workerGroupings, tasks, biddingPool);
+    }
+
+    /**
+     * Marks an engine which accepts fewer tasks than worker groupings, so the solver skips the DoNothingTask padding.
+     */
+    private static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixFactory<T, W> rectangular(CostMatrixFactory<T, W> factory) {
+        return new CostMatrixFactory<>() {
+            @Override
+            public CostMatrixInterface<T, W> createCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks) {
+                return factory.createCostMatrix(workerGroupings, tasks);
+            }
+
+            @Override
+            public boolean requiresSquareMatrix() {
+                return false;
+            }
+        };
+    }
+}
@@ -8,6 +8,12 @@ import java.util.Set;
 public interface CostMatrixInterface<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>> {
     boolean checkRowsAndColumnsAreViable();
 
+    /**
+     * Checks that the finite cells alone admit a complete assignment of the tasks, before any solving is attempted.
+     * @return null if they do, otherwise a set of tasks with too few worker groupings between them
+     * */
+    HallViolation<T, W> findHallViolation();
+
     int getId();
 
     double getAssignmentCost(Assignment<T, W> assignment);
@@ -18,13 +24,51 @@ public interface CostMatrixInterface<T extends TaskSource<T,W>, W extends Worker
 
     boolean applyMinimumCrossings();
 
+    /**
+     * Called once on the template. Engines which can repair a previous optimum solve it here, so their clones start warm.
+     * */
+    default void prepareWarmStart() {
+    }
+
     boolean modifyCostsByLowestUncrossedValue();
 
+    /**
+     * Alternates {@link #applyMinimumCrossings()} and {@link #modifyCostsByLowestUncrossedValue()} until the matrix is solved or no modification is left to make.
+     * */
+    default boolean solveToCompletion() {
+        boolean solved = applyMinimumCrossings();
+        while (!solved && modifyCostsByLowestUncrossedValue()) {
+            solved = applyMinimumCrossings();
+        }
+        return solved;
+    }
+
     Set<Assignment<T, W>> getAssignments();
 
     void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost);
 
+    /**
+     * Restricts the task and the worker grouping of the assignment to each other, by overriding every other cell in their row and column.
+     * */
+    void forceAssignment(Assignment<T, W> requiredAssignment);
+
     double getSumOfAssignments();
 
     boolean anyNaN();
+
+    /**
+     * Hands the matrix the counters of its solver, which the matrix and its clones report into while {@link SolverInstrumentation#ENABLED} is set.
+     * */
+    default void attachInstrumentation(SolverInstrumentation instrumentation) {
+    }
+
+    default SolverInstrumentation getInstrumentation() {
+        return SolverInstrumentation.DISABLED;
+    }
+
+    /**
+     * Returns the matrix's buffers to the pool of the calling thread, once nothing will read the matrix again. A released matrix must not be used.
+     * */
+    default void release() {
+    }
 }
@@ -35,24 +35,35 @@ import java.util.stream.Collectors;
 public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
 
     private final CostMatrixInterface<T, W> templateCostMatrix;
+    private final SolverConfiguration<T, W> configuration;
     private final List<WorkerGrouping<T, W>> workers;
     private final List<TaskRequest<T, W>> taskRequests;
     private final int taskSize;
-    private final Set<WorkerGrouping<T, W>> unassignedWorkerGroupings = new HashSet<>();
-    private final Map<TaskRequest<T, W>, Set<WorkerGrouping<T, W>>> viableAssignmentMap = new HashMap<>();
+    private final Map<WorkerGrouping<T, W>, Integer> workerGroupingPositions = new HashMap<>();
+    private final Set<WorkerGrouping<T, W>> unassignedWorkerGroupings = new LinkedHashSet<>();
+    private final Map<TaskRequest<T, W>, Set<WorkerGrouping<T, W>>> viableAssignmentMap = new LinkedHashMap<>();
 
-    private final Set<TaskRequest<T, W>> unassignedTasks = new HashSet<>();
-    private final Map<TaskRequest<T, W>, WorkerGrouping<T, W>> uniqueViableAssignments = new HashMap<>();
+    private final Set<TaskRequest<T, W>> unassignedTasks = new LinkedHashSet<>();
+    private final Map<TaskRequest<T, W>, WorkerGrouping<T, W>> uniqueViableAssignments = new LinkedHashMap<>();
 
     /**
      * The output of the CostMatrixSolver: its main externally-readable field.
      */
-    private final Set<Assignment<T, W>> confirmedAssignmentSet = new HashSet<>();
+    private final Set<Assignment<T, W>> confirmedAssignmentSet = new LinkedHashSet<>();
     private final Set<Set<Assignment<T, W>>> failedAssignmentBranches;
     int solvedMatrices = 0;
     private CostMatrixInterface<T, W> activeCostMatrix = null;
+    /**
+     * The assignments and cost of the last solved matrix, kept once its buffers have been handed back by {@link #compact()} or {@link #release()}.
+     */
+    private Set<Assignment<T, W>> retainedAssignments = null;
+    private double retainedSumOfAssignmentCosts = Double.NaN;
     private BinSearchCombAdvanced<Assignment<T, W>> activeCombinatorial = null;
+    private AssignmentEnumerator<T, W> kBestEnumerator = null;
     private Viability viability;
+    private HallViolation<T, W> hallViolation = null;
+    private boolean released = false;
+    private final SolverInstrumentation instrumentation = SolverInstrumentation.create();
 
 
     /**
@@ -60,17 +71,29 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
      * <p style="padding:12px">A stateful wrapper for solving an assignment batch via the Hungarian Method. Contains several enhancements to allow the method to be applied in a wider range of scenarios.</p>
      * <h2>Enhancements</h2>
      * <ul style="padding-left:8px">
-     *     <li><em>Automatic normalisation of the matrix to square, via DoNothingTasks which mirror the real tasks received.</em></li>
+     *     <li><em>Automatic normalisation of the matrix to square, via DoNothingTasks which mirror the real tasks received, for the engines which need it.</em></li>
      *     <li><strong>Does not allow fewer workers than tasks.</strong></li>
      *     <li><em>Viability check that allows the inclusion of infinity values in the costs. Triggers a handled failure.</em></li>
      *     <li><em>Can be solved iteratively, leading to progressively less optimal outcomes. </em></li>
+     *     <li><em>With the K_BEST search strategy each iteration yields the next cheapest distinct assignment set, in strict cost order.</em></li>
+     *     <li><em>With component decomposition, independent groups of tasks are solved as separate, smaller matrices in parallel; an iteration only re-solves the group that needs an alternative.</em></li>
+     *     <li><em>Deterministic: tasks and worker groupings keep the order they were supplied in, and ties are broken on task id and worker grouping position, so identical inputs give identical search traces.</em></li>
      *     <li><strong>When the base assignment costs have changed externally, the CostMatrixSolver must be discarded.</strong></li>
      * </ul>
      */
     public CostMatrixSolver(List<WorkerGrouping<T, W>> workers, List<TaskRequest<T, W>> taskRequests, int taskSize) {
+        this(workers, taskRequests, taskSize, SolverConfiguration.defaults());
+    }
+
+    /**
+     * As above, with the engine and search choices taken from the supplied configuration.
+     */
+    public CostMatrixSolver(List<WorkerGrouping<T, W>> workers, List<TaskRequest<T, W>> taskRequests, int taskSize, SolverConfiguration<T, W> configuration) {
+        this.configuration = configuration;
         this.workers = Collections.unmodifiableList(workers);
         this.taskRequests = Collections.unmodifiableList(taskRequests);
         this.taskSize = taskSize;
+        for (int position = 0; position < workers.size(); position++) workerGroupingPositions.putIfAbsent(workers.get(position), position);
         this.failedAssignmentBranches = new TreeSet<>(getAssignmentSetComparator());
         unassignedWorkerGroupings.addAll(workers);
         unassignedTasks.addAll(taskRequests);
@@ -81,19 +104,30 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         // Build a template cost matrix with this data.
         this.templateCostMatrix = computeCostMatrix();
 
-        // Clone the first matrix to solve from the template, if the viability checks pass.
-        if (this.viability == Viability.LIVE && templateCostMatrix != null) {
-            this.activeCostMatrix = templateCostMatrix.cloneMatrix();
+        // Clone the first matrix to solve from the template, if the viability checks pass. The k-best search solves clones of its own.
+        if (this.viability == Viability.LIVE && templateCostMatrix != null && configuration.getSearchStrategy() != SolverConfiguration.SearchStrategy.K_BEST) {
+            this.activeCostMatrix = SolverInstrumentation.cloneOf(templateCostMatrix);
         }
     }
 
     private Comparator<Set<Assignment<T, W>>> getAssignmentSetComparator() {
         return (set1, set2) -> {
-            int sizeComparison = set1.size() - set2.size();
-            return sizeComparison != 0 ? sizeComparison : set1.hashCode() - set2.hashCode();
+            int sizeComparison = Integer.compare(set1.size(), set2.size());
+            return sizeComparison != 0 ? sizeComparison : Arrays.compare(getAssignmentKeys(set1), getAssignmentKeys(set2));
         };
     }
 
+    /**
+     * One key per assignment, from its task id and its worker grouping's position in the input, sorted: equal only for equal sets, and the same from run to run.
+     */
+    private long[] getAssignmentKeys(Set<Assignment<T, W>> assignmentSet) {
+        return assignmentSet.stream()
+                .mapToLong(assignment -> ((long) assignment.task().getId() << Integer.SIZE)
+                        | workerGroupingPositions.getOrDefault(assignment.workerGrouping(), workers.size()))
+                .sorted()
+                .toArray();
+    }
+
     /**
      * <h4>@Initialization</h4>
      * Calls in the data from the external interface.
@@ -121,26 +155,44 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
     private CostMatrixInterface<T, W> computeCostMatrix() {
 
 
-        // Simplify the problem by removing any tasks with only a single viable worker assignment.
-        removeSingleWorkerGroupingTasks();
+        // Simplify the problem by fixing every assignment that all complete solutions share.
+        applyPreSolveReductions();
         if (unassignedTasks.isEmpty()) {
             this.viability = Viability.REAL_TASKS_ALLOCATED;
-            return new CostMatrix<>(new ArrayList<>(), new ArrayList<>());
+            return configuration.getCostMatrixFactory().createCostMatrix(new ArrayList<>(), new ArrayList<>());
         }
 
-        // Normalise the matrix to a square
-        addDoNothingTasks();
-        List<WorkerGrouping<T, W>> workerGroupings = new ArrayList<>(this.unassignedWorkerGroupings);
-        List<TaskRequest<T, W>> taskRequestList = new ArrayList<>(this.unassignedTasks);
+        // Independent groups of tasks are solved by their own, smaller matrices.
+        CostMatrixInterface<T, W> costMatrix = configuration.isComponentDecomposition() ? computeComponentCostMatrix() : null;
+        if (costMatrix == null) {
+            // Mostly-infeasible batches are cheaper to hold and solve sparsely.
+            CostMatrixFactory<T, W> costMatrixFactory = selectCostMatrixFactory(unassignedTasks, unassignedWorkerGroupings);
+
+            // Normalise the matrix to a square, unless the engine solves rectangles directly.
+            boolean squareRequired = costMatrixFactory.requiresSquareMatrix();
+            if (squareRequired) addDoNothingTasks();
+            List<WorkerGrouping<T, W>> workerGroupings = new ArrayList<>(this.unassignedWorkerGroupings);
+            List<TaskRequest<T, W>> taskRequestList = new ArrayList<>(this.unassignedTasks);
+
+            // Failsafe check for size-related bugs.
+            if (squareRequired ? workerGroupings.size() != taskRequestList.size() : workerGroupings.size() < taskRequestList.size()) {
+                this.viability = Viability.UNKNOWN_ERROR;
+                return null;
+            }
 
-        // Failsafe check for size-related bugs.
-        if (workerGroupings.size() != taskRequestList.size()) {
-            this.viability = Viability.UNKNOWN_ERROR;
-            return null;
+            // Initialise the Matrix
+            costMatrix = costMatrixFactory.createCostMatrix(workerGroupings, taskRequestList);
+        }
+        costMatrix.attachInstrumentation(instrumentation);
+
+        // A batch with no complete assignment over its finite costs is rejected before any solving.
+        if (this.viability == Viability.LIVE) {
+            this.hallViolation = costMatrix.findHallViolation();
+            if (hallViolation != null) {
+                this.viability = Viability.NO_COMPLETE_MATCHING;
+                return costMatrix;
+            }
         }
-
-        // Initialise the Matrix
-        CostMatrixInterface<T, W> costMatrix = new CostMatrix<>(workerGroupings, taskRequestList);
         costMatrix.computeMarginalTaskCosts();
 
         // Check for NaNs:
@@ -149,17 +201,111 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
             return null;
         }
 
+        // Let the engine solve the template once, if its clones can resume from that optimum.
+        costMatrix.prepareWarmStart();
 
         return costMatrix;
     }
 
+    /**
+     * <h4>@Initialization</h4>
+     * Picks the calibrated engine for the shape of the given real tasks, if the configuration has a calibration.
+     * Otherwise picks the sparse engine when their share of finite cells falls below the configured threshold.
+     */
+    private CostMatrixFactory<T, W> selectCostMatrixFactory(Collection<TaskRequest<T, W>> tasks, Set<WorkerGrouping<T, W>> workerGroupings) {
+        long cellCount = (long) tasks.size() * workerGroupings.size();
+        if (cellCount == 0) return configuration.getCostMatrixFactory();
+        long finiteCellCount = 0;
+        for (TaskRequest<T, W> task : tasks) {
+            for (WorkerGrouping<T, W> workerGrouping : viableAssignmentMap.get(task)) {
+                if (workerGroupings.contains(workerGrouping)) finiteCellCount++;
+            }
+        }
+        double finiteDensity = (double) finiteCellCount / cellCount;
+        EngineCalibration engineCalibration = configuration.getEngineCalibration();
+        if (engineCalibration != null) return engineCalibration.selectEngine(tasks.size(), workerGroupings.size(), finiteDensity).createFactory();
+        if (finiteDensity < configuration.getSparseDensityThreshold()) return CostMatrixFactory.sparse();
+        return configuration.getCostMatrixFactory();
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * Splits the viable-assignment graph of the remaining real tasks into connected components, and builds one matrix per component.
+     * Returns null when there is only one component, or when a component has fewer worker groupings than tasks, so the whole batch is built as before.
+     */
+    @Nullable
+    private CostMatrixInterface<T, W> computeComponentCostMatrix() {
+        // Union-find over the worker groupings, joined through each task's viable bids.
+        Map<WorkerGrouping<T, W>, WorkerGrouping<T, W>> parents = new HashMap<>();
+        unassignedWorkerGroupings.forEach(workerGrouping -> parents.put(workerGrouping, workerGrouping));
+        Map<TaskRequest<T, W>, WorkerGrouping<T, W>> anchorForTask = new LinkedHashMap<>();
+        for (TaskRequest<T, W> task : unassignedTasks) {
+            WorkerGrouping<T, W> anchor = null;
+            for (WorkerGrouping<T, W> workerGrouping : viableAssignmentMap.get(task)) {
+                if (!parents.containsKey(workerGrouping)) continue;
+                if (anchor == null) anchor = workerGrouping;
+                else parents.put(findRoot(parents, workerGrouping), findRoot(parents, anchor));
+            }
+            if (anchor == null) return null;
+            anchorForTask.put(task, anchor);
+        }
+
+        Map<WorkerGrouping<T, W>, List<TaskRequest<T, W>>> tasksByRoot = new LinkedHashMap<>();
+        anchorForTask.forEach((task, anchor) -> tasksByRoot.computeIfAbsent(findRoot(parents, anchor), k -> new ArrayList<>()).add(task));
+        if (tasksByRoot.size() < 2) return null;
+        Map<WorkerGrouping<T, W>, Set<WorkerGrouping<T, W>>> workerGroupingsByRoot = new LinkedHashMap<>();
+        for (WorkerGrouping<T, W> workerGrouping : unassignedWorkerGroupings) {
+            WorkerGrouping<T, W> root = findRoot(parents, workerGrouping);
+            // Worker groupings no task can use are left out: they do nothing in every solution.
+            if (tasksByRoot.containsKey(root)) workerGroupingsByRoot.computeIfAbsent(root, k -> new LinkedHashSet<>()).add(workerGrouping);
+        }
+
+        List<CostMatrixInterface<T, W>> components = new ArrayList<>();
+        List<List<TaskRequest<T, W>>> componentTasks = new ArrayList<>();
+        List<WorkerGrouping<T, W>> componentWorkerGroupings = new ArrayList<>();
+        for (Map.Entry<WorkerGrouping<T, W>, List<TaskRequest<T, W>>> entry : tasksByRoot.entrySet()) {
+            List<TaskRequest<T, W>> tasks = entry.getValue();
+            Set<WorkerGrouping<T, W>> workerGroupings = workerGroupingsByRoot.get(entry.getKey());
+            if (workerGroupings.size() < tasks.size()) return null;
+            components.add(computeComponentMatrix(tasks, workerGroupings));
+            componentTasks.add(tasks);
+            componentWorkerGroupings.addAll(workerGroupings);
+        }
+        return new ComponentCostMatrix<>(components, componentTasks, componentWorkerGroupings, configuration.getComponentPool());
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * Builds the matrix of one component, padded to a square with its own DoNothingTasks if the engine needs it.
+     */
+    private CostMatrixInterface<T, W> computeComponentMatrix(List<TaskRequest<T, W>> tasks, Set<WorkerGrouping<T, W>> workerGroupings) {
+        CostMatrixFactory<T, W> costMatrixFactory = selectCostMatrixFactory(tasks, workerGroupings);
+        List<TaskRequest<T, W>> taskRequestList = new ArrayList<>(tasks);
+        if (costMatrixFactory.requiresSquareMatrix()) {
+            for (int i = tasks.size(); i < workerGroupings.size(); i++) {
+                DoNothingTask<T, W> doNothingTask = new DoNothingTask<>(taskSize);
+                doNothingTask.tenderGroupingCosts(workerGroupings);
+                taskRequestList.add(doNothingTask);
+            }
+        }
+        return costMatrixFactory.createCostMatrix(new ArrayList<>(workerGroupings), taskRequestList);
+    }
+
+    private static <K> K findRoot(Map<K, K> parents, K element) {
+        K root = element;
+        while (parents.get(root) != root) root = parents.get(root);
+        // Path compression, so later finds are near constant.
+        while (parents.get(element) != root) element = parents.put(element, root);
+        return root;
+    }
+
     /**
      * <h4>@Initialization</h4>
      * Builds a record of the tasks that have at least one finite worker cost.
      */
     private void mapViableAssignments(TaskRequest<T, W> taskRequest) {
         Map<WorkerGrouping<T, W>, TaskCost> workerGroupingMap = taskRequest.getWorkerGroupingMap();
-        Set<WorkerGrouping<T, W>> workerGroupings = viableAssignmentMap.computeIfAbsent(taskRequest, k -> new HashSet<>());
+        Set<WorkerGrouping<T, W>> workerGroupings = viableAssignmentMap.computeIfAbsent(taskRequest, k -> new LinkedHashSet<>());
         workerGroupingMap.entrySet()
                 .stream()
                 .filter(entry -> entry.getValue().getFinalValue() != Double.POSITIVE_INFINITY)
@@ -184,6 +330,128 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         }
     }
 
+    /**
+     * <h4>@Initialization</h4>
+     * Repeats the reductions until none of them shrinks the problem any further. Each one removes tasks and worker groupings from the matrix and the combinatorial search.
+     */
+    private void applyPreSolveReductions() {
+        boolean reduced = true;
+        while (reduced && !unassignedTasks.isEmpty()) {
+            removeSingleWorkerGroupingTasks();
+            reduced = fixSingleTaskWorkerGroupings();
+            reduced |= fixForcedAssignments();
+            if (configuration.isDominatedGroupingPruning()) reduced |= pruneDominatedWorkerGroupings();
+        }
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * When there are as many worker groupings as tasks, every grouping must work, so one with a single viable task is fixed to it.
+     */
+    private boolean fixSingleTaskWorkerGroupings() {
+        if (unassignedWorkerGroupings.size() != unassignedTasks.size()) return false;
+        Map<WorkerGrouping<T, W>, List<TaskRequest<T, W>>> viableTasksByWorkerGrouping = new LinkedHashMap<>();
+        for (TaskRequest<T, W> task : unassignedTasks) {
+            for (WorkerGrouping<T, W> workerGrouping : viableAssignmentMap.get(task)) {
+                if (unassignedWorkerGroupings.contains(workerGrouping))
+                    viableTasksByWorkerGrouping.computeIfAbsent(workerGrouping, k -> new ArrayList<>()).add(task);
+            }
+        }
+        boolean fixed = false;
+        for (Map.Entry<WorkerGrouping<T, W>, List<TaskRequest<T, W>>> entry : viableTasksByWorkerGrouping.entrySet()) {
+            if (entry.getValue().size() != 1) continue;
+            TaskRequest<T, W> task = entry.getValue().get(0);
+            // An earlier fix in this pass may already have taken the task.
+            if (!unassignedTasks.contains(task)) continue;
+            fixAssignment(task, entry.getKey());
+            fixed = true;
+        }
+        return fixed;
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * Fixes the edges which lie in every complete matching of the finite-cost graph, found from one Hopcroft-Karp matching.
+     */
+    private boolean fixForcedAssignments() {
+        List<TaskRequest<T, W>> taskList = new ArrayList<>(unassignedTasks);
+        List<WorkerGrouping<T, W>> workerGroupingList = new ArrayList<>(unassignedWorkerGroupings);
+        Map<WorkerGrouping<T, W>, Integer> workerGroupingIndices = new HashMap<>();
+        for (int worker = 0; worker < workerGroupingList.size(); worker++) {
+            workerGroupingIndices.put(workerGroupingList.get(worker), worker);
+        }
+        int[][] workersByTask = new int[taskList.size()][];
+        for (int task = 0; task < taskList.size(); task++) {
+            workersByTask[task] = viableAssignmentMap.get(taskList.get(task)).stream()
+                    .map(workerGroupingIndices::get)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        int[] forcedWorkers = new HopcroftKarpMatcher(workersByTask, workerGroupingList.size()).forcedWorkerForTask();
+        boolean fixed = false;
+        for (int task = 0; task < forcedWorkers.length; task++) {
+            if (forcedWorkers[task] == HopcroftKarpMatcher.UNMATCHED) continue;
+            fixAssignment(taskList.get(task), workerGroupingList.get(forcedWorkers[task]));
+            fixed = true;
+        }
+        return fixed;
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * Removes each worker grouping which at least as many other groupings as there are tasks dominate: they can take every task it can, at no greater cost.
+     * Any solution using it leaves one of those groupings idle to swap in, so the optimum is kept, though alternatives using it are no longer offered.
+     * <p>Exact ties are broken by position, so of two identical groupings only one can be removed on the other's account.</p>
+     */
+    private boolean pruneDominatedWorkerGroupings() {
+        List<WorkerGrouping<T, W>> workerGroupingList = new ArrayList<>(unassignedWorkerGroupings);
+        List<Map<TaskRequest<T, W>, Double>> viableCosts = new ArrayList<>(workerGroupingList.size());
+        for (WorkerGrouping<T, W> workerGrouping : workerGroupingList) {
+            Map<TaskRequest<T, W>, Double> costs = new HashMap<>();
+            for (TaskRequest<T, W> task : unassignedTasks) {
+                if (viableAssignmentMap.get(task).contains(workerGrouping)) costs.put(task, task.getCost(workerGrouping));
+            }
+            viableCosts.add(costs);
+        }
+
+        int demand = unassignedTasks.size();
+        List<WorkerGrouping<T, W>> dominatedWorkerGroupings = new ArrayList<>();
+        for (int candidate = 0; candidate < workerGroupingList.size(); candidate++) {
+            int dominatorCount = 0;
+            for (int other = 0; other < workerGroupingList.size() && dominatorCount < demand; other++) {
+                if (other == candidate) continue;
+                int comparison = compareDominance(viableCosts.get(other), viableCosts.get(candidate));
+                if (comparison > 0 || (comparison == 0 && other < candidate)) dominatorCount++;
+            }
+            if (dominatorCount >= demand) dominatedWorkerGroupings.add(workerGroupingList.get(candidate));
+        }
+
+        for (WorkerGrouping<T, W> workerGrouping : dominatedWorkerGroupings) {
+            unassignedWorkerGroupings.remove(workerGrouping);
+            for (TaskRequest<T, W> taskRequest : unassignedTasks) {
+                taskRequest.removeWorkerGroupingOffer(workerGrouping);
+            }
+        }
+        return !dominatedWorkerGroupings.isEmpty();
+    }
+
+    /**
+     * <h4>@Initialization</h4>
+     * Returns 1 if the first grouping strictly dominates the second, 0 if their viable costs are identical, and -1 otherwise.
+     */
+    private int compareDominance(Map<TaskRequest<T, W>, Double> dominatorCosts, Map<TaskRequest<T, W>, Double> dominatedCosts) {
+        if (dominatorCosts.size() < dominatedCosts.size()) return -1;
+        boolean strictlyCheaper = dominatorCosts.size() > dominatedCosts.size();
+        for (Map.Entry<TaskRequest<T, W>, Double> entry : dominatedCosts.entrySet()) {
+            Double dominatorCost = dominatorCosts.get(entry.getKey());
+            if (dominatorCost == null || !(dominatorCost <= entry.getValue())) return -1;
+            strictlyCheaper = strictlyCheaper || dominatorCost < entry.getValue();
+        }
+        return strictlyCheaper ? 1 : 0;
+    }
+
     /**
      * Normalises the shape of the CostMatrix to ensure it is a square.
      */
@@ -206,14 +474,21 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
     private void assignUniqueWorkerGroupingBid(TaskRequest<T, W> task) {
         Map<WorkerGrouping<T, W>, TaskCost> workerMap = task.getWorkerGroupingMap();
         WorkerGrouping<T, W> uniquelyViableWorkerGrouping = workerMap.keySet().stream().findFirst().orElseThrow();
+        fixAssignment(task, uniquelyViableWorkerGrouping);
+    }
 
+    /**
+     * <h4>@Initialization</h4>
+     * Takes the pair out of the matrix, to be confirmed alongside every solution.
+     */
+    private void fixAssignment(TaskRequest<T, W> task, WorkerGrouping<T, W> workerGrouping) {
         unassignedTasks.remove(task);
-        unassignedWorkerGroupings.remove(uniquelyViableWorkerGrouping);
+        unassignedWorkerGroupings.remove(workerGrouping);
 
         for (TaskRequest<T, W> taskRequest : unassignedTasks) {
-            taskRequest.removeWorkerGroupingOffer(uniquelyViableWorkerGrouping);
+            taskRequest.removeWorkerGroupingOffer(workerGrouping);
         }
-        uniqueViableAssignments.put(task, uniquelyViableWorkerGrouping);
+        uniqueViableAssignments.put(task, workerGrouping);
     }
 
     /**
@@ -225,12 +500,18 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
      * </p>
      */
     public boolean applyAlgorithm() {
+        if (released)
+            throw new IllegalStateException("The matrices of this solver have been released." + this);
         boolean outcome = false;
 
         // MAIN BRANCH 1, OPTION A: There is at least one real task with multiple assignment options.
         if (viability == Viability.LIVE) {
+            // SUB BRANCH: Every solution, first or alternative, comes from the k-best enumeration.
+            if (configuration.getSearchStrategy() == SolverConfiguration.SearchStrategy.K_BEST) {
+                outcome = solveNextBestMatrix();
+            }
             // SUB BRANCH: First time applying the algorithm.
-            if (solvedMatrices == 0 && failedAssignmentBranches.isEmpty()) {
+            else if (solvedMatrices == 0 && failedAssignmentBranches.isEmpty()) {
                 outcome = solveCostMatrix();
             }
             // SUB BRANCH: The algorithm has previously been applied.
@@ -265,6 +546,15 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
      * <h4>@Solving</h4>
      */
     private boolean solveCostMatrix() {
+        return SolverInstrumentation.ENABLED && activeCostMatrix != null
+                ? SolverInstrumentation.timeSolve(activeCostMatrix, this::solveActiveCostMatrix)
+                : solveActiveCostMatrix();
+    }
+
+    /**
+     * <h4>@Solving</h4>
+     */
+    private boolean solveActiveCostMatrix() {
 
         if (activeCostMatrix == null) {
             if (this.viability == Viability.REAL_TASKS_ALLOCATED)
@@ -297,6 +587,31 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         return false;
     }
 
+    /**
+     * <h4>@Solving</h4>
+     * Takes the next cheapest distinct solution, skipping any that were registered as unviable.
+     */
+    private boolean solveNextBestMatrix() {
+        if (kBestEnumerator == null) {
+            kBestEnumerator = templateCostMatrix instanceof ComponentCostMatrix<T, W> componentCostMatrix
+                    ? new ComponentAssignmentEnumerator<>(componentCostMatrix)
+                    : new KBestAssignmentEnumerator<>(templateCostMatrix);
+        }
+        confirmedAssignmentSet.clear();
+        clearRetainedSolution();
+        while (true) {
+            // The enumerator releases the solution it returned last, skipped ones included, so it must not be read again.
+            this.activeCostMatrix = null;
+            CostMatrixInterface<T, W> nextBestMatrix = kBestEnumerator.next();
+            if (nextBestMatrix == null) {
+                this.viability = Viability.COMBINATORIAL_SEARCH_EXHAUSTED;
+                return false;
+            }
+            this.activeCostMatrix = nextBestMatrix;
+            if (!checkForUnviableAssignments()) return true;
+        }
+    }
+
     /**
      * <h4>@Iterating</h4>
      */
@@ -323,20 +638,28 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
                 // Then reset the active matrix.
                 resetActiveCostMatrix();
 
-                Set<Assignment<T, W>> nextCombination = this.activeCombinatorial.next();
+                Set<Assignment<T, W>> nextCombination = instrumentation.drawCombination(activeCombinatorial);
                 if (nextCombination.isEmpty()) {
                     continue;
                 }
-                Set<Assignment<T, W>> nextAssignmentsToOverride = new HashSet<>(nextCombination);
+                Set<Assignment<T, W>> nextAssignmentsToOverride = new LinkedHashSet<>(nextCombination);
                 nextAssignmentsToOverride.forEach(assignment -> activeCostMatrix.overrideAssignmentCost(assignment, Double.POSITIVE_INFINITY));
                 activeCostMatrix.computeMarginalTaskCosts();
                 // It also has to still be a viable matrix.
-                if (activeCostMatrix.checkRowsAndColumnsAreViable()) {
+                if (!activeCostMatrix.checkRowsAndColumnsAreViable()) {
+                    // Since the current override combination on its own made the matrix invalid, we can add it to the avoid list.
+                    this.activeCombinatorial.addAvoidSet(nextCombination);
+                    continue;
+                }
+                // And it must still admit a complete assignment.
+                HallViolation<T, W> candidateHallViolation = activeCostMatrix.findHallViolation();
+                if (candidateHallViolation == null) {
                     // Then we can solve this matrix.
                     getNextUnviableAssignmentCombination = false;
                 } else {
-                    // Since the current override combination on its own made the matrix invalid, we can add it to the avoid list.
-                    this.activeCombinatorial.addAvoidSet(nextCombination);
+                    // Only the overrides leaving the Hall set are to blame, so every combination containing them can be avoided.
+                    Set<Assignment<T, W>> blockingAssignments = candidateHallViolation.blockingAssignments(nextCombination);
+                    this.activeCombinatorial.addAvoidSet(blockingAssignments.isEmpty() ? nextCombination : blockingAssignments);
                 }
 
             }
@@ -401,8 +724,10 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         unassignedTasks.addAll(taskRequests);
         unassignedTasks.removeAll(uniqueViableAssignments.keySet());
 
-        addDoNothingTasks();
-        this.activeCostMatrix = this.templateCostMatrix.cloneMatrix();
+        // Only its assignments outlive the previous attempt, so its buffers are reused by the next clone.
+        if (activeCostMatrix != null) activeCostMatrix.release();
+        clearRetainedSolution();
+        this.activeCostMatrix = SolverInstrumentation.cloneOf(templateCostMatrix);
     }
 
     /**
@@ -410,8 +735,8 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
      * Returns false if it was unable to create a new combinatorial - this means we have exhausted this search space.
      */
     private boolean createCombinatorial() {
-        // ASSUMPTION: we have solved at least one matrix, and this is still the "active matrix".
-        if (activeCostMatrix == null) {
+        // ASSUMPTION: we have solved at least one matrix, and this is still the "active matrix", or its assignments were retained.
+        if (activeCostMatrix == null && retainedAssignments == null) {
             return false;
         }
 
@@ -423,7 +748,9 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         // Get the assignments, then set the matrix to null as we know it didn't lead to a viable branch.
         Set<Assignment<T, W>> mostRecentlySucceededAssignments = cacheAssignmentsFromActiveMatrix();
         if (mostRecentlySucceededAssignments == null) return false;
+        if (activeCostMatrix != null) activeCostMatrix.release();
         activeCostMatrix = null;
+        clearRetainedSolution();
 
 
         // Prepare a ranking for the remaining viable assignments, which creates a progressively less optimal outcome by excluding them in larger combinations.
@@ -467,14 +794,14 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         List<Set<Assignment<T, W>>> branchSets = new ArrayList<>(failedAssignmentBranches);
         for (Set<Assignment<T, W>> failedAssignmentBranch : branchSets) {
             failedAssignmentBranches.remove(failedAssignmentBranch);
-            Set<Assignment<T, W>> livePartsOfFailedBranch = new HashSet<>(failedAssignmentBranch);
+            Set<Assignment<T, W>> livePartsOfFailedBranch = new LinkedHashSet<>(failedAssignmentBranch);
             livePartsOfFailedBranch.removeAll(elementSet);
             if (!livePartsOfFailedBranch.isEmpty()) failedAssignmentBranches.add(livePartsOfFailedBranch);
         }
 
 
         // Check we haven't now made the base matrix unviable. Doing so means we need to backtrack further.
-        return templateCostMatrix.checkRowsAndColumnsAreViable();
+        return templateCostMatrix.checkRowsAndColumnsAreViable() && templateCostMatrix.findHallViolation() == null;
     }
 
     /**
@@ -482,8 +809,8 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
      * */
     @Nullable
     private Set<Assignment<T, W>> cacheAssignmentsFromActiveMatrix() {
-        Set<Assignment<T, W>> mostRecentlySucceededAssignments = activeCostMatrix.getAssignments();
-        if (mostRecentlySucceededAssignments.isEmpty()) return null;
+        Set<Assignment<T, W>> mostRecentlySucceededAssignments = activeCostMatrix != null ? activeCostMatrix.getAssignments() : retainedAssignments;
+        if (mostRecentlySucceededAssignments == null || mostRecentlySucceededAssignments.isEmpty()) return null;
         this.failedAssignmentBranches.add(mostRecentlySucceededAssignments);
         return mostRecentlySucceededAssignments;
     }
@@ -519,11 +846,14 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
 
 
     public Set<Assignment<T, W>> getAssignedTasks() {
-        return confirmedAssignmentSet.stream().filter(assignment -> !assignment.task().getClass().equals(DoNothingTask.class)).collect(Collectors.toUnmodifiableSet());
+        return confirmedAssignmentSet.stream().filter(assignment -> !assignment.task().getClass().equals(DoNothingTask.class)).collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new), Collections::unmodifiableSet));
     }
 
     public double getSumOfAssignmentCosts() {
-        return activeCostMatrix.getSumOfAssignments();
+        if (activeCostMatrix != null) return activeCostMatrix.getSumOfAssignments();
+        if (Double.isNaN(retainedSumOfAssignmentCosts))
+            throw new IllegalStateException("No solved matrix to sum." + this);
+        return retainedSumOfAssignmentCosts;
     }
 
     /**
@@ -535,12 +865,68 @@ public class CostMatrixSolver<T extends TaskSource<T, W>, W extends WorkerGroupi
         failedAssignmentBranches.add(unviableSet);
     }
 
+    /**
+     * <h4>@Cleanup</h4>
+     * Returns the buffers of every matrix the solver holds to the pool of the calling thread. The confirmed assignments and their cost stay readable, but no further solution can be requested.
+     */
+    public void release() {
+        if (released) return;
+        released = true;
+        retainSolution();
+        // With the k-best search the active matrix is one of the enumerator's solutions, released along with it.
+        if (kBestEnumerator != null) kBestEnumerator.release();
+        else if (activeCostMatrix != null) activeCostMatrix.release();
+        if (templateCostMatrix != null) templateCostMatrix.release();
+        kBestEnumerator = null;
+        activeCostMatrix = null;
+    }
+
+    /**
+     * <h4>@Cleanup</h4>
+     * Returns the buffers of the matrices the solver can rebuild: the last solved matrix, and the solutions the k-best search has queued but not returned.
+     * Only the template, the search state and the last assignments are kept, so further solutions can still be requested.
+     */
+    public void compact() {
+        if (released || activeCostMatrix == null) return;
+        retainSolution();
+        if (kBestEnumerator != null) kBestEnumerator.compact();
+        else activeCostMatrix.release();
+        activeCostMatrix = null;
+    }
+
+    private void retainSolution() {
+        if (activeCostMatrix == null) return;
+        retainedAssignments = new LinkedHashSet<>(activeCostMatrix.getAssignments());
+        retainedSumOfAssignmentCosts = activeCostMatrix.getSumOfAssignments();
+    }
+
+    private void clearRetainedSolution() {
+        retainedAssignments = null;
+        retainedSumOfAssignmentCosts = Double.NaN;
+    }
+
+    /**
+     * The work counters of this solver and its matrices. They stay at zero unless {@link SolverInstrumentation#ENABLED} was set at startup.
+     */
+    public SolverInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     public Viability getViability() {
         return viability;
     }
 
+    /**
+     * The tasks which, between them, had too few worker groupings for a complete assignment. Only set alongside {@link Viability#NO_COMPLETE_MATCHING}.
+     */
+    @Nullable
+    public HallViolation<T, W> getHallViolation() {
+        return hallViolation;
+    }
+
     public enum Viability {
         BASE_COSTS_CONTAINED_INFINITY_COLUMN,
+        NO_COMPLETE_MATCHING,
         COMBINATORIAL_SEARCH_EXHAUSTED,
         REAL_TASKS_ALLOCATED,
         UNKNOWN_ERROR,
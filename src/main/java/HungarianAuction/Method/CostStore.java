@@ -0,0 +1,55 @@
+package HungarianAuction.Method;
+
+import java.nio.file.Path;
+
+/**
+ * <ul>
+ * <li>
+ *      The base costs of {@link ShortestPathCostMatrix}, one double per cell, written once by the template and shared read-only by its clones.
+ * </li>
+ * <li>
+ *      Held on the heap by default, or outside it in a native or memory-mapped segment, so the largest batches add nothing to the collected heap.
+ * </li>
+ * <li>
+ *      Only the matrix which allocated the store closes it: a native segment is freed there and then, rather than whenever the collector gets to it.
+ * </li>
+ * </ul>
+ */
+abstract class CostStore {
+    private static final boolean FOREIGN_MEMORY_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.foreign").isPresent();
+
+    /**
+     * A plain array, borrowed from the pool of the calling thread.
+     * */
+    static CostStore onHeap(int cellCount) {
+        return new HeapCostStore(cellCount);
+    }
+
+    /**
+     * A native segment when the {@code jdk.incubator.foreign} module was added to the boot layer, otherwise the heap. An empty store always stays on the heap.
+     * */
+    static CostStore offHeap(int cellCount) {
+        return FOREIGN_MEMORY_AVAILABLE && cellCount > 0 ? OffHeapCostStore.allocate(cellCount) : onHeap(cellCount);
+    }
+
+    /**
+     * A segment mapped from a temporary file in the directory, which is deleted when the store is closed. Falls back to the heap as above.
+     * */
+    static CostStore memoryMapped(int cellCount, Path directory) {
+        return FOREIGN_MEMORY_AVAILABLE && cellCount > 0 ? OffHeapCostStore.map(cellCount, directory) : onHeap(cellCount);
+    }
+
+    abstract double get(int cell);
+
+    abstract void set(int cell, double cost);
+
+    /**
+     * Copies the run of cells starting at the first one into the start of the buffer.
+     * */
+    abstract void copyTo(int firstCell, double[] destination, int length);
+
+    /**
+     * Frees the storage. Later reads fail, so it is only called once no matrix reads the store again; a second call does nothing.
+     * */
+    abstract void close();
+}
@@ -0,0 +1,101 @@
+package HungarianAuction.Method;
+
+import java.util.Arrays;
+
+/**
+ * <ul>
+ * <li>
+ *      The full n^2 sweeps of {@link CostMatrix}, over its row-major cost array: normalisation, zero caching, the uncrossed minimum and the crossing shift.
+ * </li>
+ * <li>
+ *      Each sweep is built from primitives over a range of rows, so an implementation can split the rows into blocks or vectorise within a row.
+ * </li>
+ * <li>
+ *      Every row of a zero bitset starts on a fresh word, so two row ranges never write to the same word.
+ * </li>
+ * </ul>
+ */
+abstract class CostSweepKernel {
+    private static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * The single-threaded, element by element kernel.
+     * */
+    static CostSweepKernel scalar() {
+        return ScalarCostSweepKernel.INSTANCE;
+    }
+
+    /**
+     * The SIMD kernel when the {@code jdk.incubator.vector} module was added to the boot layer, otherwise the scalar kernel.
+     * */
+    static CostSweepKernel vectorised() {
+        return VECTOR_API_AVAILABLE ? VectorCostSweepKernel.create() : scalar();
+    }
+
+    /**
+     * Subtracts from every column its lowest value.
+     * */
+    void subtractColumnMinima(double[] costs, int size) {
+        double[] columnMinima = new double[size];
+        Arrays.fill(columnMinima, Double.MAX_VALUE);
+        columnMinima(costs, size, 0, size, columnMinima);
+        subtractFromColumns(costs, size, 0, size, columnMinima);
+    }
+
+    /**
+     * Subtracts from every row its lowest value.
+     * */
+    void subtractRowMinima(double[] costs, int size) {
+        subtractRowMinima(costs, size, 0, size);
+    }
+
+    /**
+     * Sets a bit for every zero cost. The bitset must be cleared beforehand.
+     * */
+    void markZeros(double[] costs, int size, long[] zeroLocations, int wordsPerRow) {
+        markZeros(costs, size, 0, size, zeroLocations, wordsPerRow);
+    }
+
+    /**
+     * The lowest value in a cell whose row and column are both uncrossed, or {@link Double#MAX_VALUE} if there is none lower.
+     * */
+    double lowestUncrossedValue(double[] costs, int size, boolean[] rowsCrossed, boolean[] columnsCrossed) {
+        return lowestUncrossedValue(costs, size, 0, size, rowsCrossed, columnsCrossed);
+    }
+
+    /**
+     * Subtracts the shift from uncrossed cells and adds it to doubly crossed cells, marking the zeros left behind.
+     * Returns whether any finite cell changed.
+     * */
+    boolean shiftByCrossings(double[] costs, int size, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow) {
+        return shiftByCrossings(costs, size, 0, size, rowsCrossed, columnsCrossed, shift, zeroLocations, wordsPerRow);
+    }
+
+    boolean anyNaN(double[] costs, int size) {
+        return anyNaN(costs, size, 0, size);
+    }
+
+    /**
+     * Lowers each entry of the minima to the lowest value of its column within the rows.
+     * */
+    abstract void columnMinima(double[] costs, int size, int fromRow, int toRow, double[] columnMinima);
+
+    abstract void subtractFromColumns(double[] costs, int size, int fromRow, int toRow, double[] columnMinima);
+
+    abstract void subtractRowMinima(double[] costs, int size, int fromRow, int toRow);
+
+    abstract void markZeros(double[] costs, int size, int fromRow, int toRow, long[] zeroLocations, int wordsPerRow);
+
+    abstract double lowestUncrossedValue(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed);
+
+    abstract boolean shiftByCrossings(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow);
+
+    abstract boolean anyNaN(double[] costs, int size, int fromRow, int toRow);
+
+    /**
+     * Shared by the kernels: sets the bit of one cell in a row-aligned bitset.
+     * */
+    static void setBit(long[] bitset, int wordsPerRow, int row, int column) {
+        bitset[row * wordsPerRow + (column >>> 6)] |= 1L << column;
+    }
+}
@@ -0,0 +1,455 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      The star, prime and cover steps of the Hungarian method, which only ever look at where the zero costs are.
+ * </li>
+ * <li>
+ *      Subclasses own the costs and their arithmetic: they mark the zero cells and run <b>Loop 1</b>.
+ * </li>
+ * </ul>
+ */
+abstract class CrossingCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends AbstractCostMatrix<T, W> {
+    public static final int NUMBER_OF_ARRAY_DIMENSIONS = 2;
+    public static final int NEGATIVE_SEARCH_RESULT = -1;
+
+    public static final int[] NEGATIVE_SEARCH_LOCATION = new int[]{NEGATIVE_SEARCH_RESULT, NEGATIVE_SEARCH_RESULT};
+    public static final int ROW_INDEX = 0;
+    public static final int COLUMN_INDEX = 1;
+    protected static final int BITS_PER_WORD = Long.SIZE;
+
+    protected final boolean[] rowsCrossed;
+    protected final boolean[] columnsCrossed;
+
+    /**
+     * One bit per column, set while the column is not crossed, so a row of zeros is masked a word at a time.
+     * */
+    private final long[] uncrossedColumns;
+
+    /**
+     * A bitset with one bit per cell. Each row starts on a fresh word, so a row scan never straddles two rows.
+     * */
+    protected final long[] zeroLocations;
+    private boolean zeroLocationsCached = false;
+
+    /**
+     * A row and a column hold at most one star, and a row at most one prime, so each is found by index.
+     * */
+    private final int[] starInRow;
+    private final int[] starInColumn;
+    private final int[] primeInRow;
+
+    /**
+     * Rows above the cursor hold no uncrossed zero. Uncrossing a column queues the rows above the cursor with a zero in it, instead of rewinding the cursor.
+     * */
+    private int zeroSearchRow = 0;
+    private final int[] queuedRows;
+    private final boolean[] rowQueued;
+    private int queuedRowCount = 0;
+
+    /**
+     * Scratch buffers sized on construction, so a solve allocates nothing once the matrix exists.
+     * <p>A walk alternates prime and star cells, each star in a distinct column, so it never holds more than {@code 2 * size} cells.</p>
+     * */
+    private final int[] singleZeroRowByColumn;
+    private final int[] walkRows;
+    private final int[] walkColumns;
+    private int walkLength = 0;
+    private int uncrossedZeroRow = NEGATIVE_SEARCH_RESULT;
+    private int uncrossedZeroColumn = NEGATIVE_SEARCH_RESULT;
+    private boolean released = false;
+
+    protected final int size;
+    protected final int wordsPerRow;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * */
+    protected CrossingCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks) {
+        super(List.copyOf(workerGroupings), List.copyOf(tasks));
+        if (workerGroupings.size() != tasks.size())
+            throw new IllegalArgumentException(workerGroupings.size() + " worker groupings must equal " + tasks.size() + " tasks.");
+
+        this.size = workerGroupings.size();
+        this.wordsPerRow = (size + BITS_PER_WORD - 1) / BITS_PER_WORD;
+
+        MatrixBufferPool bufferPool = MatrixBufferPool.local();
+        rowsCrossed = new boolean[size];
+        columnsCrossed = new boolean[size];
+        uncrossedColumns = new long[wordsPerRow];
+        zeroLocations = bufferPool.borrowLongs(size * wordsPerRow);
+        Arrays.fill(zeroLocations, 0L);
+        starInRow = bufferPool.borrowInts(size);
+        starInColumn = bufferPool.borrowInts(size);
+        primeInRow = bufferPool.borrowInts(size);
+        Arrays.fill(starInRow, NEGATIVE_SEARCH_RESULT);
+        Arrays.fill(starInColumn, NEGATIVE_SEARCH_RESULT);
+        Arrays.fill(primeInRow, NEGATIVE_SEARCH_RESULT);
+        queuedRows = new int[size];
+        rowQueued = new boolean[size];
+        singleZeroRowByColumn = new int[size];
+        walkRows = new int[size * 2];
+        walkColumns = new int[size * 2];
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    protected CrossingCostMatrix(CrossingCostMatrix<T, W> template) {
+        super(template);
+        this.size = template.size;
+        this.wordsPerRow = template.wordsPerRow;
+        MatrixBufferPool bufferPool = MatrixBufferPool.local();
+        this.zeroLocations = bufferPool.borrowLongs(template.zeroLocations.length);
+        Arrays.fill(zeroLocations, 0L);
+        this.starInRow = copyOf(template.starInRow, bufferPool);
+        this.starInColumn = copyOf(template.starInColumn, bufferPool);
+        this.primeInRow = copyOf(template.primeInRow, bufferPool);
+        this.rowsCrossed = template.rowsCrossed.clone();
+        this.columnsCrossed = template.columnsCrossed.clone();
+        this.uncrossedColumns = template.uncrossedColumns.clone();
+        this.queuedRows = new int[size];
+        this.rowQueued = new boolean[size];
+        this.singleZeroRowByColumn = new int[size];
+        this.walkRows = new int[size * 2];
+        this.walkColumns = new int[size * 2];
+    }
+
+    private static int[] copyOf(int[] source, MatrixBufferPool bufferPool) {
+        int[] copy = bufferPool.borrowInts(source.length);
+        System.arraycopy(source, 0, copy, 0, source.length);
+        return copy;
+    }
+
+    /**
+     * Part of <b>Loop 2</b>: sets the bit of every zero cost in the cleared {@link #zeroLocations}.
+     * */
+    protected abstract void markZeroCells();
+
+    /**
+     * Part of {@link #release()}: returns the subclass's cost buffer to the pool.
+     * */
+    protected abstract void releaseCosts(MatrixBufferPool bufferPool);
+
+    /**
+     * Hands the cost, zero, star and prime buffers back to the pool. A second call does nothing, so no buffer is ever pooled twice.
+     * */
+    @Override
+    public final void release() {
+        if (released) return;
+        released = true;
+        MatrixBufferPool bufferPool = MatrixBufferPool.local();
+        releaseCosts(bufferPool);
+        bufferPool.release(zeroLocations);
+        bufferPool.release(starInRow);
+        bufferPool.release(starInColumn);
+        bufferPool.release(primeInRow);
+    }
+
+    /**
+     * Called after a cost changes outside <b>Loop 1</b>, so the zeros are found again before the next crossing.
+     * */
+    protected void invalidateZeroLocations() {
+        zeroLocationsCached = false;
+    }
+
+    /**
+     * Part of <b>Loop 1</b>: the caller has marked the zeros itself while modifying the costs.
+     * */
+    protected void clearZeroLocationsForMarking() {
+        Arrays.fill(zeroLocations, 0L);
+        zeroLocationsCached = true;
+    }
+
+    private void uncrossAllRowsAndColumns() {
+        Arrays.fill(rowsCrossed, false);
+        Arrays.fill(columnsCrossed, false);
+        Arrays.fill(uncrossedColumns, -1L);
+        if (size % BITS_PER_WORD != 0) uncrossedColumns[wordsPerRow - 1] = (1L << size) - 1;
+    }
+
+    /**
+     * Part of <b>Loop 2</b>
+     * */
+    protected void cacheZeroLocations() {
+        Arrays.fill(zeroLocations, 0L);
+        markZeroCells();
+        zeroLocationsCached = true;
+    }
+
+    /**
+     * <b>Loop 2: </b> crossing out all the zero values.
+     * <p><b>True</b> means the matrix is solved.</p>
+     * <p><b>False</b> means the matrix needs to run Loop 1 to modify its values.</p>
+     * */
+    @Override
+    public boolean applyMinimumCrossings() {
+        if (SolverInstrumentation.ENABLED) getInstrumentation().recordCrossingRound();
+        if (!zeroLocationsCached) {
+            cacheZeroLocations();
+        }
+        uncrossAllRowsAndColumns();
+        starSingleZeroColumns();
+
+        if (countStarredValues() == size) {
+            confirmStarredAssignments();
+            return true;
+        }
+
+        boolean coveringAllZeros = true;
+        while (coveringAllZeros) {
+            crossStarredColumns();
+            resetZeroSearch();
+            boolean columnSwappingLoop = true;
+            while (columnSwappingLoop) {
+                if (!findUnCrossedZero()) {
+                    columnSwappingLoop = false;
+                    coveringAllZeros = false;
+                } else
+                    columnSwappingLoop = uncrossColumnAndCrossRowInstead(uncrossedZeroRow);
+            }
+            if (coveringAllZeros) {
+                findPrimeStarWalk(uncrossedZeroRow, uncrossedZeroColumn);
+                if (SolverInstrumentation.ENABLED) getInstrumentation().recordPrimeStarWalk(walkLength);
+                applyPrimeStarWalk();
+                uncrossAllRowsAndColumns();
+                unPrimeAllValues();
+            }
+        }
+        if (countStarredValues() == size) {
+            confirmStarredAssignments();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <h3>Part of <b>Loop 1</b>.</h3>
+     * <p style="padding: 4px">Limiting search space to the cached zero values provides a marginal performance gain.</p>
+     * <p style="padding: 4px">The original method can be found in previous versions.</p>
+     * */
+    private void starSingleZeroColumns() {
+        int multipleZeros = NEGATIVE_SEARCH_RESULT - 1;
+        Arrays.fill(singleZeroRowByColumn, NEGATIVE_SEARCH_RESULT);
+
+        for (int row = 0; row < size; row++) {
+            int rowStart = row * wordsPerRow;
+            for (int word = 0; word < wordsPerRow; word++) {
+                long bits = zeroLocations[rowStart + word];
+                while (bits != 0) {
+                    int columnIndex = word * BITS_PER_WORD + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (singleZeroRowByColumn[columnIndex] == NEGATIVE_SEARCH_RESULT) {
+                        singleZeroRowByColumn[columnIndex] = row;
+                    } else {
+                        singleZeroRowByColumn[columnIndex] = multipleZeros;
+                    }
+                }
+            }
+        }
+        for (int columnIndex = 0; columnIndex < size; columnIndex++) {
+            int rowIndex = singleZeroRowByColumn[columnIndex];
+            if (rowIndex < 0) continue;
+            if (checkForStarInRow(rowIndex) == NEGATIVE_SEARCH_RESULT) {
+                starInRow[rowIndex] = columnIndex;
+                starInColumn[columnIndex] = rowIndex;
+            }
+        }
+
+    }
+
+    /**
+     * Part of <b>Loop 1</b>.
+     * */
+    private int countStarredValues() {
+        int starCount = 0;
+        for (int row = 0; row < size; row++) {
+            if (starInRow[row] != NEGATIVE_SEARCH_RESULT) starCount++;
+        }
+        return starCount;
+    }
+
+    /**
+     * Last operation in <b>Loop 1</b>, after the matrix is solved.
+     * */
+    private void confirmStarredAssignments() {
+        for (int row = 0; row < size; row++) {
+            if (starInRow[row] != NEGATIVE_SEARCH_RESULT) confirmAssignment(row, starInRow[row]);
+        }
+    }
+
+    /**
+     * Part of the Intersection between <b>Loop 1</b> and <b>Loop 2</b>.
+     * */
+    private void crossStarredColumns() {
+        for (int column = 0; column < size; column++) {
+            if (starInColumn[column] == NEGATIVE_SEARCH_RESULT) continue;
+            columnsCrossed[column] = true;
+            uncrossedColumns[column / BITS_PER_WORD] &= ~(1L << column);
+        }
+    }
+
+    /**
+     * Part of the Intersection between <b>Loop 1</b> and <b>Loop 2</b>.
+     * */
+    private void resetZeroSearch() {
+        zeroSearchRow = 0;
+        while (queuedRowCount > 0) rowQueued[queuedRows[--queuedRowCount]] = false;
+    }
+
+    /**
+     * Part of the Intersection between <b>Loop 1</b> and <b>Loop 2</b>.
+     * <p>Rescans the rows queued by {@link #uncrossColumnAndCrossRowInstead(int)} first, then resumes the row scan at the cursor.</p>
+     * <p>Returns false if every zero is crossed. Otherwise the zero found is primed and held in {@link #uncrossedZeroRow} and {@link #uncrossedZeroColumn}.</p>
+     * */
+    private boolean findUnCrossedZero() {
+        while (queuedRowCount > 0) {
+            int workerRow = queuedRows[--queuedRowCount];
+            rowQueued[workerRow] = false;
+            if (rowsCrossed[workerRow]) continue;
+            int taskColumn = firstUncrossedZeroInRow(workerRow);
+            if (taskColumn != NEGATIVE_SEARCH_RESULT) {
+                return primeUncrossedZero(workerRow, taskColumn);
+            }
+        }
+        for (; zeroSearchRow < size; zeroSearchRow++) {
+            if (rowsCrossed[zeroSearchRow]) continue;
+            int taskColumn = firstUncrossedZeroInRow(zeroSearchRow);
+            if (taskColumn != NEGATIVE_SEARCH_RESULT) {
+                return primeUncrossedZero(zeroSearchRow, taskColumn);
+            }
+        }
+        return false;
+    }
+
+    private boolean primeUncrossedZero(int row, int column) {
+        primeInRow[row] = column;
+        uncrossedZeroRow = row;
+        uncrossedZeroColumn = column;
+        return true;
+    }
+
+    /**
+     * Masks the row's zeros with the uncrossed columns, a word at a time.
+     * */
+    private int firstUncrossedZeroInRow(int row) {
+        int rowStart = row * wordsPerRow;
+        for (int word = 0; word < wordsPerRow; word++) {
+            long bits = zeroLocations[rowStart + word] & uncrossedColumns[word];
+            if (bits != 0) return word * BITS_PER_WORD + Long.numberOfTrailingZeros(bits);
+        }
+        return NEGATIVE_SEARCH_RESULT;
+    }
+
+    /**
+     * <b>Loop 2.1</b>
+     * */
+    private boolean uncrossColumnAndCrossRowInstead(int row) {
+        int column = checkForStarInRow(row);
+        if (column != NEGATIVE_SEARCH_RESULT) {
+            columnsCrossed[column] = false;
+            uncrossedColumns[column / BITS_PER_WORD] |= 1L << column;
+            rowsCrossed[row] = true;
+            queueUncoveredZeros(column);
+            return true;
+        } else return false;
+    }
+
+    /**
+     * Part of <b>Loop 2.1</b>: the rows from the cursor on will still be scanned, so only the rows above it are checked for a zero in the uncrossed column.
+     * */
+    private void queueUncoveredZeros(int column) {
+        for (int row = 0; row < zeroSearchRow; row++) {
+            if (!rowsCrossed[row] && !rowQueued[row] && isBitSet(zeroLocations, row, column)) {
+                rowQueued[row] = true;
+                queuedRows[queuedRowCount++] = row;
+            }
+        }
+    }
+
+    /**
+     * <b>Loop 2.2</b>
+     * <p>Fills the walk buffers from the primed zero: even cells are primes, odd cells the stars between them.</p>
+     * */
+    private void findPrimeStarWalk(int primedRow, int primedColumn) {
+        walkLength = 0;
+        appendToWalk(primedRow, primedColumn);
+        int starredRow = findStarInColumn(primedColumn);
+        while (starredRow != NEGATIVE_SEARCH_RESULT) {
+            appendToWalk(starredRow, primedColumn);
+            primedColumn = findPrimeInRow(starredRow);
+            if (primedColumn == NEGATIVE_SEARCH_RESULT)
+                throw new IllegalStateException("Starred zero at row " + starredRow + " has no prime in its row." + this);
+            appendToWalk(starredRow, primedColumn);
+            starredRow = findStarInColumn(primedColumn);
+        }
+    }
+
+    private void appendToWalk(int row, int column) {
+        walkRows[walkLength] = row;
+        walkColumns[walkLength] = column;
+        walkLength++;
+    }
+
+    /**
+     * Last part of <b>Loop 2</b>: applies the walk from its last prime back to the first.
+     * */
+    private void applyPrimeStarWalk() {
+        for (int step = walkLength - 1; step >= 0; step--) {
+            int row = walkRows[step];
+            int column = walkColumns[step];
+            if (step % 2 == 0) {
+                // The prime's row may still point at the star walked through after it, which this replaces.
+                primeInRow[row] = NEGATIVE_SEARCH_RESULT;
+                starInRow[row] = column;
+                starInColumn[column] = row;
+            } else {
+                if (starInRow[row] == column) starInRow[row] = NEGATIVE_SEARCH_RESULT;
+                if (starInColumn[column] == row) starInColumn[column] = NEGATIVE_SEARCH_RESULT;
+            }
+        }
+    }
+
+    /**
+     * Clean up after <b>Loop 2</b>
+     * */
+    private void unPrimeAllValues() {
+        Arrays.fill(primeInRow, NEGATIVE_SEARCH_RESULT);
+    }
+
+    /**
+     * The intersection of <b>Loop 2.1</b> and <b>Loop 2.2</b>.
+     * */
+    private int checkForStarInRow(int row) {
+        return starInRow[row];
+    }
+
+    /**
+     * <b>Loop 2.2a</b>
+     * */
+    private int findStarInColumn(int column) {
+        return starInColumn[column];
+    }
+
+    /**
+     * <b>Loop 2.2b</b>
+     * */
+    private int findPrimeInRow(int row) {
+        return primeInRow[row];
+    }
+
+    protected boolean isBitSet(long[] bitset, int row, int column) {
+        return (bitset[row * wordsPerRow + column / BITS_PER_WORD] & (1L << column)) != 0;
+    }
+
+    protected void setBit(long[] bitset, int row, int column) {
+        bitset[row * wordsPerRow + column / BITS_PER_WORD] |= 1L << column;
+    }
+}
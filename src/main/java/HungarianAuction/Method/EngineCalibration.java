@@ -0,0 +1,193 @@
+package HungarianAuction.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * <ul>
+ * <li>
+ *      The fastest engine measured for each batch shape of a calibration grid: task count, worker groupings per task, and the share of finite cells.
+ * </li>
+ * <li>
+ *      A batch is matched to the nearest grid point on each axis independently, task count and ratio on a log scale, so the thresholds between engines fall halfway between calibrated points.
+ * </li>
+ * <li>
+ *      Persisted as a properties file. The local calibration is read once per JVM from {@value #LOCAL_CALIBRATION_PROPERTY}, or from {@code ~/.hungarian-auction/engine-calibration.properties}.
+ * </li>
+ * <li>
+ *      Opt-in: a configuration uses it when given {@link #local()} explicitly, or by default only when {@value #LOCAL_CALIBRATION_PROPERTY} names a file, so the same input gets the same engine on every machine unless asked otherwise.
+ * </li>
+ * </ul>
+ */
+public final class EngineCalibration {
+    public static final String LOCAL_CALIBRATION_PROPERTY = "HungarianAuction.engineCalibration";
+    private static final String DISABLED = "none";
+    private static final Logger logger = LoggerFactory.getLogger(EngineCalibration.class);
+
+    private final int[] taskCounts;
+    private final double[] workerTaskRatios;
+    private final double[] finiteDensities;
+    private final double[] logTaskCounts;
+    private final double[] logWorkerTaskRatios;
+
+    /**
+     * Indexed [task count][ratio][density].
+     * */
+    private final CostMatrixEngine[][][] fastestEngines;
+
+    public EngineCalibration(int[] taskCounts, double[] workerTaskRatios, double[] finiteDensities, CostMatrixEngine[][][] fastestEngines) {
+        this.taskCounts = requireAscending(taskCounts.clone(), "task counts");
+        this.workerTaskRatios = requireAscending(workerTaskRatios.clone(), "worker/task ratios");
+        this.finiteDensities = requireAscending(finiteDensities.clone(), "finite densities");
+        this.logTaskCounts = Arrays.stream(this.taskCounts).mapToDouble(Math::log).toArray();
+        this.logWorkerTaskRatios = Arrays.stream(this.workerTaskRatios).map(Math::log).toArray();
+        if (fastestEngines.length != taskCounts.length)
+            throw new IllegalArgumentException(fastestEngines.length + " engine rows do not match " + taskCounts.length + " task counts.");
+        this.fastestEngines = new CostMatrixEngine[taskCounts.length][workerTaskRatios.length][finiteDensities.length];
+        for (int task = 0; task < taskCounts.length; task++) {
+            for (int ratio = 0; ratio < workerTaskRatios.length; ratio++) {
+                for (int density = 0; density < finiteDensities.length; density++) {
+                    CostMatrixEngine engine = fastestEngines[task][ratio][density];
+                    if (engine == null)
+                        throw new IllegalArgumentException("No engine calibrated for " + taskCounts[task] + " tasks, ratio " + workerTaskRatios[ratio] + ", density " + finiteDensities[density] + ".");
+                    this.fastestEngines[task][ratio][density] = engine;
+                }
+            }
+        }
+    }
+
+    private static int[] requireAscending(int[] values, String axis) {
+        requireAscending(Arrays.stream(values).asDoubleStream().toArray(), axis);
+        return values;
+    }
+
+    private static double[] requireAscending(double[] values, String axis) {
+        if (values.length == 0) throw new IllegalArgumentException("No calibrated " + axis + ".");
+        for (int i = 0; i < values.length; i++) {
+            if (!(values[i] > 0) || i > 0 && values[i] <= values[i - 1])
+                throw new IllegalArgumentException("Calibrated " + axis + " must be positive and ascending: " + Arrays.toString(values));
+        }
+        return values;
+    }
+
+    /**
+     * The engine calibrated fastest for the grid point nearest the batch.
+     * */
+    public CostMatrixEngine selectEngine(int taskCount, int workerGroupingCount, double finiteDensity) {
+        double workerTaskRatio = (double) workerGroupingCount / Math.max(1, taskCount);
+        int task = nearest(logTaskCounts, Math.log(Math.max(1, taskCount)));
+        int ratio = nearest(logWorkerTaskRatios, Math.log(Math.max(1, workerTaskRatio)));
+        int density = nearest(finiteDensities, finiteDensity);
+        return fastestEngines[task][ratio][density];
+    }
+
+    private static int nearest(double[] points, double value) {
+        int nearest = 0;
+        for (int i = 1; i < points.length; i++) {
+            if (Math.abs(points[i] - value) < Math.abs(points[nearest] - value)) nearest = i;
+        }
+        return nearest;
+    }
+
+    public void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("taskCounts", Arrays.stream(taskCounts).mapToObj(String::valueOf).collect(Collectors.joining(",")));
+        properties.setProperty("workerTaskRatios", Arrays.stream(workerTaskRatios).mapToObj(String::valueOf).collect(Collectors.joining(",")));
+        properties.setProperty("finiteDensities", Arrays.stream(finiteDensities).mapToObj(String::valueOf).collect(Collectors.joining(",")));
+        for (int task = 0; task < taskCounts.length; task++) {
+            for (int ratio = 0; ratio < workerTaskRatios.length; ratio++) {
+                for (int density = 0; density < finiteDensities.length; density++) {
+                    properties.setProperty(engineKey(task, ratio, density), fastestEngines[task][ratio][density].name());
+                }
+            }
+        }
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "Fastest engine per batch shape, as engine.<task count>.<ratio>.<density> grid indices.");
+        }
+    }
+
+    public static EngineCalibration load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        int[] taskCounts = Arrays.stream(requiredProperty(properties, "taskCounts").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        double[] workerTaskRatios = Arrays.stream(requiredProperty(properties, "workerTaskRatios").split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+        double[] finiteDensities = Arrays.stream(requiredProperty(properties, "finiteDensities").split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+        CostMatrixEngine[][][] fastestEngines = new CostMatrixEngine[taskCounts.length][workerTaskRatios.length][finiteDensities.length];
+        for (int task = 0; task < taskCounts.length; task++) {
+            for (int ratio = 0; ratio < workerTaskRatios.length; ratio++) {
+                for (int density = 0; density < finiteDensities.length; density++) {
+                    fastestEngines[task][ratio][density] = CostMatrixEngine.valueOf(requiredProperty(properties, engineKey(task, ratio, density)).trim());
+                }
+            }
+        }
+        return new EngineCalibration(taskCounts, workerTaskRatios, finiteDensities, fastestEngines);
+    }
+
+    private static String requiredProperty(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) throw new IllegalArgumentException("Engine calibration is missing " + key + ".");
+        return value;
+    }
+
+    private static String engineKey(int task, int ratio, int density) {
+        return "engine." + task + "." + ratio + "." + density;
+    }
+
+    /**
+     * Where the local calibration is read from and written to: the {@value #LOCAL_CALIBRATION_PROPERTY} system property, if set, or a file in the user's home.
+     * */
+    public static Path localPath() {
+        String configuredPath = System.getProperty(LOCAL_CALIBRATION_PROPERTY);
+        if (configuredPath != null && !configuredPath.isBlank() && !configuredPath.equals(DISABLED)) return Path.of(configuredPath);
+        return Path.of(System.getProperty("user.home"), ".hungarian-auction", "engine-calibration.properties");
+    }
+
+    /**
+     * The calibration of this machine, or null if there is none, it cannot be read, or the property is {@value #DISABLED}.
+     * */
+    public static EngineCalibration local() {
+        return LocalCalibration.CALIBRATION;
+    }
+
+    /**
+     * The calibration configurations use when none is chosen: the local one if {@value #LOCAL_CALIBRATION_PROPERTY} names a file, otherwise null.
+     * */
+    public static EngineCalibration configured() {
+        String configuredPath = System.getProperty(LOCAL_CALIBRATION_PROPERTY);
+        if (configuredPath == null || configuredPath.isBlank() || configuredPath.equals(DISABLED)) return null;
+        return local();
+    }
+
+    /**
+     * Holder, so the file is read on first use rather than when the class loads.
+     * */
+    private static final class LocalCalibration {
+        private static final EngineCalibration CALIBRATION = loadLocal();
+
+        private static EngineCalibration loadLocal() {
+            if (DISABLED.equals(System.getProperty(LOCAL_CALIBRATION_PROPERTY))) return null;
+            Path file = localPath();
+            if (!Files.isRegularFile(file)) return null;
+            try {
+                EngineCalibration calibration = load(file);
+                logger.info("Loaded engine calibration from {}", file);
+                return calibration;
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("Ignoring unreadable engine calibration {}: {}", file, e.getMessage());
+                return null;
+            }
+        }
+    }
+}
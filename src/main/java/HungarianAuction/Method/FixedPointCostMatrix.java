@@ -0,0 +1,224 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      The Hungarian method of {@link CostMatrix}, run entirely in {@code long} arithmetic: each cost is scaled by a fixed factor and rounded once, on entry.
+ * </li>
+ * <li>
+ *      Zeros are exact, so no cell is left a rounding error away from zero after repeated <b>Loop 1</b> passes.
+ * </li>
+ * <li>
+ *      +Infinity is held as a sentinel which no arithmetic touches. Costs closer together than one scaled unit are treated as equal.
+ * </li>
+ * </ul>
+ */
+public class FixedPointCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends CrossingCostMatrix<T, W> {
+    private static final long INFINITE_COST = Long.MAX_VALUE;
+
+    /**
+     * Scaled costs are kept within the exactly representable doubles, leaving headroom for the sums formed in <b>Loop 1</b>.
+     * */
+    private static final long LARGEST_SCALED_COST = 1L << 53;
+
+    /**
+     * Row-major, one row per worker: the cell for worker w and task t is {@code w * size + t}.
+     * */
+    private final long[] costsWorkerTask;
+    private final double scale;
+    private boolean containsNaN = false;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * */
+    public FixedPointCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks, double scale) {
+        super(workerGroupings, tasks);
+        if (!(scale > 0) || Double.isInfinite(scale))
+            throw new IllegalArgumentException("Fixed point scale must be positive and finite: " + scale);
+        this.scale = scale;
+        this.costsWorkerTask = MatrixBufferPool.local().borrowLongs(size * size);
+        for (int worker = 0; worker < size; worker++) {
+            WorkerGrouping<T, W> workerGrouping = this.workers.get(worker);
+            for (int task = 0; task < size; task++) {
+                costsWorkerTask[worker * size + task] = toFixedPoint(this.tasks.get(task).getCost(workerGrouping)); // INITIALIZATION
+            }
+        }
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    private FixedPointCostMatrix(FixedPointCostMatrix<T, W> template) {
+        super(template);
+        this.scale = template.scale;
+        this.containsNaN = template.containsNaN;
+        this.costsWorkerTask = MatrixBufferPool.local().borrowLongs(template.costsWorkerTask.length);
+        System.arraycopy(template.costsWorkerTask, 0, costsWorkerTask, 0, costsWorkerTask.length);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>NaN has no fixed point value: it is recorded for {@link #anyNaN()} and held as +Infinity.</p>
+     * */
+    private long toFixedPoint(double cost) {
+        if (Double.isNaN(cost)) {
+            containsNaN = true;
+            return INFINITE_COST;
+        }
+        if (cost == Double.POSITIVE_INFINITY) return INFINITE_COST;
+        double scaledCost = Math.rint(cost * scale);
+        if (Math.abs(scaledCost) > LARGEST_SCALED_COST)
+            throw new IllegalArgumentException("Cost " + cost + " overflows the fixed point range at scale " + scale);
+        return (long) scaledCost;
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices.
+     * */
+    @Override
+    public boolean checkRowsAndColumnsAreViable() {
+        int[] viableDimensions = new int[size * 2];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (costsWorkerTask[row * size + column] == INFINITE_COST) {
+                    if (++viableDimensions[row] == size) return false;
+                    if (++viableDimensions[size + column] == size) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Outcome retrieval, converted back from the fixed point scale.
+     * */
+    @Override
+    public double getAssignmentCost(Assignment<T, W> assignment) {
+        int workerIndex = workerIndexOf(assignment);
+        int taskIndex = taskIndexOf(assignment);
+        if (workerIndex < 0 || taskIndex < 0) return -1D;
+        long cost = costsWorkerTask[workerIndex * size + taskIndex];
+        return cost == INFINITE_COST ? Double.POSITIVE_INFINITY : cost / scale;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public CostMatrixInterface<T, W> cloneMatrix() {
+        return new FixedPointCostMatrix<>(this);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process: subtracts the lowest finite value from each task column, then from each worker row.
+     * */
+    @Override
+    public void computeMarginalTaskCosts() {
+        long[] columnMinima = new long[size];
+        Arrays.fill(columnMinima, INFINITE_COST);
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                columnMinima[column] = Math.min(columnMinima[column], costsWorkerTask[row * size + column]);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                int cell = row * size + column;
+                if (costsWorkerTask[cell] != INFINITE_COST) costsWorkerTask[cell] -= columnMinima[column]; // MODIFICATION
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            long lowestValue = INFINITE_COST;
+            for (int column = 0; column < size; column++) {
+                lowestValue = Math.min(lowestValue, costsWorkerTask[row * size + column]);
+            }
+            if (lowestValue == INFINITE_COST) continue;
+            for (int column = 0; column < size; column++) {
+                int cell = row * size + column;
+                if (costsWorkerTask[cell] != INFINITE_COST) costsWorkerTask[cell] -= lowestValue; // MODIFICATION
+            }
+        }
+        cacheZeroLocations();
+    }
+
+    /**
+     * Part of <b>Loop 2</b>
+     * */
+    @Override
+    protected void markZeroCells() {
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                if (costsWorkerTask[row * size + column] == 0) setBit(zeroLocations, row, column);
+            }
+        }
+    }
+
+    /**
+     * <b>Loop 1</b>: modifying the costs towards a global optimum.
+     * */
+    @Override
+    public boolean modifyCostsByLowestUncrossedValue() {
+        if (SolverInstrumentation.ENABLED) getInstrumentation().recordCostModification();
+        clearZeroLocationsForMarking();
+        long lowestUncrossedValue = INFINITE_COST;
+        for (int row = 0; row < size; row++) {
+            if (rowsCrossed[row]) continue;
+            for (int column = 0; column < size; column++) {
+                if (!columnsCrossed[column])
+                    lowestUncrossedValue = Math.min(lowestUncrossedValue, costsWorkerTask[row * size + column]);
+            }
+        }
+        if (lowestUncrossedValue == INFINITE_COST) return false;
+
+        boolean anyFiniteValuesUncrossed = false;
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                int cell = row * size + column;
+                if (costsWorkerTask[cell] == INFINITE_COST)
+                    continue;
+                int crossingsCoefficient = -1;
+                if (rowsCrossed[row]) crossingsCoefficient += 1;
+                if (columnsCrossed[column]) crossingsCoefficient += 1;
+                anyFiniteValuesUncrossed = anyFiniteValuesUncrossed || crossingsCoefficient != 0;
+                long modifiedValue = costsWorkerTask[cell] + crossingsCoefficient * lowestUncrossedValue;
+                costsWorkerTask[cell] = modifiedValue; // MODIFICATION
+                if (modifiedValue == 0) setBit(zeroLocations, row, column);
+            }
+        }
+        return anyFiniteValuesUncrossed;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost) {
+        invalidateZeroLocations();
+        int taskIndex = taskIndexOf(invalidAssignment);
+        int workerIndex = workerIndexOf(invalidAssignment);
+        if (taskIndex < 0 || workerIndex < 0)
+            return;
+        costsWorkerTask[workerIndex * size + taskIndex] = toFixedPoint(cost); // MODIFICATION
+    }
+
+    @Override
+    protected boolean isFiniteCell(int workerIndex, int taskIndex) {
+        return costsWorkerTask[workerIndex * size + taskIndex] != INFINITE_COST;
+    }
+
+    @Override
+    public boolean anyNaN() {
+        return containsNaN;
+    }
+
+    @Override
+    protected void releaseCosts(MatrixBufferPool bufferPool) {
+        bufferPool.release(costsWorkerTask);
+    }
+}
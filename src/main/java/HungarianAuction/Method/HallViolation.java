@@ -0,0 +1,34 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A set of tasks whose finite costs reach fewer worker groupings than there are tasks, so no complete assignment exists.
+ * <p>The worker groupings are the whole neighbourhood of the tasks.</p>
+ */
+public record HallViolation<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>>(Set<TaskRequest<T, W>> tasks, Set<WorkerGrouping<T, W>> workerGroupings) {
+
+    public HallViolation {
+        tasks = Collections.unmodifiableSet(new LinkedHashSet<>(tasks));
+        workerGroupings = Collections.unmodifiableSet(new LinkedHashSet<>(workerGroupings));
+    }
+
+    /**
+     * The removed assignments which join these tasks to a worker grouping outside their neighbourhood.
+     * Removing those alone leaves the same violation, so any superset of them is just as unsolvable.
+     */
+    public Set<Assignment<T, W>> blockingAssignments(Set<Assignment<T, W>> removedAssignments) {
+        Set<Assignment<T, W>> blockingAssignments = new LinkedHashSet<>();
+        for (Assignment<T, W> removedAssignment : removedAssignments) {
+            if (tasks.contains(removedAssignment.task()) && !workerGroupings.contains(removedAssignment.workerGrouping()))
+                blockingAssignments.add(removedAssignment);
+        }
+        return blockingAssignments;
+    }
+}
@@ -0,0 +1,35 @@
+package HungarianAuction.Method;
+
+/**
+ * The {@link CostStore} of a plain array, handed back to the {@link MatrixBufferPool} on close.
+ */
+final class HeapCostStore extends CostStore {
+    private final double[] costs;
+    private boolean closed = false;
+
+    HeapCostStore(int cellCount) {
+        this.costs = MatrixBufferPool.local().borrowDoubles(cellCount);
+    }
+
+    @Override
+    double get(int cell) {
+        return costs[cell];
+    }
+
+    @Override
+    void set(int cell, double cost) {
+        costs[cell] = cost;
+    }
+
+    @Override
+    void copyTo(int firstCell, double[] destination, int length) {
+        System.arraycopy(costs, firstCell, destination, 0, length);
+    }
+
+    @Override
+    void close() {
+        if (closed) return;
+        closed = true;
+        MatrixBufferPool.local().release(costs);
+    }
+}
@@ -0,0 +1,266 @@
+package HungarianAuction.Method;
+
+import java.util.Arrays;
+
+/**
+ * <ul>
+ * <li>
+ *      Maximum cardinality matching of tasks to worker groupings over the finite cells only, in O(E sqrt(V)).
+ * </li>
+ * <li>
+ *      Costs play no part: the matcher only answers whether a complete assignment exists, ahead of the far more expensive solve.
+ * </li>
+ * <li>
+ *      When some task is left unmatched, the tasks reachable from the unmatched ones by alternating paths form a Hall violator.
+ * </li>
+ * <li>
+ *      When every task is matched, the edges lying in every complete matching are found in O(E) from the strongly connected components of the alternating graph.
+ * </li>
+ * </ul>
+ */
+final class HopcroftKarpMatcher {
+    static final int UNMATCHED = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final int[][] workersByTask;
+    private final int taskCount;
+    private final int[] workerForTask;
+    private final int[] taskForWorker;
+    private final int[] distance;
+    private final int matchingSize;
+
+    /**
+     * @param workersByTask the worker indices of the finite cells, one array per task
+     * */
+    HopcroftKarpMatcher(int[][] workersByTask, int workerCount) {
+        this.workersByTask = workersByTask;
+        this.taskCount = workersByTask.length;
+        this.workerForTask = new int[taskCount];
+        this.taskForWorker = new int[workerCount];
+        this.distance = new int[taskCount];
+        Arrays.fill(workerForTask, UNMATCHED);
+        Arrays.fill(taskForWorker, UNMATCHED);
+        this.matchingSize = maximumMatching();
+    }
+
+    boolean isComplete() {
+        return matchingSize == taskCount;
+    }
+
+    /**
+     * Marks the tasks reachable by alternating paths from the unmatched tasks, and the worker groupings they reach.
+     * <p>By Konig's theorem the marked worker groupings are all matched, to marked tasks, so they number fewer than the marked tasks.</p>
+     * @return false if the matching is complete, and nothing is marked
+     * */
+    boolean markHallViolator(boolean[] violatingTasks, boolean[] neighbouringWorkers) {
+        if (isComplete()) return false;
+        int[] queue = new int[taskCount];
+        int tail = 0;
+        for (int task = 0; task < taskCount; task++) {
+            if (workerForTask[task] != UNMATCHED) continue;
+            violatingTasks[task] = true;
+            queue[tail++] = task;
+        }
+        for (int head = 0; head < tail; head++) {
+            for (int worker : workersByTask[queue[head]]) {
+                if (neighbouringWorkers[worker]) continue;
+                neighbouringWorkers[worker] = true;
+                int matchedTask = taskForWorker[worker];
+                if (!violatingTasks[matchedTask]) {
+                    violatingTasks[matchedTask] = true;
+                    queue[tail++] = matchedTask;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * For each task, its matched worker grouping if that edge lies in every complete matching, otherwise {@link #UNMATCHED}.
+     * <p>A task can give up its worker grouping only by an alternating path to an unmatched worker grouping, or by an alternating cycle back to itself.
+     * Both are read from the graph which leads each task to the tasks holding its other worker groupings.</p>
+     * */
+    int[] forcedWorkerForTask() {
+        int[] forcedWorkers = new int[taskCount];
+        Arrays.fill(forcedWorkers, UNMATCHED);
+        if (!isComplete()) return forcedWorkers;
+
+        int[][] successors = new int[taskCount][];
+        int[] predecessorCount = new int[taskCount];
+        boolean[] reachesFreeWorker = new boolean[taskCount];
+        int[] queue = new int[taskCount];
+        int tail = 0;
+        for (int task = 0; task < taskCount; task++) {
+            int[] workers = workersByTask[task];
+            int[] taskSuccessors = new int[workers.length];
+            int successorCount = 0;
+            for (int worker : workers) {
+                if (worker == workerForTask[task]) continue;
+                int holdingTask = taskForWorker[worker];
+                if (holdingTask == UNMATCHED) {
+                    if (!reachesFreeWorker[task]) queue[tail++] = task;
+                    reachesFreeWorker[task] = true;
+                } else {
+                    taskSuccessors[successorCount++] = holdingTask;
+                    predecessorCount[holdingTask]++;
+                }
+            }
+            successors[task] = Arrays.copyOf(taskSuccessors, successorCount);
+        }
+
+        // Walk the edges backwards from the tasks next to an unmatched worker grouping.
+        int[][] predecessors = new int[taskCount][];
+        for (int task = 0; task < taskCount; task++) {
+            predecessors[task] = new int[predecessorCount[task]];
+            predecessorCount[task] = 0;
+        }
+        for (int task = 0; task < taskCount; task++) {
+            for (int successor : successors[task]) predecessors[successor][predecessorCount[successor]++] = task;
+        }
+        for (int head = 0; head < tail; head++) {
+            for (int predecessor : predecessors[queue[head]]) {
+                if (reachesFreeWorker[predecessor]) continue;
+                reachesFreeWorker[predecessor] = true;
+                queue[tail++] = predecessor;
+            }
+        }
+
+        int[] componentSizes = stronglyConnectedComponentSizes(successors);
+        for (int task = 0; task < taskCount; task++) {
+            if (!reachesFreeWorker[task] && componentSizes[task] == 1) forcedWorkers[task] = workerForTask[task];
+        }
+        return forcedWorkers;
+    }
+
+    /**
+     * Tarjan's algorithm, held on explicit stacks. Returns the size of the component holding each node.
+     * */
+    private static int[] stronglyConnectedComponentSizes(int[][] successors) {
+        int nodeCount = successors.length;
+        int[] order = new int[nodeCount];
+        int[] lowLink = new int[nodeCount];
+        int[] edgeCursor = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        int[] componentStack = new int[nodeCount];
+        int[] callStack = new int[nodeCount];
+        int[] componentSizes = new int[nodeCount];
+        Arrays.fill(order, UNREACHED);
+        int counter = 0;
+        int componentDepth = 0;
+        for (int root = 0; root < nodeCount; root++) {
+            if (order[root] != UNREACHED) continue;
+            int callDepth = 0;
+            callStack[callDepth++] = root;
+            order[root] = lowLink[root] = counter++;
+            componentStack[componentDepth++] = root;
+            onStack[root] = true;
+            while (callDepth > 0) {
+                int node = callStack[callDepth - 1];
+                if (edgeCursor[node] < successors[node].length) {
+                    int successor = successors[node][edgeCursor[node]++];
+                    if (order[successor] == UNREACHED) {
+                        order[successor] = lowLink[successor] = counter++;
+                        componentStack[componentDepth++] = successor;
+                        onStack[successor] = true;
+                        callStack[callDepth++] = successor;
+                    } else if (onStack[successor]) {
+                        lowLink[node] = Math.min(lowLink[node], order[successor]);
+                    }
+                    continue;
+                }
+                callDepth--;
+                if (callDepth > 0) {
+                    int parent = callStack[callDepth - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] != order[node]) continue;
+                int componentStart = componentDepth;
+                do {
+                    componentStart--;
+                    onStack[componentStack[componentStart]] = false;
+                } while (componentStack[componentStart] != node);
+                for (int member = componentStart; member < componentDepth; member++) {
+                    componentSizes[componentStack[member]] = componentDepth - componentStart;
+                }
+                componentDepth = componentStart;
+            }
+        }
+        return componentSizes;
+    }
+
+    private int maximumMatching() {
+        int size = 0;
+        int[] edgeCursor = new int[taskCount];
+        int[] stack = new int[taskCount];
+        while (layerFromFreeTasks()) {
+            Arrays.fill(edgeCursor, 0);
+            for (int task = 0; task < taskCount; task++) {
+                if (workerForTask[task] == UNMATCHED && augmentFrom(task, edgeCursor, stack)) size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Breadth first search from every unmatched task, layering the matched tasks by alternating path length.
+     * @return whether any unmatched worker grouping was reached
+     * */
+    private boolean layerFromFreeTasks() {
+        int[] queue = new int[taskCount];
+        int tail = 0;
+        for (int task = 0; task < taskCount; task++) {
+            if (workerForTask[task] == UNMATCHED) {
+                distance[task] = 0;
+                queue[tail++] = task;
+            } else {
+                distance[task] = UNREACHED;
+            }
+        }
+        boolean reachedFreeWorker = false;
+        for (int head = 0; head < tail; head++) {
+            int task = queue[head];
+            for (int worker : workersByTask[task]) {
+                int matchedTask = taskForWorker[worker];
+                if (matchedTask == UNMATCHED) {
+                    reachedFreeWorker = true;
+                } else if (distance[matchedTask] == UNREACHED) {
+                    distance[matchedTask] = distance[task] + 1;
+                    queue[tail++] = matchedTask;
+                }
+            }
+        }
+        return reachedFreeWorker;
+    }
+
+    /**
+     * Depth first search along the layers, held on an explicit stack so long paths cannot overflow the call stack.
+     * Each task's cursor sits one past the edge taken to the task above it.
+     * */
+    private boolean augmentFrom(int freeTask, int[] edgeCursor, int[] stack) {
+        int depth = 0;
+        stack[depth++] = freeTask;
+        while (depth > 0) {
+            int task = stack[depth - 1];
+            int[] workers = workersByTask[task];
+            if (edgeCursor[task] == workers.length) {
+                // Dead end: no later search in this phase need come here again.
+                distance[task] = UNREACHED;
+                depth--;
+                continue;
+            }
+            int worker = workers[edgeCursor[task]++];
+            int matchedTask = taskForWorker[worker];
+            if (matchedTask == UNMATCHED) {
+                for (int level = depth - 1; level >= 0; level--) {
+                    int pathTask = stack[level];
+                    int pathWorker = workersByTask[pathTask][edgeCursor[pathTask] - 1];
+                    workerForTask[pathTask] = pathWorker;
+                    taskForWorker[pathWorker] = pathTask;
+                }
+                return true;
+            }
+            if (distance[matchedTask] == distance[task] + 1) stack[depth++] = matchedTask;
+        }
+        return false;
+    }
+}
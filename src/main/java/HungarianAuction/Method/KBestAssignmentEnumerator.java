@@ -0,0 +1,181 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      Yields the solved matrices of a template in strictly non-decreasing cost order, each with a distinct set of real assignments: Murty's partitioning.
+ * </li>
+ * <li>
+ *      Every returned solution splits its subproblem into one child per free assignment: the child forces the assignments before it and excludes it.
+ * </li>
+ * <li>
+ *      Children are queued at their parent's cost and only solved when they reach the head of the queue, so most of them are never solved at all.
+ * </li>
+ * <li>
+ *      Padding assignments are never branched on, since DoNothingTasks are interchangeable and would only repeat the same real assignment set.
+ * </li>
+ * </ul>
+ */
+class KBestAssignmentEnumerator<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> implements AssignmentEnumerator<T, W> {
+
+    private final CostMatrixInterface<T, W> templateCostMatrix;
+    private final PriorityQueue<Subproblem<T, W>> subproblemQueue = new PriorityQueue<>();
+    private long subproblemCounter = 0;
+    private Subproblem<T, W> lastSolution = null;
+    private final boolean releasesReturnedSolutions;
+
+    KBestAssignmentEnumerator(CostMatrixInterface<T, W> templateCostMatrix) {
+        this(templateCostMatrix, true);
+    }
+
+    /**
+     * A solution returned by {@link #next()} is released by the next call, unless releasesReturnedSolutions is false: then the caller keeps every solution it was given and releases them itself.
+     * */
+    KBestAssignmentEnumerator(CostMatrixInterface<T, W> templateCostMatrix, boolean releasesReturnedSolutions) {
+        this.templateCostMatrix = templateCostMatrix;
+        this.releasesReturnedSolutions = releasesReturnedSolutions;
+        subproblemQueue.add(new Subproblem<>(List.of(), List.of(), Double.NEGATIVE_INFINITY, subproblemCounter++));
+    }
+
+    @Override
+    public CostMatrixInterface<T, W> next() {
+        if (lastSolution != null) {
+            partition(lastSolution);
+            if (releasesReturnedSolutions) lastSolution.solvedMatrix.release();
+            lastSolution = null;
+        }
+        while (!subproblemQueue.isEmpty()) {
+            Subproblem<T, W> subproblem = subproblemQueue.poll();
+            if (subproblem.solvedMatrix != null) {
+                lastSolution = subproblem;
+                return subproblem.solvedMatrix;
+            }
+            // Lazy expansion: solve it now, and requeue it at its true cost behind anything cheaper.
+            if (solve(subproblem)) subproblemQueue.add(subproblem);
+        }
+        return null;
+    }
+
+    /**
+     * Releases the solved matrices still queued and the last one returned. Earlier solutions were released as the search moved past them.
+     * */
+    @Override
+    public void release() {
+        if (lastSolution != null && releasesReturnedSolutions) lastSolution.solvedMatrix.release();
+        lastSolution = null;
+        subproblemQueue.forEach(subproblem -> {
+            if (subproblem.solvedMatrix != null) subproblem.solvedMatrix.release();
+        });
+        subproblemQueue.clear();
+    }
+
+    /**
+     * Partitions the last solution now, so its matrix is no longer needed, then releases it and the queued solutions.
+     * */
+    @Override
+    public void compact() {
+        if (lastSolution != null) {
+            partition(lastSolution);
+            if (releasesReturnedSolutions) lastSolution.solvedMatrix.release();
+            lastSolution = null;
+        }
+        releaseQueuedSolutions();
+    }
+
+    /**
+     * Returns the matrices of the solved subproblems still queued. Each is requeued at its solved cost, which is a lower bound, and solved again if it reaches the head: the order of solutions is unchanged.
+     * */
+    void releaseQueuedSolutions() {
+        List<Subproblem<T, W>> subproblems = new ArrayList<>(subproblemQueue);
+        subproblemQueue.clear();
+        for (Subproblem<T, W> subproblem : subproblems) {
+            if (subproblem.solvedMatrix == null) continue;
+            subproblem.solvedMatrix.release();
+            subproblem.solvedMatrix = null;
+        }
+        subproblemQueue.addAll(subproblems);
+    }
+
+    /**
+     * Solves a subproblem on a clone of the template. Returns false if it has no complete assignment.
+     * */
+    private boolean solve(Subproblem<T, W> subproblem) {
+        CostMatrixInterface<T, W> costMatrix = SolverInstrumentation.cloneOf(templateCostMatrix);
+        subproblem.excluded.forEach(assignment -> costMatrix.overrideAssignmentCost(assignment, Double.POSITIVE_INFINITY));
+        subproblem.forced.forEach(costMatrix::forceAssignment);
+        costMatrix.computeMarginalTaskCosts();
+        // A clone which yields no solution is never seen outside, so its buffers go straight back to the pool.
+        if (!costMatrix.checkRowsAndColumnsAreViable() || costMatrix.findHallViolation() != null || !solveToCompletion(costMatrix)) {
+            costMatrix.release();
+            return false;
+        }
+
+        double cost = costMatrix.getSumOfAssignments();
+        if (Double.isNaN(cost) || cost == Double.POSITIVE_INFINITY) {
+            costMatrix.release();
+            return false;
+        }
+        subproblem.solvedMatrix = costMatrix;
+        subproblem.cost = cost;
+        return true;
+    }
+
+    private static boolean solveToCompletion(CostMatrixInterface<?, ?> costMatrix) {
+        return SolverInstrumentation.ENABLED
+                ? SolverInstrumentation.timeSolve(costMatrix, costMatrix::solveToCompletion)
+                : costMatrix.solveToCompletion();
+    }
+
+    /**
+     * Splits the remaining space of a returned solution, so none of the children can yield its real assignment set again.
+     * */
+    private void partition(Subproblem<T, W> solution) {
+        Set<Assignment<T, W>> forcedSet = new HashSet<>(solution.forced);
+        List<Assignment<T, W>> freeAssignments = new ArrayList<>();
+        for (Assignment<T, W> assignment : solution.solvedMatrix.getAssignments()) {
+            if (!forcedSet.contains(assignment)) freeAssignments.add(assignment);
+        }
+        freeAssignments.sort(Comparator.comparingInt(Assignment<T, W>::taskIndex).thenComparingInt(Assignment::workerIndex));
+
+        List<Assignment<T, W>> forced = new ArrayList<>(solution.forced);
+        for (Assignment<T, W> freeAssignment : freeAssignments) {
+            List<Assignment<T, W>> excluded = new ArrayList<>(solution.excluded);
+            excluded.add(freeAssignment);
+            subproblemQueue.add(new Subproblem<>(List.copyOf(forced), excluded, solution.cost, subproblemCounter++));
+            forced.add(freeAssignment);
+        }
+    }
+
+    /**
+     * One cell of the partition: the solutions which contain every forced assignment and none of the excluded ones.
+     * <p>Until it is solved, its cost is the lower bound inherited from its parent.</p>
+     * */
+    private static final class Subproblem<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> implements Comparable<Subproblem<T, W>> {
+        private final List<Assignment<T, W>> forced;
+        private final List<Assignment<T, W>> excluded;
+        private final long sequence;
+        private double cost;
+        private CostMatrixInterface<T, W> solvedMatrix = null;
+
+        private Subproblem(List<Assignment<T, W>> forced, List<Assignment<T, W>> excluded, double cost, long sequence) {
+            this.forced = forced;
+            this.excluded = excluded;
+            this.cost = cost;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Subproblem<T, W> other) {
+            int costComparison = Double.compare(cost, other.cost);
+            if (costComparison != 0) return costComparison;
+            // Unsolved bounds go first, so a solution is only returned once nothing queued could undercut it.
+            int solvedComparison = Boolean.compare(solvedMatrix != null, other.solvedMatrix != null);
+            return solvedComparison != 0 ? solvedComparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
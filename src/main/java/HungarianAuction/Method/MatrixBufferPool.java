@@ -0,0 +1,92 @@
+package HungarianAuction.Method;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <ul>
+ * <li>
+ *      A per-thread store of the cost, zero, star and prime arrays of released matrices, bucketed by exact length, so the next matrix of the same size reuses them instead of allocating.
+ * </li>
+ * <li>
+ *      Each thread borrows from and returns to its own pool, so no lock is ever taken. An array released on another thread simply joins that thread's pool.
+ * </li>
+ * <li>
+ *      Borrowed arrays hold stale values: the borrower writes every element before reading any. Retention is capped per bucket and per thread, and arrays beyond the cap are left to the collector.
+ * </li>
+ * </ul>
+ */
+final class MatrixBufferPool {
+    private static final int MAX_BUFFERS_PER_BUCKET = 16;
+    private static final long MAX_RETAINED_BYTES = 64L << 20;
+    private static final ThreadLocal<MatrixBufferPool> LOCAL_POOL = ThreadLocal.withInitial(MatrixBufferPool::new);
+
+    private final Map<Integer, ArrayDeque<double[]>> doubleBuckets = new HashMap<>();
+    private final Map<Integer, ArrayDeque<long[]>> longBuckets = new HashMap<>();
+    private final Map<Integer, ArrayDeque<int[]>> intBuckets = new HashMap<>();
+    private long retainedBytes = 0;
+    private int borrowedBufferCount = 0;
+
+    private MatrixBufferPool() {
+    }
+
+    /**
+     * The pool of the calling thread.
+     * */
+    static MatrixBufferPool local() {
+        return LOCAL_POOL.get();
+    }
+
+    /**
+     * The arrays borrowed from this pool and not yet released to it. Once every matrix of a thread is released it is back where it started.
+     * */
+    int borrowedBufferCount() {
+        return borrowedBufferCount;
+    }
+
+    double[] borrowDoubles(int length) {
+        double[] buffer = borrow(doubleBuckets, length, Double.BYTES);
+        return buffer != null ? buffer : new double[length];
+    }
+
+    long[] borrowLongs(int length) {
+        long[] buffer = borrow(longBuckets, length, Long.BYTES);
+        return buffer != null ? buffer : new long[length];
+    }
+
+    int[] borrowInts(int length) {
+        int[] buffer = borrow(intBuckets, length, Integer.BYTES);
+        return buffer != null ? buffer : new int[length];
+    }
+
+    void release(double[] buffer) {
+        release(doubleBuckets, buffer, buffer.length, Double.BYTES);
+    }
+
+    void release(long[] buffer) {
+        release(longBuckets, buffer, buffer.length, Long.BYTES);
+    }
+
+    void release(int[] buffer) {
+        release(intBuckets, buffer, buffer.length, Integer.BYTES);
+    }
+
+    private <A> A borrow(Map<Integer, ArrayDeque<A>> buckets, int length, int elementBytes) {
+        borrowedBufferCount++;
+        ArrayDeque<A> bucket = buckets.get(length);
+        if (bucket == null || bucket.isEmpty()) return null;
+        retainedBytes -= (long) length * elementBytes;
+        return bucket.pop();
+    }
+
+    private <A> void release(Map<Integer, ArrayDeque<A>> buckets, A buffer, int length, int elementBytes) {
+        borrowedBufferCount--;
+        long bufferBytes = (long) length * elementBytes;
+        if (length == 0 || retainedBytes + bufferBytes > MAX_RETAINED_BYTES) return;
+        ArrayDeque<A> bucket = buckets.computeIfAbsent(length, k -> new ArrayDeque<>());
+        if (bucket.size() >= MAX_BUFFERS_PER_BUCKET) return;
+        bucket.push(buffer);
+        retainedBytes += bufferBytes;
+    }
+}
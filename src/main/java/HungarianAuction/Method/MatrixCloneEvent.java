@@ -0,0 +1,21 @@
+package HungarianAuction.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event around one clone of a template matrix, emitted while {@link SolverInstrumentation#ENABLED} is set.
+ */
+@Name("HungarianAuction.MatrixClone")
+@Label("Matrix Clone")
+@Category({"Hungarian Auction", "Solver"})
+@Description("A cost matrix cloned from its template")
+final class MatrixCloneEvent extends jdk.jfr.Event {
+    @Label("Template Id")
+    int templateId;
+
+    @Label("Clone Id")
+    int cloneId;
+}
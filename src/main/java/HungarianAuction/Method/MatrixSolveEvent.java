@@ -0,0 +1,24 @@
+package HungarianAuction.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event around one solve of a matrix, emitted while {@link SolverInstrumentation#ENABLED} is set.
+ */
+@Name("HungarianAuction.MatrixSolve")
+@Label("Matrix Solve")
+@Category({"Hungarian Auction", "Solver"})
+@Description("One cost matrix run to a solution or to a dead end")
+final class MatrixSolveEvent extends jdk.jfr.Event {
+    @Label("Matrix Id")
+    int matrixId;
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Solved")
+    boolean solved;
+}
@@ -0,0 +1,90 @@
+package HungarianAuction.Method;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <ul>
+ * <li>
+ *      The {@link CostStore} of a {@link MemorySegment} outside the heap, either allocated natively or mapped from a temporary file.
+ * </li>
+ * <li>
+ *      The segment lives in a shared scope, so component matrices solved on pool threads can read it. Closing the scope frees the memory, or unmaps and deletes the file.
+ * </li>
+ * <li>
+ *      A store whose matrix is dropped without being released is closed by a cleaner once the matrix is collected.
+ * </li>
+ * <li>
+ *      Needs the {@code jdk.incubator.foreign} module at runtime; {@link CostStore#offHeap(int)} falls back to the heap without it.
+ * </li>
+ * </ul>
+ */
+final class OffHeapCostStore extends CostStore {
+    private static final Cleaner SEGMENT_CLEANER = Cleaner.create();
+
+    private final ResourceScope scope;
+    private final MemorySegment costs;
+
+    private OffHeapCostStore(ResourceScope scope, MemorySegment costs) {
+        this.scope = scope;
+        this.costs = costs;
+    }
+
+    /**
+     * Only called once the module is known to be present, so this class is never loaded without it.
+     * */
+    static CostStore allocate(int cellCount) {
+        ResourceScope scope = ResourceScope.newSharedScope(SEGMENT_CLEANER);
+        return new OffHeapCostStore(scope, MemorySegment.allocateNative((long) cellCount * Double.BYTES, Double.BYTES, scope));
+    }
+
+    /**
+     * As above, mapped from a temporary file in the directory.
+     * */
+    static CostStore map(int cellCount, Path directory) {
+        ResourceScope scope = ResourceScope.newSharedScope(SEGMENT_CLEANER);
+        try {
+            Path costFile = Files.createTempFile(directory, "costs", ".bin");
+            scope.addCloseAction(() -> {
+                try {
+                    Files.deleteIfExists(costFile);
+                } catch (IOException e) {
+                    costFile.toFile().deleteOnExit();
+                }
+            });
+            return new OffHeapCostStore(scope, MemorySegment.mapFile(costFile, 0, (long) cellCount * Double.BYTES, FileChannel.MapMode.READ_WRITE, scope));
+        } catch (IOException e) {
+            scope.close();
+            throw new UncheckedIOException("Could not map " + cellCount + " costs in " + directory, e);
+        }
+    }
+
+    @Override
+    double get(int cell) {
+        return MemoryAccess.getDoubleAtIndex(costs, cell);
+    }
+
+    @Override
+    void set(int cell, double cost) {
+        MemoryAccess.setDoubleAtIndex(costs, cell, cost);
+    }
+
+    @Override
+    void copyTo(int firstCell, double[] destination, int length) {
+        long byteCount = (long) length * Double.BYTES;
+        MemorySegment.ofArray(destination).asSlice(0, byteCount).copyFrom(costs.asSlice((long) firstCell * Double.BYTES, byteCount));
+    }
+
+    @Override
+    void close() {
+        if (scope.isAlive()) scope.close();
+    }
+}
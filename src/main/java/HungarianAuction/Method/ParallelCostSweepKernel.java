@@ -0,0 +1,157 @@
+package HungarianAuction.Method;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * <ul>
+ * <li>
+ *      Splits each sweep of {@link CostSweepKernel} into blocks of whole rows, run on a {@link ForkJoinPool} by a delegate kernel.
+ * </li>
+ * <li>
+ *      Minima are reduced per block and then combined; zeros are written by each block into its own rows of the bitset, without locking.
+ * </li>
+ * <li>
+ *      Matrices smaller than the cutoff keep the delegate's sequential path, where forking would cost more than it saves.
+ * </li>
+ * </ul>
+ */
+final class ParallelCostSweepKernel extends CostSweepKernel {
+    private static final int BLOCKS_PER_THREAD = 4;
+    private final CostSweepKernel blockKernel;
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    ParallelCostSweepKernel(CostSweepKernel blockKernel, ForkJoinPool pool, int sequentialCutoff) {
+        this.blockKernel = blockKernel;
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    void subtractColumnMinima(double[] costs, int size) {
+        if (size < sequentialCutoff) {
+            blockKernel.subtractColumnMinima(costs, size);
+            return;
+        }
+        int rowsPerBlock = rowsPerBlock(size);
+        double[] columnMinima = pool.submit(() -> IntStream.range(0, blockCount(size, rowsPerBlock)).parallel()
+                .mapToObj(block -> {
+                    double[] blockMinima = new double[size];
+                    Arrays.fill(blockMinima, Double.MAX_VALUE);
+                    blockKernel.columnMinima(costs, size, block * rowsPerBlock, Math.min(size, (block + 1) * rowsPerBlock), blockMinima);
+                    return blockMinima;
+                })
+                .reduce(ParallelCostSweepKernel::lowerInto)
+                .orElseThrow()).join();
+        forEachBlock(size, (fromRow, toRow) -> blockKernel.subtractFromColumns(costs, size, fromRow, toRow, columnMinima));
+    }
+
+    @Override
+    void subtractRowMinima(double[] costs, int size) {
+        if (size < sequentialCutoff) {
+            blockKernel.subtractRowMinima(costs, size);
+            return;
+        }
+        forEachBlock(size, (fromRow, toRow) -> blockKernel.subtractRowMinima(costs, size, fromRow, toRow));
+    }
+
+    @Override
+    void markZeros(double[] costs, int size, long[] zeroLocations, int wordsPerRow) {
+        if (size < sequentialCutoff) {
+            blockKernel.markZeros(costs, size, zeroLocations, wordsPerRow);
+            return;
+        }
+        forEachBlock(size, (fromRow, toRow) -> blockKernel.markZeros(costs, size, fromRow, toRow, zeroLocations, wordsPerRow));
+    }
+
+    @Override
+    double lowestUncrossedValue(double[] costs, int size, boolean[] rowsCrossed, boolean[] columnsCrossed) {
+        if (size < sequentialCutoff) return blockKernel.lowestUncrossedValue(costs, size, rowsCrossed, columnsCrossed);
+        int rowsPerBlock = rowsPerBlock(size);
+        return pool.submit(() -> IntStream.range(0, blockCount(size, rowsPerBlock)).parallel()
+                .mapToDouble(block -> blockKernel.lowestUncrossedValue(costs, size, block * rowsPerBlock, Math.min(size, (block + 1) * rowsPerBlock), rowsCrossed, columnsCrossed))
+                .reduce(Double.MAX_VALUE, Math::min)).join();
+    }
+
+    @Override
+    boolean shiftByCrossings(double[] costs, int size, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow) {
+        if (size < sequentialCutoff) return blockKernel.shiftByCrossings(costs, size, rowsCrossed, columnsCrossed, shift, zeroLocations, wordsPerRow);
+        int rowsPerBlock = rowsPerBlock(size);
+        // Every block must run, so the results are combined without short-circuiting.
+        return pool.submit(() -> IntStream.range(0, blockCount(size, rowsPerBlock)).parallel()
+                .mapToObj(block -> blockKernel.shiftByCrossings(costs, size, block * rowsPerBlock, Math.min(size, (block + 1) * rowsPerBlock), rowsCrossed, columnsCrossed, shift, zeroLocations, wordsPerRow))
+                .reduce(false, Boolean::logicalOr)).join();
+    }
+
+    @Override
+    boolean anyNaN(double[] costs, int size) {
+        if (size < sequentialCutoff) return blockKernel.anyNaN(costs, size);
+        int rowsPerBlock = rowsPerBlock(size);
+        return pool.submit(() -> IntStream.range(0, blockCount(size, rowsPerBlock)).parallel()
+                .anyMatch(block -> blockKernel.anyNaN(costs, size, block * rowsPerBlock, Math.min(size, (block + 1) * rowsPerBlock)))).join();
+    }
+
+    @Override
+    void columnMinima(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        blockKernel.columnMinima(costs, size, fromRow, toRow, columnMinima);
+    }
+
+    @Override
+    void subtractFromColumns(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        blockKernel.subtractFromColumns(costs, size, fromRow, toRow, columnMinima);
+    }
+
+    @Override
+    void subtractRowMinima(double[] costs, int size, int fromRow, int toRow) {
+        blockKernel.subtractRowMinima(costs, size, fromRow, toRow);
+    }
+
+    @Override
+    void markZeros(double[] costs, int size, int fromRow, int toRow, long[] zeroLocations, int wordsPerRow) {
+        blockKernel.markZeros(costs, size, fromRow, toRow, zeroLocations, wordsPerRow);
+    }
+
+    @Override
+    double lowestUncrossedValue(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed) {
+        return blockKernel.lowestUncrossedValue(costs, size, fromRow, toRow, rowsCrossed, columnsCrossed);
+    }
+
+    @Override
+    boolean shiftByCrossings(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow) {
+        return blockKernel.shiftByCrossings(costs, size, fromRow, toRow, rowsCrossed, columnsCrossed, shift, zeroLocations, wordsPerRow);
+    }
+
+    @Override
+    boolean anyNaN(double[] costs, int size, int fromRow, int toRow) {
+        return blockKernel.anyNaN(costs, size, fromRow, toRow);
+    }
+
+    private int rowsPerBlock(int size) {
+        int blocks = Math.max(1, pool.getParallelism() * BLOCKS_PER_THREAD);
+        return Math.max(1, (size + blocks - 1) / blocks);
+    }
+
+    private static int blockCount(int size, int rowsPerBlock) {
+        return (size + rowsPerBlock - 1) / rowsPerBlock;
+    }
+
+    private void forEachBlock(int size, RowRangeAction action) {
+        int rowsPerBlock = rowsPerBlock(size);
+        pool.submit(() -> IntStream.range(0, blockCount(size, rowsPerBlock)).parallel()
+                .forEach(block -> action.apply(block * rowsPerBlock, Math.min(size, (block + 1) * rowsPerBlock)))).join();
+    }
+
+    private static double[] lowerInto(double[] minima, double[] blockMinima) {
+        for (int column = 0; column < minima.length; column++) {
+            minima[column] = Math.min(minima[column], blockMinima[column]);
+        }
+        return minima;
+    }
+
+    @FunctionalInterface
+    private interface RowRangeAction {
+        void apply(int fromRow, int toRow);
+    }
+}
@@ -0,0 +1,98 @@
+package HungarianAuction.Method;
+
+/**
+ * The sweeps of {@link CostSweepKernel}, one cell at a time on the calling thread.
+ */
+final class ScalarCostSweepKernel extends CostSweepKernel {
+    static final ScalarCostSweepKernel INSTANCE = new ScalarCostSweepKernel();
+
+    private ScalarCostSweepKernel() {
+    }
+
+    @Override
+    void columnMinima(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                columnMinima[column] = Math.min(columnMinima[column], costs[rowStart + column]);
+            }
+        }
+    }
+
+    @Override
+    void subtractFromColumns(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                costs[rowStart + column] -= columnMinima[column]; // MODIFICATION
+            }
+        }
+    }
+
+    @Override
+    void subtractRowMinima(double[] costs, int size, int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            double lowestValueChecked = Double.MAX_VALUE;
+            for (int column = 0; column < size; column++) {
+                lowestValueChecked = Math.min(lowestValueChecked, costs[rowStart + column]);
+            }
+            for (int column = 0; column < size; column++) {
+                costs[rowStart + column] -= lowestValueChecked; // MODIFICATION
+            }
+        }
+    }
+
+    @Override
+    void markZeros(double[] costs, int size, int fromRow, int toRow, long[] zeroLocations, int wordsPerRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                if (costs[rowStart + column] == 0) setBit(zeroLocations, wordsPerRow, row, column);
+            }
+        }
+    }
+
+    @Override
+    double lowestUncrossedValue(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed) {
+        double lowestUncrossedValue = Double.MAX_VALUE;
+        for (int row = fromRow; row < toRow; row++) {
+            if (rowsCrossed[row]) continue;
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                if (!columnsCrossed[column])
+                    lowestUncrossedValue = Math.min(lowestUncrossedValue, costs[rowStart + column]);
+            }
+        }
+        return lowestUncrossedValue;
+    }
+
+    @Override
+    boolean shiftByCrossings(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow) {
+        boolean anyFiniteValuesShifted = false;
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                int cell = rowStart + column;
+                if (costs[cell] == Double.POSITIVE_INFINITY)
+                    continue;
+                int crossingsCoefficient = -1;
+                if (rowsCrossed[row]) crossingsCoefficient += 1;
+                if (columnsCrossed[column]) crossingsCoefficient += 1;
+                anyFiniteValuesShifted = anyFiniteValuesShifted || crossingsCoefficient != 0;
+                double modifiedValue = costs[cell] + (crossingsCoefficient * shift);
+                costs[cell] = modifiedValue; // MODIFICATION
+                if (modifiedValue == 0) setBit(zeroLocations, wordsPerRow, row, column);
+            }
+        }
+        return anyFiniteValuesShifted;
+    }
+
+    @Override
+    boolean anyNaN(double[] costs, int size, int fromRow, int toRow) {
+        for (int cell = fromRow * size; cell < toRow * size; cell++) {
+            if (Double.isNaN(costs[cell])) return true;
+        }
+        return false;
+    }
+}
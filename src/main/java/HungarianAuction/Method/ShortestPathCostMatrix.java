@@ -0,0 +1,509 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * <ul>
+ * <li>
+ *      Solves the same assignment problem as {@link CostMatrix}, by the Jonker-Volgenant shortest augmenting path method.
+ * </li>
+ * <li>
+ *      Keeps a dual potential per task row and per worker column instead of rewriting the costs, so each task is matched by a single Dijkstra-style search: O(n^3) overall.
+ * </li>
+ * <li>
+ *      Solves in one call to {@link #applyMinimumCrossings()}; there is never a modification round to run afterwards.
+ * </li>
+ * <li>
+ *      Keeps its potentials and matching across overrides, so a clone of a solved matrix is repaired with one augmenting path per dropped assignment: O(n^2) each.
+ *      A rectangular clone first raises each freed worker grouping back to the zero potential of a surplus grouping, dropping the few tasks that would undercut it.
+ * </li>
+ * <li>
+ *      Accepts fewer tasks than worker groupings, leaving the surplus groupings unmatched, so no DoNothingTask padding is needed: O(n^2 m) for n tasks and m groupings.
+ * </li>
+ * <li>
+ *      Clones are overlays: they share the template's base costs and hold only their own overridden cells, so a clone costs O(k) for k overrides.
+ * </li>
+ * <li>
+ *      The base costs are held in a {@link CostStore}, which may live outside the heap. Releasing the template frees it, so the clones are released first.
+ * </li>
+ * </ul>
+ */
+public class ShortestPathCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends AbstractCostMatrix<T, W> {
+    private static final int UNMATCHED = -1;
+    private final int taskCount;
+    private final int workerCount;
+
+    /**
+     * Row-major, one row per task: the cell for task t and worker w is {@code t * workerCount + w}.
+     * <p>Written once by the template constructor, then shared read-only by every clone.</p>
+     * */
+    private final CostStore baseCosts;
+    private final boolean ownsBaseCosts;
+    private final int[] baseFiniteCellsPerTask;
+    private final int[] baseFiniteCellsPerWorker;
+    private final boolean baseContainsNaN;
+
+    /**
+     * The cells this matrix has overridden, sorted by cell index, with their replacement costs.
+     * */
+    private int[] overriddenCells;
+    private double[] overriddenCosts;
+    private int overrideCount;
+
+    /**
+     * The marginal reductions taken in {@link #computeMarginalTaskCosts()}, kept apart from the solving potentials so the marginal costs stay readable.
+     * <p>Always replaced rather than written in place, so clones can share them.</p>
+     * */
+    private double[] taskReductions;
+    private double[] workerReductions;
+
+    /**
+     * Solving state. Shared with the matrix this was cloned from until either side writes to it.
+     * */
+    private double[] taskPotentials;
+    private double[] workerPotentials;
+    private int[] taskForWorker;
+    private boolean solvingStateShared = false;
+
+    /**
+     * True while the potentials are feasible for every cell, so a later solve can resume from them.
+     * <p>Raising a cost keeps them feasible; lowering one below its potentials does not.</p>
+     * */
+    private boolean warmStateValid = false;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * */
+    public ShortestPathCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks) {
+        this(workerGroupings, tasks, CostStore::onHeap);
+    }
+
+    /**
+     * As above, with the base costs held in a store of the given cell count from the allocator.
+     * */
+    ShortestPathCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks, IntFunction<CostStore> costStoreAllocator) {
+        super(List.copyOf(workerGroupings), List.copyOf(tasks));
+        if (workerGroupings.size() < tasks.size())
+            throw new IllegalArgumentException(workerGroupings.size() + " worker groupings cannot cover " + tasks.size() + " tasks.");
+
+        this.taskCount = this.tasks.size();
+        this.workerCount = this.workers.size();
+        this.baseCosts = costStoreAllocator.apply(taskCount * workerCount);
+        this.ownsBaseCosts = true;
+        this.baseFiniteCellsPerTask = new int[taskCount];
+        this.baseFiniteCellsPerWorker = new int[workerCount];
+        this.overriddenCells = new int[0];
+        this.overriddenCosts = new double[0];
+        this.taskReductions = new double[taskCount];
+        this.workerReductions = new double[workerCount];
+        this.taskPotentials = new double[taskCount];
+        this.workerPotentials = new double[workerCount + 1];
+        this.taskForWorker = new int[workerCount + 1];
+        Arrays.fill(taskForWorker, UNMATCHED);
+
+        boolean containsNaN = false;
+        for (int task = 0; task < taskCount; task++) {
+            TaskRequest<T, W> taskRequest = this.tasks.get(task);
+            int rowStart = task * workerCount;
+            for (int worker = 0; worker < workerCount; worker++) {
+                double cost = taskRequest.getCost(this.workers.get(worker));
+                baseCosts.set(rowStart + worker, cost); // INITIALIZATION
+                containsNaN = containsNaN || Double.isNaN(cost);
+                if (cost != Double.POSITIVE_INFINITY) {
+                    baseFiniteCellsPerTask[task]++;
+                    baseFiniteCellsPerWorker[worker]++;
+                }
+            }
+        }
+        this.baseContainsNaN = containsNaN;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    private ShortestPathCostMatrix(ShortestPathCostMatrix<T, W> template) {
+        super(template);
+        this.taskCount = template.taskCount;
+        this.workerCount = template.workerCount;
+        this.baseCosts = template.baseCosts;
+        this.ownsBaseCosts = false;
+        this.baseFiniteCellsPerTask = template.baseFiniteCellsPerTask;
+        this.baseFiniteCellsPerWorker = template.baseFiniteCellsPerWorker;
+        this.baseContainsNaN = template.baseContainsNaN;
+        this.overriddenCells = Arrays.copyOf(template.overriddenCells, template.overrideCount);
+        this.overriddenCosts = Arrays.copyOf(template.overriddenCosts, template.overrideCount);
+        this.overrideCount = template.overrideCount;
+        this.taskReductions = template.taskReductions;
+        this.workerReductions = template.workerReductions;
+        this.taskPotentials = template.taskPotentials;
+        this.workerPotentials = template.workerPotentials;
+        this.taskForWorker = template.taskForWorker;
+        this.warmStateValid = template.warmStateValid;
+        this.solvingStateShared = true;
+        template.solvingStateShared = true;
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices.
+     * <p>Starts from the finite cell counts of the base costs and only revisits the overridden cells: O(n + k).</p>
+     * */
+    @Override
+    public boolean checkRowsAndColumnsAreViable() {
+        int[] finiteCellsPerTask = baseFiniteCellsPerTask.clone();
+        int[] finiteCellsPerWorker = baseFiniteCellsPerWorker.clone();
+        for (int override = 0; override < overrideCount; override++) {
+            int cell = overriddenCells[override];
+            boolean wasFinite = baseCosts.get(cell) != Double.POSITIVE_INFINITY;
+            boolean isFinite = overriddenCosts[override] != Double.POSITIVE_INFINITY;
+            if (wasFinite == isFinite) continue;
+            int change = isFinite ? 1 : -1;
+            finiteCellsPerTask[cell / workerCount] += change;
+            finiteCellsPerWorker[cell % workerCount] += change;
+        }
+        for (int finiteCells : finiteCellsPerTask) {
+            if (finiteCells == 0) return false;
+        }
+        // Surplus worker groupings may stay unmatched, so only a square matrix needs every column.
+        if (!isSquare()) return true;
+        for (int finiteCells : finiteCellsPerWorker) {
+            if (finiteCells == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Outcome retrieval: the marginal cost left after the initial reductions.
+     * */
+    @Override
+    public double getAssignmentCost(Assignment<T, W> assignment) {
+        int workerIndex = workerIndexOf(assignment);
+        int taskIndex = taskIndexOf(assignment);
+        if (workerIndex < 0 || taskIndex < 0) return -1D;
+        return costAt(taskIndex * workerCount + workerIndex) - taskReductions[taskIndex] - workerReductions[workerIndex];
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public CostMatrixInterface<T, W> cloneMatrix() {
+        return new ShortestPathCostMatrix<>(this);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>Takes the same task-then-worker reductions as {@link CostMatrix}, but records them as feasible dual potentials rather than subtracting them from the costs.</p>
+     * <p>When a previous solve left feasible potentials behind, they and the matching are kept for {@link #applyMinimumCrossings()} to repair.</p>
+     * <p>A rectangular matrix takes no worker reductions, as padding would have, so an unmatched worker grouping always has a potential of zero.</p>
+     * */
+    @Override
+    public void computeMarginalTaskCosts() {
+        double[] taskRow = new double[workerCount];
+        double[] newTaskReductions = new double[taskCount];
+        double[] newWorkerReductions = new double[workerCount];
+        Arrays.fill(newWorkerReductions, Double.POSITIVE_INFINITY);
+        for (int task = 0; task < taskCount; task++) {
+            loadTaskRow(task, taskRow);
+            double lowestValue = Double.POSITIVE_INFINITY;
+            for (int worker = 0; worker < workerCount; worker++) {
+                lowestValue = Math.min(lowestValue, taskRow[worker]);
+            }
+            double taskReduction = lowestValue == Double.POSITIVE_INFINITY ? 0 : lowestValue;
+            newTaskReductions[task] = taskReduction;
+            for (int worker = 0; worker < workerCount; worker++) {
+                newWorkerReductions[worker] = Math.min(newWorkerReductions[worker], taskRow[worker] - taskReduction);
+            }
+        }
+        for (int worker = 0; worker < workerCount; worker++) {
+            if (newWorkerReductions[worker] == Double.POSITIVE_INFINITY || !isSquare()) newWorkerReductions[worker] = 0;
+        }
+        this.taskReductions = newTaskReductions;
+        this.workerReductions = newWorkerReductions;
+        if (warmStateValid) return;
+
+        this.taskPotentials = newTaskReductions.clone();
+        this.workerPotentials = Arrays.copyOf(newWorkerReductions, workerCount + 1);
+        this.taskForWorker = new int[workerCount + 1];
+        Arrays.fill(taskForWorker, UNMATCHED);
+        this.solvingStateShared = false;
+        this.warmStateValid = true;
+    }
+
+    /**
+     * Solves the template up front, so every clone starts from its potentials and matching.
+     * */
+    @Override
+    public void prepareWarmStart() {
+        applyMinimumCrossings();
+    }
+
+    /**
+     * <b>Solve:</b> grows one shortest augmenting path from every unmatched task.
+     * <p>After a warm start only the tasks whose assignments were overridden are unmatched.</p>
+     * <p><b>True</b> means the matrix is solved.</p>
+     * <p><b>False</b> means no complete assignment of finite cost exists.</p>
+     * */
+    @Override
+    public boolean applyMinimumCrossings() {
+        takeOwnershipOfSolvingState();
+        boolean[] taskMatched = new boolean[taskCount];
+        for (int worker = 0; worker < workerCount; worker++) {
+            if (taskForWorker[worker] != UNMATCHED) taskMatched[taskForWorker[worker]] = true;
+        }
+        double[] taskRow = new double[workerCount];
+        double[] minimumSlack = new double[workerCount + 1];
+        int[] previousWorker = new int[workerCount + 1];
+        boolean[] workerVisited = new boolean[workerCount + 1];
+        for (int task = 0; task < taskCount; task++) {
+            if (taskMatched[task]) continue;
+            if (!augmentFromTask(task, taskRow, minimumSlack, previousWorker, workerVisited)) return false;
+        }
+
+        assignedTasks.clear();
+        for (int worker = 0; worker < workerCount; worker++) {
+            if (taskForWorker[worker] != UNMATCHED) confirmAssignment(worker, taskForWorker[worker]);
+        }
+        return true;
+    }
+
+    /**
+     * <b>Solve:</b> a Dijkstra search over reduced costs, rooted at a virtual worker column which holds the free task.
+     * The potentials are raised along the way so every matched cell keeps a reduced cost of zero.
+     * */
+    private boolean augmentFromTask(int freeTask, double[] taskRow, double[] minimumSlack, int[] previousWorker, boolean[] workerVisited) {
+        if (SolverInstrumentation.ENABLED) getInstrumentation().recordAugmentingPath();
+        int rootWorker = workerCount;
+        Arrays.fill(minimumSlack, Double.POSITIVE_INFINITY);
+        Arrays.fill(workerVisited, false);
+        taskForWorker[rootWorker] = freeTask;
+        workerPotentials[rootWorker] = 0;
+
+        int currentWorker = rootWorker;
+        do {
+            workerVisited[currentWorker] = true;
+            int currentTask = taskForWorker[currentWorker];
+            loadTaskRow(currentTask, taskRow);
+            double delta = Double.POSITIVE_INFINITY;
+            int nextWorker = UNMATCHED;
+            for (int worker = 0; worker < workerCount; worker++) {
+                if (workerVisited[worker]) continue;
+                double reducedCost = taskRow[worker] - taskPotentials[currentTask] - workerPotentials[worker];
+                if (reducedCost < minimumSlack[worker]) {
+                    minimumSlack[worker] = reducedCost;
+                    previousWorker[worker] = currentWorker;
+                }
+                if (minimumSlack[worker] < delta) {
+                    delta = minimumSlack[worker];
+                    nextWorker = worker;
+                }
+            }
+            if (nextWorker == UNMATCHED) {
+                taskForWorker[rootWorker] = UNMATCHED;
+                return false;
+            }
+            for (int worker = 0; worker <= workerCount; worker++) {
+                if (workerVisited[worker]) {
+                    taskPotentials[taskForWorker[worker]] += delta;
+                    workerPotentials[worker] -= delta;
+                } else {
+                    minimumSlack[worker] -= delta;
+                }
+            }
+            currentWorker = nextWorker;
+        } while (taskForWorker[currentWorker] != UNMATCHED);
+
+        while (currentWorker != rootWorker) {
+            int worker = previousWorker[currentWorker];
+            taskForWorker[currentWorker] = taskForWorker[worker];
+            currentWorker = worker;
+        }
+        taskForWorker[rootWorker] = UNMATCHED;
+        return true;
+    }
+
+    /**
+     * The shortest path method finishes inside {@link #applyMinimumCrossings()}, so there is never a modification to make.
+     * */
+    @Override
+    public boolean modifyCostsByLowestUncrossedValue() {
+        return false;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * <p>Only the overlay changes: the shared base costs are never written after construction.</p>
+     * <p>A matched cell is dropped from the matching, to be repaired by the next solve.</p>
+     * */
+    @Override
+    public void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost) {
+        int taskIndex = taskIndexOf(invalidAssignment);
+        int workerIndex = workerIndexOf(invalidAssignment);
+        if (taskIndex < 0 || workerIndex < 0)
+            return;
+        int cell = taskIndex * workerCount + workerIndex;
+        boolean surplusWorkerFreed = warmStateValid && invalidateWarmState(taskIndex, workerIndex, cost);
+        recordOverride(cell, cost);
+        if (surplusWorkerFreed) restoreSurplusWorkerPotentials(workerIndex);
+    }
+
+    /**
+     * Writes the cell's cost into the overlay, keeping it sorted by cell index.
+     * */
+    private void recordOverride(int cell, double cost) {
+        int position = Arrays.binarySearch(overriddenCells, 0, overrideCount, cell);
+        if (position >= 0) {
+            overriddenCosts[position] = cost; // MODIFICATION
+            return;
+        }
+        int insertionPoint = -position - 1;
+        if (overrideCount == overriddenCells.length) {
+            int newLength = Math.max(4, overrideCount * 2);
+            overriddenCells = Arrays.copyOf(overriddenCells, newLength);
+            overriddenCosts = Arrays.copyOf(overriddenCosts, newLength);
+        }
+        System.arraycopy(overriddenCells, insertionPoint, overriddenCells, insertionPoint + 1, overrideCount - insertionPoint);
+        System.arraycopy(overriddenCosts, insertionPoint, overriddenCosts, insertionPoint + 1, overrideCount - insertionPoint);
+        overriddenCells[insertionPoint] = cell;
+        overriddenCosts[insertionPoint] = cost; // MODIFICATION
+        overrideCount++;
+    }
+
+    /**
+     * Reads each task row through the overlay once, rather than searching the overrides cell by cell.
+     * */
+    @Override
+    protected int[][] finiteWorkersByTask() {
+        int[][] workersByTask = new int[taskCount][];
+        double[] taskRow = new double[workerCount];
+        int[] finiteWorkers = new int[workerCount];
+        for (int task = 0; task < taskCount; task++) {
+            loadTaskRow(task, taskRow);
+            int finiteCount = 0;
+            for (int worker = 0; worker < workerCount; worker++) {
+                if (taskRow[worker] != Double.POSITIVE_INFINITY) finiteWorkers[finiteCount++] = worker;
+            }
+            workersByTask[task] = Arrays.copyOf(finiteWorkers, finiteCount);
+        }
+        return workersByTask;
+    }
+
+    @Override
+    public boolean anyNaN() {
+        if (baseContainsNaN) return true;
+        for (int override = 0; override < overrideCount; override++) {
+            if (Double.isNaN(overriddenCosts[override])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the warm state consistent with a cell about to change cost.
+     * <p>Returns true if a rectangular matrix lost a matched cell, leaving its worker grouping unmatched at a potential which {@link #restoreSurplusWorkerPotentials(int)} must raise.</p>
+     * */
+    private boolean invalidateWarmState(int taskIndex, int workerIndex, double cost) {
+        if (cost < taskPotentials[taskIndex] + workerPotentials[workerIndex]) {
+            warmStateValid = false;
+            return false;
+        }
+        if (taskForWorker[workerIndex] != taskIndex) return false;
+        takeOwnershipOfSolvingState();
+        taskForWorker[workerIndex] = UNMATCHED;
+        return !isSquare();
+    }
+
+    /**
+     * A rectangular matching is only optimal while every unmatched worker grouping has a potential of zero, the price padding would have given it.
+     * <p>Raises the freed grouping back to zero. Each task this leaves with a negative reduced cost has its potential lowered to its row minimum and is dropped from the matching, freeing its grouping in turn.</p>
+     * <p>The dropped tasks are re-matched by the next solve. Each freed grouping costs O(n), and each dropped task O(m).</p>
+     * */
+    private void restoreSurplusWorkerPotentials(int freedWorker) {
+        int[] workerForTask = new int[taskCount];
+        Arrays.fill(workerForTask, UNMATCHED);
+        for (int worker = 0; worker < workerCount; worker++) {
+            if (taskForWorker[worker] != UNMATCHED) workerForTask[taskForWorker[worker]] = worker;
+        }
+        double[] taskRow = new double[workerCount];
+        // Each task is dropped at most once, so at most one grouping per task joins the first.
+        int[] freedWorkers = new int[taskCount + 1];
+        int freedCount = 0;
+        freedWorkers[freedCount++] = freedWorker;
+        for (int next = 0; next < freedCount; next++) {
+            int worker = freedWorkers[next];
+            if (workerPotentials[worker] >= 0) continue;
+            workerPotentials[worker] = 0;
+            for (int task = 0; task < taskCount; task++) {
+                if (costAt(task * workerCount + worker) - taskPotentials[task] >= 0) continue;
+                loadTaskRow(task, taskRow);
+                double lowestReducedCost = Double.POSITIVE_INFINITY;
+                for (int rowWorker = 0; rowWorker < workerCount; rowWorker++) {
+                    lowestReducedCost = Math.min(lowestReducedCost, taskRow[rowWorker] - workerPotentials[rowWorker]);
+                }
+                taskPotentials[task] = lowestReducedCost;
+                int matchedWorker = workerForTask[task];
+                if (matchedWorker == UNMATCHED) continue;
+                taskForWorker[matchedWorker] = UNMATCHED;
+                workerForTask[task] = UNMATCHED;
+                freedWorkers[freedCount++] = matchedWorker;
+            }
+        }
+    }
+
+    /**
+     * Whether the next solve resumes from the potentials and matching of the last one.
+     * */
+    boolean hasWarmState() {
+        return warmStateValid;
+    }
+
+    /**
+     * Frees the base costs, if this matrix allocated them. Clones hold nothing of their own outside the heap.
+     * */
+    @Override
+    public void release() {
+        if (ownsBaseCosts) baseCosts.close();
+    }
+
+    private boolean isSquare() {
+        return taskCount == workerCount;
+    }
+
+    /**
+     * Reads one cell through the overlay.
+     * */
+    private double costAt(int cell) {
+        int position = Arrays.binarySearch(overriddenCells, 0, overrideCount, cell);
+        return position >= 0 ? overriddenCosts[position] : baseCosts.get(cell);
+    }
+
+    /**
+     * Copies one task row of base costs into the buffer, then applies the overrides that fall inside it.
+     * */
+    private void loadTaskRow(int task, double[] taskRow) {
+        int rowStart = task * workerCount;
+        baseCosts.copyTo(rowStart, taskRow, workerCount);
+        if (overrideCount == 0) return;
+        int position = Arrays.binarySearch(overriddenCells, 0, overrideCount, rowStart);
+        if (position < 0) position = -position - 1;
+        int rowEnd = rowStart + workerCount;
+        for (; position < overrideCount && overriddenCells[position] < rowEnd; position++) {
+            taskRow[overriddenCells[position] - rowStart] = overriddenCosts[position];
+        }
+    }
+
+    /**
+     * Copy-on-write for the solving state: the first write after a clone takes a private copy.
+     * */
+    private void takeOwnershipOfSolvingState() {
+        if (!solvingStateShared) return;
+        taskPotentials = taskPotentials.clone();
+        workerPotentials = workerPotentials.clone();
+        taskForWorker = taskForWorker.clone();
+        solvingStateShared = false;
+    }
+}
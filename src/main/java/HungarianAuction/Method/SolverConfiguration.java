@@ -0,0 +1,88 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Immutable set of choices that shape how a {@link CostMatrixSolver} runs. Create one with {@link SolverConfigurationBuilder}.
+ */
+public class SolverConfiguration<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
+
+    private final CostMatrixFactory<T, W> costMatrixFactory;
+    private final SearchStrategy searchStrategy;
+    private final double sparseDensityThreshold;
+    private final boolean componentDecomposition;
+    private final ForkJoinPool componentPool;
+    private final boolean dominatedGroupingPruning;
+    private final EngineCalibration engineCalibration;
+
+    SolverConfiguration(CostMatrixFactory<T, W> costMatrixFactory, SearchStrategy searchStrategy, double sparseDensityThreshold, boolean componentDecomposition, ForkJoinPool componentPool, boolean dominatedGroupingPruning, EngineCalibration engineCalibration) {
+        this.costMatrixFactory = costMatrixFactory;
+        this.searchStrategy = searchStrategy;
+        this.sparseDensityThreshold = sparseDensityThreshold;
+        this.componentDecomposition = componentDecomposition;
+        this.componentPool = componentPool;
+        this.dominatedGroupingPruning = dominatedGroupingPruning;
+        this.engineCalibration = engineCalibration;
+    }
+
+    /**
+     * The configuration used when none is supplied: the star, prime and cover Hungarian method, searched by subset exclusion, or the engines of the local {@link EngineCalibration} if its system property names one.
+     */
+    public static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> SolverConfiguration<T, W> defaults() {
+        return new SolverConfigurationBuilder<T, W>().build();
+    }
+
+    public CostMatrixFactory<T, W> getCostMatrixFactory() {
+        return costMatrixFactory;
+    }
+
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    /**
+     * Below this fraction of finite (task, worker grouping) cells the solver uses {@link CostMatrixFactory#sparse()} in place of the configured factory. Zero, the default, disables the switch.
+     */
+    public double getSparseDensityThreshold() {
+        return sparseDensityThreshold;
+    }
+
+    /**
+     * Whether a batch whose viable assignments fall into independent groups is solved as one smaller matrix per group. Off by default.
+     */
+    public boolean isComponentDecomposition() {
+        return componentDecomposition;
+    }
+
+    /**
+     * The pool on which the independent groups of a decomposed batch are solved.
+     */
+    public ForkJoinPool getComponentPool() {
+        return componentPool;
+    }
+
+    /**
+     * Whether worker groupings dominated on cost by enough other groupings are removed before solving. The optimum is unchanged, but alternatives never use a removed grouping.
+     */
+    public boolean isDominatedGroupingPruning() {
+        return dominatedGroupingPruning;
+    }
+
+    /**
+     * When present, picks the engine of each batch and component from its shape, in place of the configured factory and the sparse density threshold.
+     */
+    public EngineCalibration getEngineCalibration() {
+        return engineCalibration;
+    }
+
+    /**
+     * How a {@link CostMatrixSolver} finds alternatives to its optimal assignment.
+     */
+    public enum SearchStrategy {
+        K_BEST, // Murty's partitioning: each alternative is the next cheapest distinct assignment set.
+        SUBSET_EXCLUSION // Forbids growing subsets of the last solution, via BinSearchCombAdvanced.
+    }
+}
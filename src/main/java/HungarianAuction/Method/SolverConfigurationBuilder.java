@@ -0,0 +1,72 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class SolverConfigurationBuilder<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> {
+
+    private CostMatrixFactory<T, W> costMatrixFactory = CostMatrixFactory.hungarian();
+    private SolverConfiguration.SearchStrategy searchStrategy = SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION;
+    private double sparseDensityThreshold = 0;
+    private boolean componentDecomposition = false;
+    private ForkJoinPool componentPool = ForkJoinPool.commonPool();
+    private boolean dominatedGroupingPruning = false;
+    private boolean costMatrixFactorySet = false;
+    private boolean engineCalibrationSet = false;
+    private EngineCalibration engineCalibration = null;
+
+    public SolverConfigurationBuilder() {
+    }
+
+    public SolverConfigurationBuilder<T, W> setCostMatrixFactory(CostMatrixFactory<T, W> costMatrixFactory) {
+        this.costMatrixFactory = costMatrixFactory;
+        this.costMatrixFactorySet = true;
+        return this;
+    }
+
+    public SolverConfigurationBuilder<T, W> setSearchStrategy(SolverConfiguration.SearchStrategy searchStrategy) {
+        this.searchStrategy = searchStrategy;
+        return this;
+    }
+
+    public SolverConfigurationBuilder<T, W> setSparseDensityThreshold(double sparseDensityThreshold) {
+        this.sparseDensityThreshold = sparseDensityThreshold;
+        return this;
+    }
+
+    public SolverConfigurationBuilder<T, W> setComponentDecomposition(boolean componentDecomposition) {
+        this.componentDecomposition = componentDecomposition;
+        return this;
+    }
+
+    public SolverConfigurationBuilder<T, W> setComponentPool(ForkJoinPool componentPool) {
+        this.componentPool = componentPool;
+        return this;
+    }
+
+    public SolverConfigurationBuilder<T, W> setDominatedGroupingPruning(boolean dominatedGroupingPruning) {
+        this.dominatedGroupingPruning = dominatedGroupingPruning;
+        return this;
+    }
+
+    /**
+     * Null selects engines from the factory and sparse threshold alone. Left unset, {@link EngineCalibration#configured()} is used unless a factory was chosen, so the local calibration only applies when asked for.
+     */
+    public SolverConfigurationBuilder<T, W> setEngineCalibration(EngineCalibration engineCalibration) {
+        this.engineCalibration = engineCalibration;
+        this.engineCalibrationSet = true;
+        return this;
+    }
+
+    public SolverConfiguration<T, W> build() {
+        if (costMatrixFactory == null) throw new IllegalStateException("Missing cost matrix factory.");
+        if (searchStrategy == null) throw new IllegalStateException("Missing search strategy.");
+        if (!(sparseDensityThreshold >= 0 && sparseDensityThreshold <= 1))
+            throw new IllegalStateException("Sparse density threshold " + sparseDensityThreshold + " is not between 0 and 1.");
+        if (componentPool == null) throw new IllegalStateException("Missing component pool.");
+        EngineCalibration calibration = engineCalibrationSet ? engineCalibration : costMatrixFactorySet ? null : EngineCalibration.configured();
+        return new SolverConfiguration<>(costMatrixFactory, searchStrategy, sparseDensityThreshold, componentDecomposition, componentPool, dominatedGroupingPruning, calibration);
+    }
+}
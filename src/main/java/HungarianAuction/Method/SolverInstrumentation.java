@@ -0,0 +1,195 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Combinatorials.BinSearchCombAdvanced;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * <ul>
+ * <li>
+ *      Counters of the work done by one {@link CostMatrixSolver} and every matrix it builds: solves, crossing rounds, cost modifications, prime/star walks, augmenting paths, clones, combinations drawn and avoid-set hits.
+ * </li>
+ * <li>
+ *      Switched on by the {@value #ENABLED_PROPERTY} system property at startup. Every recording site is guarded by the constant {@link #ENABLED}, so with it off the JIT drops the sites and no counters are allocated.
+ * </li>
+ * <li>
+ *      The counters are adders, as component matrices are solved side by side on a pool. The JFR events around solves, clones, combinatorial draws and auction calls are emitted under the same switch.
+ * </li>
+ * </ul>
+ */
+public final class SolverInstrumentation {
+    public static final String ENABLED_PROPERTY = "HungarianAuction.instrumentation";
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Held by every solver and matrix while instrumentation is off. Nothing is ever recorded into it.
+     * */
+    static final SolverInstrumentation DISABLED = new SolverInstrumentation();
+
+    private final LongAdder matrixSolves = new LongAdder();
+    private final LongAdder crossingRounds = new LongAdder();
+    private final LongAdder costModifications = new LongAdder();
+    private final LongAdder primeStarWalks = new LongAdder();
+    private final LongAdder primeStarWalkSteps = new LongAdder();
+    private final LongAccumulator longestPrimeStarWalk = new LongAccumulator(Math::max, 0);
+    private final LongAdder augmentingPaths = new LongAdder();
+    private final LongAdder clones = new LongAdder();
+    private final LongAdder combinationsDrawn = new LongAdder();
+    private final LongAdder avoidSetHits = new LongAdder();
+
+    private SolverInstrumentation() {
+    }
+
+    /**
+     * Fresh counters for a new solver when instrumentation is on, otherwise {@link #DISABLED}.
+     * */
+    static SolverInstrumentation create() {
+        return ENABLED ? new SolverInstrumentation() : DISABLED;
+    }
+
+    /**
+     * Clones the template, counting the clone and timing it in a {@link MatrixCloneEvent}.
+     * */
+    static <T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> CostMatrixInterface<T, W> cloneOf(CostMatrixInterface<T, W> template) {
+        if (!ENABLED) return template.cloneMatrix();
+        MatrixCloneEvent event = new MatrixCloneEvent();
+        event.begin();
+        CostMatrixInterface<T, W> clone = template.cloneMatrix();
+        event.templateId = template.getId();
+        event.cloneId = clone.getId();
+        event.commit();
+        template.getInstrumentation().clones.increment();
+        return clone;
+    }
+
+    /**
+     * Runs one solve of the matrix, counting it and timing it in a {@link MatrixSolveEvent}.
+     * */
+    static boolean timeSolve(CostMatrixInterface<?, ?> costMatrix, BooleanSupplier solve) {
+        if (!ENABLED) return solve.getAsBoolean();
+        MatrixSolveEvent event = new MatrixSolveEvent();
+        event.begin();
+        boolean solved = solve.getAsBoolean();
+        event.matrixId = costMatrix.getId();
+        event.engine = costMatrix.getClass().getSimpleName();
+        event.solved = solved;
+        event.commit();
+        costMatrix.getInstrumentation().matrixSolves.increment();
+        return solved;
+    }
+
+    /**
+     * Draws the next combination, counting it with the avoided combinations skipped on the way and timing it in a {@link CombinatorialDrawEvent}.
+     * */
+    <E> Set<E> drawCombination(BinSearchCombAdvanced<E> combinatorial) {
+        if (!ENABLED) return combinatorial.next();
+        CombinatorialDrawEvent event = new CombinatorialDrawEvent();
+        event.begin();
+        long avoidSetHitsBefore = combinatorial.getAvoidSetHits();
+        Set<E> combination = combinatorial.next();
+        long avoidSetHitsDuringDraw = combinatorial.getAvoidSetHits() - avoidSetHitsBefore;
+        event.combinationSize = combination.size();
+        event.avoidSetHits = avoidSetHitsDuringDraw;
+        event.commit();
+        combinationsDrawn.increment();
+        avoidSetHits.add(avoidSetHitsDuringDraw);
+        return combination;
+    }
+
+    void recordCrossingRound() {
+        crossingRounds.increment();
+    }
+
+    void recordCostModification() {
+        costModifications.increment();
+    }
+
+    void recordPrimeStarWalk(int steps) {
+        primeStarWalks.increment();
+        primeStarWalkSteps.add(steps);
+        longestPrimeStarWalk.accumulate(steps);
+    }
+
+    void recordAugmentingPath() {
+        augmentingPaths.increment();
+    }
+
+    /**
+     * Matrices run to a solution or to a dead end: by the solver itself, or by the k-best search.
+     * */
+    public long getMatrixSolves() {
+        return matrixSolves.sum();
+    }
+
+    /**
+     * Calls of <b>Loop 2</b> in the Hungarian engines.
+     * */
+    public long getCrossingRounds() {
+        return crossingRounds.sum();
+    }
+
+    /**
+     * Passes of <b>Loop 1</b> in the Hungarian engines.
+     * */
+    public long getCostModifications() {
+        return costModifications.sum();
+    }
+
+    public long getPrimeStarWalks() {
+        return primeStarWalks.sum();
+    }
+
+    /**
+     * The cells visited over every prime/star walk, primes and stars alike.
+     * */
+    public long getPrimeStarWalkSteps() {
+        return primeStarWalkSteps.sum();
+    }
+
+    public long getLongestPrimeStarWalk() {
+        return longestPrimeStarWalk.get();
+    }
+
+    /**
+     * Searches run by the shortest augmenting path engines, one per task matched.
+     * */
+    public long getAugmentingPaths() {
+        return augmentingPaths.sum();
+    }
+
+    public long getClones() {
+        return clones.sum();
+    }
+
+    public long getCombinationsDrawn() {
+        return combinationsDrawn.sum();
+    }
+
+    /**
+     * Combinations skipped by the subset search because they contained an avoided set.
+     * */
+    public long getAvoidSetHits() {
+        return avoidSetHits.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SolverInstrumentation{" +
+                "matrixSolves=" + getMatrixSolves() +
+                ", crossingRounds=" + getCrossingRounds() +
+                ", costModifications=" + getCostModifications() +
+                ", primeStarWalks=" + getPrimeStarWalks() +
+                ", primeStarWalkSteps=" + getPrimeStarWalkSteps() +
+                ", longestPrimeStarWalk=" + getLongestPrimeStarWalk() +
+                ", augmentingPaths=" + getAugmentingPaths() +
+                ", clones=" + getClones() +
+                ", combinationsDrawn=" + getCombinationsDrawn() +
+                ", avoidSetHits=" + getAvoidSetHits() +
+                '}';
+    }
+}
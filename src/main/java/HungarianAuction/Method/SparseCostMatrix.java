@@ -0,0 +1,520 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.DoNothingTask;
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      Solves the same assignment problem as {@link ShortestPathCostMatrix}, holding only the finite cells: one compressed sparse row per real task.
+ * </li>
+ * <li>
+ *      DoNothingTasks are implicit, and need not be supplied. A worker grouping left unmatched by the real tasks is taken to be doing nothing, at the padding cost of zero.
+ * </li>
+ * <li>
+ *      Each real task is matched by a Dijkstra search over its finite edges with a binary heap, so memory and time scale with the number of viable bids rather than n^2.
+ * </li>
+ * </ul>
+ */
+public class SparseCostMatrix<T extends TaskSource<T, W>, W extends WorkerGrouping<T, W>> extends AbstractCostMatrix<T, W> {
+    private static final int UNMATCHED = -1;
+    private final int workerCount;
+    private final int rowCount;
+    private final int paddingCount;
+
+    /**
+     * The task index of each row. Rows exist for real tasks only.
+     * */
+    private final int[] taskForRow;
+    private final int[] rowForTask;
+
+    /**
+     * Compressed sparse rows: the edges of row r are {@code rowStart[r]} up to {@code rowStart[r + 1]}, sorted by worker index.
+     * <p>The structure is shared between clones until a finite cost is written to a missing edge.</p>
+     * */
+    private int[] rowStart;
+    private int[] edgeWorker;
+    private double[] edgeCost;
+
+    private double[] taskReductions;
+    private double[] workerReductions;
+
+    private double[] rowPotentials;
+    private double[] workerPotentials;
+    private int[] workerForRow;
+    private int[] rowForWorker;
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>Reads each task's worker grouping offers directly, so the infinite cells are never visited.</p>
+     * */
+    public SparseCostMatrix(List<WorkerGrouping<T, W>> workerGroupings, List<TaskRequest<T, W>> tasks) {
+        super(List.copyOf(workerGroupings), List.copyOf(tasks));
+        this.workerCount = this.workers.size();
+
+        Map<WorkerGrouping<T, W>, Integer> workerIndices = new HashMap<>();
+        for (int worker = 0; worker < workerCount; worker++) {
+            workerIndices.put(this.workers.get(worker), worker);
+        }
+
+        this.rowForTask = new int[this.tasks.size()];
+        List<Integer> realTasks = new ArrayList<>();
+        for (int task = 0; task < this.tasks.size(); task++) {
+            if (this.tasks.get(task) instanceof DoNothingTask<T, W>) {
+                rowForTask[task] = UNMATCHED;
+            } else {
+                rowForTask[task] = realTasks.size();
+                realTasks.add(task);
+            }
+        }
+        this.rowCount = realTasks.size();
+        this.paddingCount = this.tasks.size() - rowCount;
+        if (rowCount > workerCount)
+            throw new IllegalArgumentException(rowCount + " tasks cannot be matched to " + workerCount + " worker groupings.");
+        this.taskForRow = realTasks.stream().mapToInt(Integer::intValue).toArray();
+
+        this.rowStart = new int[rowCount + 1];
+        List<int[]> rowWorkers = new ArrayList<>(rowCount);
+        List<double[]> rowCosts = new ArrayList<>(rowCount);
+        int edgeCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            Map<WorkerGrouping<T, W>, TaskCost> offers = this.tasks.get(taskForRow[row]).getWorkerGroupingMap();
+            int[] workersInRow = new int[offers.size()];
+            double[] costsInRow = new double[offers.size()];
+            int edgesInRow = 0;
+            for (Map.Entry<WorkerGrouping<T, W>, TaskCost> offer : offers.entrySet()) {
+                Integer worker = workerIndices.get(offer.getKey());
+                double cost = offer.getValue().getFinalValue();
+                if (worker == null || cost == Double.POSITIVE_INFINITY) continue;
+                workersInRow[edgesInRow] = worker;
+                costsInRow[edgesInRow] = cost;
+                edgesInRow++;
+            }
+            sortRowByWorker(workersInRow, costsInRow, edgesInRow);
+            rowWorkers.add(workersInRow);
+            rowCosts.add(costsInRow);
+            rowStart[row] = edgeCount;
+            edgeCount += edgesInRow;
+        }
+        rowStart[rowCount] = edgeCount;
+
+        this.edgeWorker = new int[edgeCount];
+        this.edgeCost = new double[edgeCount];
+        for (int row = 0; row < rowCount; row++) {
+            int edgesInRow = rowStart[row + 1] - rowStart[row];
+            System.arraycopy(rowWorkers.get(row), 0, edgeWorker, rowStart[row], edgesInRow);
+            System.arraycopy(rowCosts.get(row), 0, edgeCost, rowStart[row], edgesInRow); // INITIALIZATION
+        }
+
+        this.taskReductions = new double[this.tasks.size()];
+        this.workerReductions = new double[workerCount];
+        this.rowPotentials = new double[rowCount];
+        this.workerPotentials = new double[workerCount];
+        this.workerForRow = new int[rowCount];
+        this.rowForWorker = new int[workerCount];
+        Arrays.fill(workerForRow, UNMATCHED);
+        Arrays.fill(rowForWorker, UNMATCHED);
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    private SparseCostMatrix(SparseCostMatrix<T, W> template) {
+        super(template);
+        this.workerCount = template.workerCount;
+        this.rowCount = template.rowCount;
+        this.paddingCount = template.paddingCount;
+        this.taskForRow = template.taskForRow;
+        this.rowForTask = template.rowForTask;
+        this.rowStart = template.rowStart;
+        this.edgeWorker = template.edgeWorker;
+        this.edgeCost = template.edgeCost.clone();
+        this.taskReductions = template.taskReductions;
+        this.workerReductions = template.workerReductions;
+        this.rowPotentials = template.rowPotentials.clone();
+        this.workerPotentials = template.workerPotentials.clone();
+        this.workerForRow = template.workerForRow.clone();
+        this.rowForWorker = template.rowForWorker.clone();
+    }
+
+    /**
+     * Escape hatch for unsolvable matrices.
+     * <p>Every worker grouping can do nothing while there are fewer real tasks, so then only the real rows need a finite edge.</p>
+     * */
+    @Override
+    public boolean checkRowsAndColumnsAreViable() {
+        boolean[] workerHasEdge = new boolean[workerCount];
+        for (int row = 0; row < rowCount; row++) {
+            boolean rowHasEdge = false;
+            for (int edge = rowStart[row]; edge < rowStart[row + 1]; edge++) {
+                if (edgeCost[edge] == Double.POSITIVE_INFINITY) continue;
+                rowHasEdge = true;
+                workerHasEdge[edgeWorker[edge]] = true;
+            }
+            if (!rowHasEdge) return false;
+        }
+        if (rowCount < workerCount) return true;
+        for (boolean hasEdge : workerHasEdge) {
+            if (!hasEdge) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Outcome retrieval: the marginal cost left after the initial reductions.
+     * */
+    @Override
+    public double getAssignmentCost(Assignment<T, W> assignment) {
+        int workerIndex = workerIndexOf(assignment);
+        int taskIndex = taskIndexOf(assignment);
+        if (workerIndex < 0 || taskIndex < 0) return -1D;
+        int row = rowForTask[taskIndex];
+        double cost = row == UNMATCHED ? 0 : edgeCostAt(row, workerIndex);
+        return cost - taskReductions[taskIndex] - workerReductions[workerIndex];
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * */
+    @Override
+    public CostMatrixInterface<T, W> cloneMatrix() {
+        return new SparseCostMatrix<>(this);
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process.
+     * <p>Records the same task-then-worker reductions as {@link CostMatrix}, with the implicit padding rows at zero.</p>
+     * <p>The solve always starts cold: each row potential is its cheapest edge and each worker potential is zero.</p>
+     * */
+    @Override
+    public void computeMarginalTaskCosts() {
+        double[] newTaskReductions = new double[tasks.size()];
+        double[] newWorkerReductions = new double[workerCount];
+        Arrays.fill(newWorkerReductions, rowCount < workerCount ? 0 : Double.POSITIVE_INFINITY);
+        this.rowPotentials = new double[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            double lowestValue = Double.POSITIVE_INFINITY;
+            for (int edge = rowStart[row]; edge < rowStart[row + 1]; edge++) {
+                lowestValue = Math.min(lowestValue, edgeCost[edge]);
+            }
+            double taskReduction = lowestValue == Double.POSITIVE_INFINITY ? 0 : lowestValue;
+            newTaskReductions[taskForRow[row]] = taskReduction;
+            rowPotentials[row] = taskReduction;
+            for (int edge = rowStart[row]; edge < rowStart[row + 1]; edge++) {
+                int worker = edgeWorker[edge];
+                newWorkerReductions[worker] = Math.min(newWorkerReductions[worker], edgeCost[edge] - taskReduction);
+            }
+        }
+        for (int worker = 0; worker < workerCount; worker++) {
+            if (newWorkerReductions[worker] == Double.POSITIVE_INFINITY) newWorkerReductions[worker] = 0;
+        }
+        this.taskReductions = newTaskReductions;
+        this.workerReductions = newWorkerReductions;
+
+        this.workerPotentials = new double[workerCount];
+        this.workerForRow = new int[rowCount];
+        this.rowForWorker = new int[workerCount];
+        Arrays.fill(workerForRow, UNMATCHED);
+        Arrays.fill(rowForWorker, UNMATCHED);
+    }
+
+    /**
+     * <b>Solve:</b> grows one shortest augmenting path from every unmatched real task.
+     * <p><b>True</b> means the matrix is solved: the worker groupings left over are doing nothing.</p>
+     * <p><b>False</b> means no complete assignment of finite cost exists.</p>
+     * */
+    @Override
+    public boolean applyMinimumCrossings() {
+        double[] workerDistance = new double[workerCount];
+        double[] rowDistance = new double[rowCount];
+        int[] previousRow = new int[workerCount];
+        boolean[] workerSettled = new boolean[workerCount];
+        int[] settledRows = new int[rowCount];
+        int[] touchedWorkers = new int[workerCount];
+        Arrays.fill(workerDistance, Double.POSITIVE_INFINITY);
+        WorkerHeap workerHeap = new WorkerHeap(workerCount, workerDistance);
+        for (int row = 0; row < rowCount; row++) {
+            if (workerForRow[row] != UNMATCHED) continue;
+            if (!augmentFromRow(row, workerDistance, rowDistance, previousRow, workerSettled, workerHeap, settledRows, touchedWorkers)) return false;
+        }
+
+        assignedTasks.clear();
+        for (int row = 0; row < rowCount; row++) {
+            confirmAssignment(workerForRow[row], taskForRow[row]);
+        }
+        return true;
+    }
+
+    /**
+     * <b>Solve:</b> Dijkstra over the reduced costs of the finite edges, from a free row to the nearest free worker grouping.
+     * Settled rows and workers have their potentials moved so every edge stays non-negative and the new path is tight.
+     * <p>The settled rows and touched workers are listed in buffers shared by every augmentation of the solve: each is listed at most once per search.</p>
+     * */
+    private boolean augmentFromRow(int freeRow, double[] workerDistance, double[] rowDistance, int[] previousRow, boolean[] workerSettled, WorkerHeap workerHeap, int[] settledRows, int[] touchedWorkers) {
+        if (SolverInstrumentation.ENABLED) getInstrumentation().recordAugmentingPath();
+        int settledRowCount = 0;
+        rowDistance[freeRow] = 0;
+        settledRows[settledRowCount++] = freeRow;
+        int touchedWorkerCount = relaxRow(freeRow, workerDistance, rowDistance, previousRow, workerSettled, workerHeap, touchedWorkers, 0);
+
+        int sinkWorker = UNMATCHED;
+        while (!workerHeap.isEmpty()) {
+            int worker = workerHeap.poll();
+            workerSettled[worker] = true;
+            if (rowForWorker[worker] == UNMATCHED) {
+                sinkWorker = worker;
+                break;
+            }
+            int matchedRow = rowForWorker[worker];
+            rowDistance[matchedRow] = workerDistance[worker];
+            settledRows[settledRowCount++] = matchedRow;
+            touchedWorkerCount = relaxRow(matchedRow, workerDistance, rowDistance, previousRow, workerSettled, workerHeap, touchedWorkers, touchedWorkerCount);
+        }
+
+        if (sinkWorker != UNMATCHED) {
+            double pathLength = workerDistance[sinkWorker];
+            for (int settled = 0; settled < settledRowCount; settled++) {
+                int row = settledRows[settled];
+                rowPotentials[row] += pathLength - rowDistance[row];
+            }
+            for (int touched = 0; touched < touchedWorkerCount; touched++) {
+                int worker = touchedWorkers[touched];
+                if (workerSettled[worker]) workerPotentials[worker] -= pathLength - workerDistance[worker];
+            }
+            int worker = sinkWorker;
+            while (true) {
+                int row = previousRow[worker];
+                int nextWorker = workerForRow[row];
+                rowForWorker[worker] = row;
+                workerForRow[row] = worker;
+                if (row == freeRow) break;
+                worker = nextWorker;
+            }
+        }
+
+        for (int touched = 0; touched < touchedWorkerCount; touched++) {
+            int worker = touchedWorkers[touched];
+            workerDistance[worker] = Double.POSITIVE_INFINITY;
+            workerSettled[worker] = false;
+        }
+        workerHeap.clear();
+        return sinkWorker != UNMATCHED;
+    }
+
+    /**
+     * Part of the <b>Solve</b> search: offers every finite edge of a settled row to the heap.
+     * <p>Returns the count of touched workers, after listing the ones reached for the first time.</p>
+     * */
+    private int relaxRow(int row, double[] workerDistance, double[] rowDistance, int[] previousRow, boolean[] workerSettled, WorkerHeap workerHeap, int[] touchedWorkers, int touchedWorkerCount) {
+        for (int edge = rowStart[row]; edge < rowStart[row + 1]; edge++) {
+            int worker = edgeWorker[edge];
+            double cost = edgeCost[edge];
+            if (workerSettled[worker] || cost == Double.POSITIVE_INFINITY) continue;
+            double distance = rowDistance[row] + cost - rowPotentials[row] - workerPotentials[worker];
+            if (distance < workerDistance[worker]) {
+                if (workerDistance[worker] == Double.POSITIVE_INFINITY) touchedWorkers[touchedWorkerCount++] = worker;
+                workerDistance[worker] = distance;
+                previousRow[worker] = row;
+                workerHeap.offer(worker);
+            }
+        }
+        return touchedWorkerCount;
+    }
+
+    /**
+     * The shortest path method finishes inside {@link #applyMinimumCrossings()}, so there is never a modification to make.
+     * */
+    @Override
+    public boolean modifyCostsByLowestUncrossedValue() {
+        return false;
+    }
+
+    /**
+     * Part of the <b>Iterate Matrix</b> process.
+     * <p>Padding is implicit and interchangeable, so overrides on a DoNothingTask are ignored.</p>
+     * */
+    @Override
+    public void overrideAssignmentCost(Assignment<T, W> invalidAssignment, double cost) {
+        int taskIndex = taskIndexOf(invalidAssignment);
+        int workerIndex = workerIndexOf(invalidAssignment);
+        if (taskIndex < 0 || workerIndex < 0 || rowForTask[taskIndex] == UNMATCHED)
+            return;
+        int row = rowForTask[taskIndex];
+        int edge = findEdge(row, workerIndex);
+        if (edge >= 0) {
+            edgeCost[edge] = cost; // MODIFICATION
+        } else if (cost != Double.POSITIVE_INFINITY) {
+            insertEdge(row, -edge - 1, workerIndex, cost);
+        }
+    }
+
+    /**
+     * Reads the finite edges straight from the rows. An implicit DoNothingTask can take any worker grouping.
+     * */
+    @Override
+    protected int[][] finiteWorkersByTask() {
+        int[][] workersByTask = new int[this.tasks.size()][];
+        int[] allWorkers = new int[workerCount];
+        Arrays.setAll(allWorkers, worker -> worker);
+        int[] finiteWorkers = new int[workerCount];
+        for (int task = 0; task < this.tasks.size(); task++) {
+            int row = rowForTask[task];
+            if (row == UNMATCHED) {
+                workersByTask[task] = allWorkers;
+                continue;
+            }
+            int finiteCount = 0;
+            for (int edge = rowStart[row]; edge < rowStart[row + 1]; edge++) {
+                if (edgeCost[edge] != Double.POSITIVE_INFINITY) finiteWorkers[finiteCount++] = edgeWorker[edge];
+            }
+            workersByTask[task] = Arrays.copyOf(finiteWorkers, finiteCount);
+        }
+        return workersByTask;
+    }
+
+    @Override
+    public boolean anyNaN() {
+        for (double cost : edgeCost) {
+            if (Double.isNaN(cost)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the position of the edge, or {@code -(insertion point) - 1} when the row has no such edge.
+     * */
+    private int findEdge(int row, int worker) {
+        return Arrays.binarySearch(edgeWorker, rowStart[row], rowStart[row + 1], worker);
+    }
+
+    private double edgeCostAt(int row, int worker) {
+        int edge = findEdge(row, worker);
+        return edge >= 0 ? edgeCost[edge] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Rebuilds the structure with one more edge. Fresh arrays are allocated, so clones sharing the old structure are untouched.
+     * */
+    private void insertEdge(int row, int position, int worker, double cost) {
+        int edgeCount = edgeWorker.length;
+        int[] newEdgeWorker = new int[edgeCount + 1];
+        double[] newEdgeCost = new double[edgeCount + 1];
+        System.arraycopy(edgeWorker, 0, newEdgeWorker, 0, position);
+        System.arraycopy(edgeCost, 0, newEdgeCost, 0, position);
+        newEdgeWorker[position] = worker;
+        newEdgeCost[position] = cost; // MODIFICATION
+        System.arraycopy(edgeWorker, position, newEdgeWorker, position + 1, edgeCount - position);
+        System.arraycopy(edgeCost, position, newEdgeCost, position + 1, edgeCount - position);
+        int[] newRowStart = rowStart.clone();
+        for (int laterRow = row + 1; laterRow <= rowCount; laterRow++) {
+            newRowStart[laterRow]++;
+        }
+        this.rowStart = newRowStart;
+        this.edgeWorker = newEdgeWorker;
+        this.edgeCost = newEdgeCost;
+    }
+
+    /**
+     * Part of the <b>Init Matrix</b> process: insertion sort, as rows are short.
+     * */
+    private static void sortRowByWorker(int[] workersInRow, double[] costsInRow, int edgesInRow) {
+        for (int edge = 1; edge < edgesInRow; edge++) {
+            int worker = workersInRow[edge];
+            double cost = costsInRow[edge];
+            int position = edge - 1;
+            while (position >= 0 && workersInRow[position] > worker) {
+                workersInRow[position + 1] = workersInRow[position];
+                costsInRow[position + 1] = costsInRow[position];
+                position--;
+            }
+            workersInRow[position + 1] = worker;
+            costsInRow[position + 1] = cost;
+        }
+    }
+
+    /**
+     * Binary min-heap of worker indices keyed on their tentative distance, with decrease-key.
+     * */
+    private static final class WorkerHeap {
+        private final int[] heap;
+        private final int[] positionOfWorker;
+        private final double[] distance;
+        private int size = 0;
+
+        private WorkerHeap(int workerCount, double[] distance) {
+            this.heap = new int[workerCount];
+            this.positionOfWorker = new int[workerCount];
+            this.distance = distance;
+            Arrays.fill(positionOfWorker, UNMATCHED);
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Inserts the worker, or moves it up after its distance was lowered.
+         * */
+        private void offer(int worker) {
+            int position = positionOfWorker[worker];
+            if (position == UNMATCHED) {
+                position = size++;
+                heap[position] = worker;
+                positionOfWorker[worker] = position;
+            }
+            siftUp(position);
+        }
+
+        private int poll() {
+            int top = heap[0];
+            positionOfWorker[top] = UNMATCHED;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positionOfWorker[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void clear() {
+            for (int position = 0; position < size; position++) {
+                positionOfWorker[heap[position]] = UNMATCHED;
+            }
+            size = 0;
+        }
+
+        private void siftUp(int position) {
+            int worker = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (distance[heap[parent]] <= distance[worker]) break;
+                heap[position] = heap[parent];
+                positionOfWorker[heap[position]] = position;
+                position = parent;
+            }
+            heap[position] = worker;
+            positionOfWorker[worker] = position;
+        }
+
+        private void siftDown(int position) {
+            int worker = heap[position];
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) break;
+                if (child + 1 < size && distance[heap[child + 1]] < distance[heap[child]]) child++;
+                if (distance[worker] <= distance[heap[child]]) break;
+                heap[position] = heap[child];
+                positionOfWorker[heap[position]] = position;
+                position = child;
+            }
+            heap[position] = worker;
+            positionOfWorker[worker] = position;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package HungarianAuction.Method;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <ul>
+ * <li>
+ *      The sweeps of {@link CostSweepKernel} over {@link DoubleVector} lanes, with a scalar tail for the columns past the last full vector.
+ * </li>
+ * <li>
+ *      Column minima are accumulated row by row into a minima vector, so no pass strides down a column.
+ * </li>
+ * <li>
+ *      The crossing coefficient becomes a lane mask read from the column cross flags, chosen per row by the row's own flag.
+ * </li>
+ * <li>
+ *      Needs the {@code jdk.incubator.vector} module at runtime; {@link CostSweepKernel#vectorised()} falls back to the scalar kernel without it.
+ * </li>
+ * </ul>
+ */
+final class VectorCostSweepKernel extends CostSweepKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorCostSweepKernel INSTANCE = new VectorCostSweepKernel();
+
+    private VectorCostSweepKernel() {
+    }
+
+    /**
+     * Only called once the module is known to be present, so this class is never loaded without it.
+     * */
+    static CostSweepKernel create() {
+        return INSTANCE;
+    }
+
+    @Override
+    void columnMinima(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        int vectorBound = SPECIES.loopBound(size);
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, costs, rowStart + column)
+                        .min(DoubleVector.fromArray(SPECIES, columnMinima, column))
+                        .intoArray(columnMinima, column);
+            }
+            for (; column < size; column++) {
+                columnMinima[column] = Math.min(columnMinima[column], costs[rowStart + column]);
+            }
+        }
+    }
+
+    @Override
+    void subtractFromColumns(double[] costs, int size, int fromRow, int toRow, double[] columnMinima) {
+        int vectorBound = SPECIES.loopBound(size);
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, costs, rowStart + column)
+                        .sub(DoubleVector.fromArray(SPECIES, columnMinima, column))
+                        .intoArray(costs, rowStart + column); // MODIFICATION
+            }
+            for (; column < size; column++) {
+                costs[rowStart + column] -= columnMinima[column]; // MODIFICATION
+            }
+        }
+    }
+
+    @Override
+    void subtractRowMinima(double[] costs, int size, int fromRow, int toRow) {
+        int vectorBound = SPECIES.loopBound(size);
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            DoubleVector lowestValues = DoubleVector.broadcast(SPECIES, Double.MAX_VALUE);
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                lowestValues = lowestValues.min(DoubleVector.fromArray(SPECIES, costs, rowStart + column));
+            }
+            double lowestValueChecked = lowestValues.reduceLanes(VectorOperators.MIN);
+            for (; column < size; column++) {
+                lowestValueChecked = Math.min(lowestValueChecked, costs[rowStart + column]);
+            }
+            column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, costs, rowStart + column)
+                        .sub(lowestValueChecked)
+                        .intoArray(costs, rowStart + column); // MODIFICATION
+            }
+            for (; column < size; column++) {
+                costs[rowStart + column] -= lowestValueChecked; // MODIFICATION
+            }
+        }
+    }
+
+    @Override
+    void markZeros(double[] costs, int size, int fromRow, int toRow, long[] zeroLocations, int wordsPerRow) {
+        int vectorBound = SPECIES.loopBound(size);
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                long zeroLanes = DoubleVector.fromArray(SPECIES, costs, rowStart + column).compare(VectorOperators.EQ, 0).toLong();
+                // The lane count divides a word, so a vector's lanes never straddle two words.
+                if (zeroLanes != 0) zeroLocations[row * wordsPerRow + (column >>> 6)] |= zeroLanes << column;
+            }
+            for (; column < size; column++) {
+                if (costs[rowStart + column] == 0) setBit(zeroLocations, wordsPerRow, row, column);
+            }
+        }
+    }
+
+    @Override
+    double lowestUncrossedValue(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed) {
+        int vectorBound = SPECIES.loopBound(size);
+        double lowestUncrossedValue = Double.MAX_VALUE;
+        for (int row = fromRow; row < toRow; row++) {
+            if (rowsCrossed[row]) continue;
+            int rowStart = row * size;
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                VectorMask<Double> uncrossedColumns = VectorMask.fromArray(SPECIES, columnsCrossed, column).not();
+                double lowestInLanes = DoubleVector.fromArray(SPECIES, costs, rowStart + column).reduceLanes(VectorOperators.MIN, uncrossedColumns);
+                lowestUncrossedValue = Math.min(lowestUncrossedValue, lowestInLanes);
+            }
+            for (; column < size; column++) {
+                if (!columnsCrossed[column])
+                    lowestUncrossedValue = Math.min(lowestUncrossedValue, costs[rowStart + column]);
+            }
+        }
+        return lowestUncrossedValue;
+    }
+
+    @Override
+    boolean shiftByCrossings(double[] costs, int size, int fromRow, int toRow, boolean[] rowsCrossed, boolean[] columnsCrossed, double shift, long[] zeroLocations, int wordsPerRow) {
+        int vectorBound = SPECIES.loopBound(size);
+        boolean anyFiniteValuesShifted = false;
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * size;
+            boolean rowCrossed = rowsCrossed[row];
+            // A crossed row adds the shift where its column is crossed too; an uncrossed row subtracts it where its column is uncrossed.
+            double signedShift = rowCrossed ? shift : -shift;
+            int column = 0;
+            for (; column < vectorBound; column += SPECIES.length()) {
+                VectorMask<Double> crossedColumns = VectorMask.fromArray(SPECIES, columnsCrossed, column);
+                VectorMask<Double> shiftedLanes = rowCrossed ? crossedColumns : crossedColumns.not();
+                DoubleVector values = DoubleVector.fromArray(SPECIES, costs, rowStart + column);
+                VectorMask<Double> finiteLanes = values.compare(VectorOperators.NE, Double.POSITIVE_INFINITY);
+                shiftedLanes = shiftedLanes.and(finiteLanes);
+                anyFiniteValuesShifted = anyFiniteValuesShifted || shiftedLanes.anyTrue();
+                DoubleVector modifiedValues = values.add(signedShift, shiftedLanes);
+                modifiedValues.intoArray(costs, rowStart + column); // MODIFICATION
+                long zeroLanes = modifiedValues.compare(VectorOperators.EQ, 0).and(finiteLanes).toLong();
+                if (zeroLanes != 0) zeroLocations[row * wordsPerRow + (column >>> 6)] |= zeroLanes << column;
+            }
+            for (; column < size; column++) {
+                int cell = rowStart + column;
+                if (costs[cell] == Double.POSITIVE_INFINITY)
+                    continue;
+                int crossingsCoefficient = -1;
+                if (rowCrossed) crossingsCoefficient += 1;
+                if (columnsCrossed[column]) crossingsCoefficient += 1;
+                anyFiniteValuesShifted = anyFiniteValuesShifted || crossingsCoefficient != 0;
+                double modifiedValue = costs[cell] + (crossingsCoefficient * shift);
+                costs[cell] = modifiedValue; // MODIFICATION
+                if (modifiedValue == 0) setBit(zeroLocations, wordsPerRow, row, column);
+            }
+        }
+        return anyFiniteValuesShifted;
+    }
+
+    @Override
+    boolean anyNaN(double[] costs, int size, int fromRow, int toRow) {
+        int from = fromRow * size;
+        int to = toRow * size;
+        int vectorBound = from + SPECIES.loopBound(to - from);
+        int cell = from;
+        for (; cell < vectorBound; cell += SPECIES.length()) {
+            if (DoubleVector.fromArray(SPECIES, costs, cell).test(VectorOperators.IS_NAN).anyTrue()) return true;
+        }
+        for (; cell < to; cell++) {
+            if (Double.isNaN(costs[cell])) return true;
+        }
+        return false;
+    }
+}
@@ -15,6 +15,8 @@ public class VoidOrderComparatorBuilder<T extends TaskSource<T, W>, W extends Wo
 
     private Map<TaskRequest<T,W>, Set<WorkerGrouping<T,W>>> viableAssignmentMap;
 
+    private static final int NOT_RANKED = -1;
+
     public VoidOrderComparatorBuilder<T,W> setWorkerGroupings(List<WorkerGrouping<T, W>> workerGroupings) {
         this.workerGroupings = workerGroupings;
         return this;
@@ -36,7 +38,11 @@ public class VoidOrderComparatorBuilder<T extends TaskSource<T, W>, W extends Wo
         List<Assignment<T, W>> assignmentListVoidOrder = getAssignmentListVoidOrder();
 
         if (assignmentListVoidOrder.isEmpty()) return null;
-        return Comparator.comparingInt(assignmentListVoidOrder::indexOf);
+        Map<Assignment<T, W>, Integer> voidOrderRanks = new LinkedHashMap<>();
+        for (int rank = assignmentListVoidOrder.size() - 1; rank >= 0; rank--) {
+            voidOrderRanks.put(assignmentListVoidOrder.get(rank), rank);
+        }
+        return Comparator.comparingInt(assignment -> voidOrderRanks.getOrDefault(assignment, NOT_RANKED));
     }
 
     public VoidOrderComparatorBuilder() {
@@ -58,7 +64,7 @@ public class VoidOrderComparatorBuilder<T extends TaskSource<T, W>, W extends Wo
         });
 
         int numberOfTasks = viableAssignmentListMap.keySet().size();
-        Set<TaskRequest<T, W>> tasksWithNoMoreAssignments = new HashSet<>();
+        Set<TaskRequest<T, W>> tasksWithNoMoreAssignments = new LinkedHashSet<>();
         while (tasksWithNoMoreAssignments.size() < numberOfTasks) {
             for (Map.Entry<TaskRequest<T, W>, List<Assignment<T, W>>> entry : viableAssignmentListMap.entrySet()) {
                 TaskRequest<T, W> task = entry.getKey();
@@ -78,13 +84,13 @@ public class VoidOrderComparatorBuilder<T extends TaskSource<T, W>, W extends Wo
      * <h4>Iterating</h4>
      * */
     private Set<Assignment<T, W>> convertToHypotheticalAssignments(TaskRequest<T, W> task, Set<WorkerGrouping<T, W>> set) {
-        return set.stream().map(tWorkerGrouping -> new Assignment<>(task, tWorkerGrouping)).collect(Collectors.toSet());
+        return set.stream().map(tWorkerGrouping -> new Assignment<>(task, tWorkerGrouping)).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private TreeSet<Assignment<T, W>> putAssignmentsInRowColumnSumOrder(Set<Assignment<T, W>> assignmentSet) {
         Comparator<Assignment<T, W>> assignmentComparator = new AssignmentComparatorBuilder<>(this.workerGroupings, this.taskRequests).build();
         TreeSet<Assignment<T, W>> assignmentTreeSet = new TreeSet<>(assignmentComparator);
-        Set<Assignment<T, W>> actualTaskAssignments = assignmentSet.stream().filter(CostMatrixSolver::doNothingTaskFilter).collect(Collectors.toSet());
+        Set<Assignment<T, W>> actualTaskAssignments = assignmentSet.stream().filter(CostMatrixSolver::doNothingTaskFilter).collect(Collectors.toCollection(LinkedHashSet::new));
         assignmentTreeSet.addAll(actualTaskAssignments);
         return assignmentTreeSet;
     }
@@ -92,15 +98,15 @@ public class VoidOrderComparatorBuilder<T extends TaskSource<T, W>, W extends Wo
     /**
      * <h4>Iterating</h4>
      * @param viableAssignmentMap: The map of tasks to viable assignments that backs the comparator.
-     * @return Comparator, ordering by ascending number of viable assignments, then hashcode as tiebreaker.
+     * @return Comparator, ordering by ascending number of viable assignments, then task id as tiebreaker.
      */
     @NotNull
     private Comparator<TaskRequest<T, W>> getViableAssignmentCountComparator(Map<TaskRequest<T, W>, Set<WorkerGrouping<T, W>>> viableAssignmentMap) {
         return (task1, task2) -> {
             int count1 = viableAssignmentMap.get(task1).size();
             int count2 = viableAssignmentMap.get(task2).size();
-            if (count1 != count2) return count1 - count2;
-            else return task1.hashCode() - task2.hashCode();
+            if (count1 != count2) return Integer.compare(count1, count2);
+            else return Integer.compare(task1.getId(), task2.getId());
         };
     }
 
@@ -12,7 +12,7 @@ public class TaskBatch<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
     private static final int NO_NESTING = 0;
     private static final int BASE_TASK_SIZE = 1;
     private static final AtomicInteger taskBatchCounter = new AtomicInteger();
-    private final Set<TaskRequest<T, W>> tasks = new HashSet<>();
+    private final Set<TaskRequest<T, W>> tasks = new LinkedHashSet<>();
     private final int degreeOfNesting;
     private final int taskSize;
 
@@ -48,7 +48,7 @@ public class TaskBatch<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
         Comparator<TaskBatch<T,W>> taskLength = Comparator.comparing(TaskBatch::getTaskSize);
         Comparator<TaskBatch<T,W>> size = Comparator.comparing(TaskBatch::getBatchSize);
         Comparator<TaskBatch<T,W>> bandwidth = Comparator.comparing(TaskBatch::getTotalTaskBandwidth);
-        Comparator<TaskBatch<T,W>> taskID = Comparator.comparing(TaskBatch::hashCode);
+        Comparator<TaskBatch<T,W>> taskID = Comparator.comparingInt(TaskBatch::getId);
 
         return nesting // Least nesting first - i.e. the root of the allocation tree.
                 .thenComparing(taskLength.reversed())  // Largest task lengths first.
@@ -58,6 +58,13 @@ public class TaskBatch<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
 
     }
 
+    /**
+     * Unique per batch and in creation order, so orderings tied on everything else are the same from run to run.
+     */
+    public int getId() {
+        return this.id;
+    }
+
     public int getDegreeOfNesting() {
         return this.degreeOfNesting;
     }
@@ -103,7 +110,7 @@ public class TaskBatch<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
 
     @NotNull
     public Set<Assignment<T,W>> getOutcomes() {
-        if (outcomes == null) return new HashSet<>();
+        if (outcomes == null) return new LinkedHashSet<>();
         return outcomes;
     }
 
@@ -119,7 +126,10 @@ public class TaskBatch<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
                 .orElse(0);
     }
 
+    /**
+     * The tasks of this batch, in the order they were supplied.
+     */
     public Set<TaskRequest<T,W>> getTasks() {
-        return new HashSet<>(tasks);
+        return new LinkedHashSet<>(tasks);
     }
 }
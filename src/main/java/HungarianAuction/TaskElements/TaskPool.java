@@ -20,7 +20,7 @@ public class TaskPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
     private final Map<Integer, List<List<TaskRequest<T,W>>>> nestedTaskOfferingListsMap = new HashMap<>();
 
     public TaskPool(Collection<TaskRequest<T,W>> taskRequests) {
-        this.taskRequests = new HashSet<>(taskRequests);
+        this.taskRequests = new LinkedHashSet<>(taskRequests);
         sortTasksIntoNestedLists();
         nestedTaskOfferingListsMap.keySet().forEach(this::mapListOfListsToBatches);
     }
@@ -73,6 +73,6 @@ public class TaskPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>>
     }
 
     public Set<TaskSource<T,W>> getSources() {
-        return taskRequests.stream().map(TaskRequest::getTaskSource).collect(Collectors.toSet());
+        return taskRequests.stream().map(TaskRequest::getTaskSource).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 }
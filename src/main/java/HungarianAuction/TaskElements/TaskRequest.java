@@ -14,7 +14,7 @@ public class TaskRequest<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W
 
     private final int id;
 
-    private final Map<WorkerGrouping<T,W>, TaskCost> mapWorkerGroupingTaskCost = new HashMap<>();
+    private final Map<WorkerGrouping<T,W>, TaskCost> mapWorkerGroupingTaskCost = new LinkedHashMap<>();
 
     public TaskRequest(TaskSource<T,W> taskSource, EntryToken<T,W> token) {
         this.taskSource = taskSource;
@@ -85,7 +85,7 @@ public class TaskRequest<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W
 
 
     public Map<WorkerGrouping<T,W>, TaskCost> getWorkerGroupingMap() {
-        return Map.copyOf(mapWorkerGroupingTaskCost);
+        return Collections.unmodifiableMap(mapWorkerGroupingTaskCost);
     }
 
     public void removeWorkerGroupingOffer(WorkerGrouping<T,W> tWorker) {
@@ -100,7 +100,10 @@ public class TaskRequest<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W
         mapWorkerGroupingTaskCost.clear();
     }
 
-    protected int getId() {
+    /**
+     * Unique per task, DoNothingTasks included, and in creation order. The solver breaks its ties on it.
+     */
+    public int getId() {
         return id;
     }
 
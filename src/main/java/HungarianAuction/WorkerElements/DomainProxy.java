@@ -25,12 +25,12 @@ public class DomainProxy<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W
 
     private final int proxySize;
     private final Set<WorkerGrouping<T,W>> proxySet;
-    private final Map<TaskRequest<T,W>, WorkerGrouping<T,W>> optimalWorkerMap = new HashMap<>();
-    private final Map<TaskRequest<T,W>, TaskCost> bestCostMap = new HashMap<>();
+    private final Map<TaskRequest<T,W>, WorkerGrouping<T,W>> optimalWorkerMap = new LinkedHashMap<>();
+    private final Map<TaskRequest<T,W>, TaskCost> bestCostMap = new LinkedHashMap<>();
 
 
     public DomainProxy(Set<WorkerGrouping<T,W>> proxySet, int proxySize) {
-        this.proxySet = Set.copyOf(proxySet);
+        this.proxySet = Collections.unmodifiableSet(new LinkedHashSet<>(proxySet));
         this.proxySize = proxySize;
     }
 
@@ -52,7 +52,7 @@ public class DomainProxy<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W
 
     @Override
     public Set<Worker<T,W>> getWorkers() {
-        return proxySet.stream().map(WorkerGrouping::getWorkers).flatMap(Set::stream).collect(Collectors.toSet());
+        return proxySet.stream().map(WorkerGrouping::getWorkers).flatMap(Set::stream).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     @Override
@@ -17,16 +17,16 @@ public class WorkerDomain<T extends TaskSource<T,W>, W extends WorkerGrouping<T,
 
 
 
-    final Map<Worker<T,W>, Set<WorkerGrouping<T,W>>> unitToWorkerGroupingMap = new HashMap<>();
+    final Map<Worker<T,W>, Set<WorkerGrouping<T,W>>> unitToWorkerGroupingMap = new LinkedHashMap<>();
 
 
-    private final Set<WorkerGrouping<T,W>> setOfWorkerGroupings = new HashSet<>();
+    private final Set<WorkerGrouping<T,W>> setOfWorkerGroupings = new LinkedHashSet<>();
 
     private final Set<Worker<T,W>> unitsInThisDomain;
 
 
     public WorkerDomain(Set<Worker<T,W>> unitsInThisDomain) {
-        this.unitsInThisDomain = Set.copyOf(unitsInThisDomain);
+        this.unitsInThisDomain = Collections.unmodifiableSet(new LinkedHashSet<>(unitsInThisDomain));
         id = domainIDCounter.getAndIncrement();
     }
 
@@ -37,7 +37,7 @@ public class WorkerDomain<T extends TaskSource<T,W>, W extends WorkerGrouping<T,
         if (unitsInThisDomain.containsAll(subDomainUnits)) {
             setOfWorkerGroupings.add(tWorkerGrouping);
             subDomainUnits.forEach(
-                    unit -> unitToWorkerGroupingMap.computeIfAbsent(unit, k -> new HashSet<>())
+                    unit -> unitToWorkerGroupingMap.computeIfAbsent(unit, k -> new LinkedHashSet<>())
                             .add(tWorkerGrouping)
             );
             return true;
@@ -49,7 +49,7 @@ public class WorkerDomain<T extends TaskSource<T,W>, W extends WorkerGrouping<T,
     }
 
     public Set<WorkerGrouping<T,W>> getAllSubDomains() {
-        return new HashSet<>(setOfWorkerGroupings);
+        return new LinkedHashSet<>(setOfWorkerGroupings);
     }
 
     @Override
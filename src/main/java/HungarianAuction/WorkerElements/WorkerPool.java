@@ -12,14 +12,14 @@ public class WorkerPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>
     private final int id;
     private final Set<Worker<T,W>> availableWorkers;
 
-    private final Set<WorkerGrouping<T,W>> validWorkerGroupings = new HashSet<>();
+    private final Set<WorkerGrouping<T,W>> validWorkerGroupings = new LinkedHashSet<>();
 
     private final Set<Worker<T,W>> assignedWorkers;
     private Set<WorkerDomain<T,W>> domains;
 
     public WorkerPool(Set<? extends Worker<T,W>> availableWorkers) {
-        this.availableWorkers = new HashSet<>(availableWorkers);
-        assignedWorkers = new HashSet<>();
+        this.availableWorkers = new LinkedHashSet<>(availableWorkers);
+        assignedWorkers = new LinkedHashSet<>();
         id = workerPoolCounter.incrementAndGet();
     }
 
@@ -38,14 +38,17 @@ public class WorkerPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>
     }
 
 
+    /**
+     * The valid groupings of this size whose workers are all available, in the order the groupings were made valid.
+     */
     public Set<WorkerGrouping<T,W>> getAvailableWorkerGroupings(int groupingSize) {
 
-        HashSet<WorkerGrouping<T,W>> validWorkerGroupings = new HashSet<>(this.validWorkerGroupings.stream()
+        Set<WorkerGrouping<T,W>> validWorkerGroupings = new LinkedHashSet<>(this.validWorkerGroupings.stream()
                 .filter(tWorkerGrouping -> tWorkerGrouping.getSize() == groupingSize)
                 .toList()
         );
 
-        HashSet<WorkerGrouping<T,W>> availableWorkerGroupings = new HashSet<>();
+        Set<WorkerGrouping<T,W>> availableWorkerGroupings = new LinkedHashSet<>();
 
         for (WorkerGrouping<T,W> grouping: validWorkerGroupings) {
             boolean addThisGrouping = true;
@@ -70,13 +73,15 @@ public class WorkerPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>
                 .collect(Collectors.toMap(
                 domain -> domain,
                 domain -> {
-                    Set<WorkerGrouping<T,W>> workerSet = new HashSet<>(domain.getAllSubDomains());
+                    Set<WorkerGrouping<T,W>> workerSet = new LinkedHashSet<>(domain.getAllSubDomains());
                     workerSet.retainAll(availableWorkerGroupings);
                     return workerSet;
-                }
+                },
+                (first, second) -> first,
+                LinkedHashMap::new
         ));
 
-        Map<WorkerDomain<T,W>, Set<WorkerGrouping<T,W>>> workerDomainSetMap = new HashMap<>();
+        Map<WorkerDomain<T,W>, Set<WorkerGrouping<T,W>>> workerDomainSetMap = new LinkedHashMap<>();
 
         while(workerDomainSetMap.size() < minimumDomainNumber) {
             int mostDomainAvailability = availableWorkersByDomain.values().stream().map(Set::size).max(Comparator.naturalOrder()).orElse(0);
@@ -84,7 +89,7 @@ public class WorkerPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>
                 return null;
             }
 
-            Set<WorkerDomain<T,W>> workerDomains = new HashSet<>(availableWorkersByDomain.keySet());
+            Set<WorkerDomain<T,W>> workerDomains = new LinkedHashSet<>(availableWorkersByDomain.keySet());
             for (WorkerDomain<T,W> domain: workerDomains
                  ) {
                 Set<WorkerGrouping<T,W>> workerGroupings = availableWorkersByDomain.get(domain);
@@ -136,7 +141,7 @@ public class WorkerPool<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>
         addValidWorkerGroupings(tessellationBoxDomains.stream()
                 .map(WorkerDomain::getAllSubDomains)
                 .flatMap(Set::stream)
-                .collect(Collectors.toSet()));
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
     public void resetWorkerAvailability() {
@@ -3,6 +3,7 @@ package QueueTree;
 import HungarianAuction.Auction.FixedQueueAuctionHouse;
 import HungarianAuction.Auction.Auction;
 import HungarianAuction.Auction.AuctionHouse;
+import HungarianAuction.Method.SolverConfiguration;
 import HungarianAuction.TaskElements.TaskBatch;
 import HungarianAuction.TaskElements.TaskSource;
 import HungarianAuction.WorkerElements.WorkerGrouping;
@@ -23,7 +24,7 @@ import java.util.List;
 public class PreComputedQueueProcessor<T extends TaskSource<T,W>, W extends WorkerGrouping<T,W>, B extends GenericBuildMetric<T,W>> {
 
     private static final Logger logger = LoggerFactory.getLogger(PreComputedQueueProcessor.class);
-    private final AuctionHouse<T,W> auctionHouse = new FixedQueueAuctionHouse<>();
+    private final AuctionHouse<T,W> auctionHouse;
     private final Deque<TaskBatch<T,W>> forwardsQueue;
     private final Deque<TaskBatch<T,W>> backwardsQueue = new ArrayDeque<>();
     private final WorkerPoolManager<T, W> workerPoolManager;
@@ -31,7 +32,14 @@ public class PreComputedQueueProcessor<T extends TaskSource<T,W>, W extends Work
     private final BuildMetricExtractor<T,W, B> buildMetricExtractor;
     private boolean useDomainProxies = true;
     private int loopCounter = 0;
+    private int backtrackCounter = 0;
+    private int timeOutCounter = 0;
     public PreComputedQueueProcessor(TaskQueueBuilder<T,W> taskQueueBuilder, BuildMetricExtractor<T, W, B> buildMetricExtractor) {
+        this(taskQueueBuilder, buildMetricExtractor, SolverConfiguration.defaults());
+    }
+
+    public PreComputedQueueProcessor(TaskQueueBuilder<T,W> taskQueueBuilder, BuildMetricExtractor<T, W, B> buildMetricExtractor, SolverConfiguration<T,W> solverConfiguration) {
+        this.auctionHouse = new FixedQueueAuctionHouse<>(solverConfiguration);
         this.forwardsQueue = taskQueueBuilder.getTaskBatchForwardsDeque();
         this.workerPoolManager = taskQueueBuilder.getWorkerPoolManager();
 
@@ -50,6 +58,20 @@ public class PreComputedQueueProcessor<T extends TaskSource<T,W>, W extends Work
         return buildMetricExtractor.getBuildMetric();
     }
 
+    /**
+     * How many times a batch was taken back off the backwards queue to search for an alternative allocation.
+     */
+    public int getBacktrackCount() {
+        return backtrackCounter;
+    }
+
+    /**
+     * How many times the time-out undid a run of auctions.
+     */
+    public int getTimeOutCount() {
+        return timeOutCounter;
+    }
+
     /**
      * RULES FOR ALLOCATION: <br/>
      * 1. It's faster to fail and backtrack than to try to forecast failure.<br/>
@@ -97,6 +119,7 @@ public class PreComputedQueueProcessor<T extends TaskSource<T,W>, W extends Work
 
             if (Duration.between(start, LocalTime.now()).toMillis() > timeOutInMs) {
                 System.out.println("Time out!");
+                timeOutCounter++;
                 int undoTarget = multiUndo;
                 multiUndo += multiUndoIncrement;
                 auctionHouse.undoSomeAuctions(undoTarget);
@@ -117,6 +140,7 @@ public class PreComputedQueueProcessor<T extends TaskSource<T,W>, W extends Work
 
     private boolean resultOfProcessBackwards() {
         boolean processForwards = false;
+        backtrackCounter++;
         TaskBatch<T,W> previousBatch = backwardsQueue.poll();
         Auction.AuctionState auctionState = auctionHouse.branchFromLastSuccessfulAuction();
         if (auctionState == Auction.AuctionState.SUCCESS) {
@@ -0,0 +1,280 @@
+package HungarianAuction.Auction;
+
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.Method.SolverConfigurationBuilder;
+import HungarianAuction.TaskElements.EntryToken;
+import HungarianAuction.TaskElements.TaskBatch;
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerDomain;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import HungarianAuction.WorkerElements.WorkerPool;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <ul>
+ * <li>
+ *      Runs the same small timetable twice through a {@link FixedQueueAuctionHouse} and compares the traces of every grouping handed out and recalled.
+ * </li>
+ * <li>
+ *      The fixture keeps identity hash codes and many tied costs, so any order taken from a hash set or a salted immutable collection shows up as a different trace.
+ * </li>
+ * </ul>
+ */
+class AuctionTraceDeterminismTest {
+    private static final int DAYS = 5;
+    private static final int SLOTS_PER_DAY = 2;
+    private static final int CLASSES = 4;
+    private static final int LESSONS_PER_CLASS = 4;
+    private static final int MAXIMUM_STEPS = 200;
+
+    @Test
+    void kBestSearchRepeatsItsTrace() {
+        assertRepeatable(SolverConfiguration.SearchStrategy.K_BEST, false);
+    }
+
+    @Test
+    void kBestSearchWithDomainProxiesRepeatsItsTrace() {
+        assertRepeatable(SolverConfiguration.SearchStrategy.K_BEST, true);
+    }
+
+    @Test
+    void subsetExclusionRepeatsItsTrace() {
+        assertRepeatable(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION, false);
+    }
+
+    @Test
+    void subsetExclusionWithDomainProxiesRepeatsItsTrace() {
+        assertRepeatable(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION, true);
+    }
+
+    private static void assertRepeatable(SolverConfiguration.SearchStrategy searchStrategy, boolean useDomainProxies) {
+        List<String> firstTrace = runTimetable(searchStrategy, useDomainProxies);
+        List<String> secondTrace = runTimetable(searchStrategy, useDomainProxies);
+        assertTrue(firstTrace.stream().anyMatch(event -> event.startsWith("receive")), "The timetable allocated nothing.");
+        assertEquals(firstTrace, secondTrace);
+    }
+
+    /**
+     * Allocates one lesson of every class per batch, branching from the last successful auction whenever a batch fails.
+     * */
+    private static List<String> runTimetable(SolverConfiguration.SearchStrategy searchStrategy, boolean useDomainProxies) {
+        List<String> trace = new ArrayList<>();
+        Set<WorkerDomain<SchoolClass, Period>> days = new LinkedHashSet<>();
+        Set<Worker<SchoolClass, Period>> units = new LinkedHashSet<>();
+        for (int day = 0; day < DAYS; day++) {
+            List<Period> periods = new ArrayList<>();
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                periods.add(new Period(day, slot));
+            }
+            Set<Worker<SchoolClass, Period>> dayUnits = new LinkedHashSet<>();
+            periods.forEach(period -> dayUnits.add(period.unit));
+            WorkerDomain<SchoolClass, Period> dayDomain = new WorkerDomain<>(dayUnits);
+            periods.forEach(dayDomain::addSubDomain);
+            days.add(dayDomain);
+            units.addAll(dayUnits);
+        }
+        WorkerPool<SchoolClass, Period> workerPool = new WorkerPool<>(units);
+        workerPool.setDomains(days);
+
+        List<SchoolClass> schoolClasses = new ArrayList<>();
+        for (int schoolClass = 0; schoolClass < CLASSES; schoolClass++) {
+            schoolClasses.add(new SchoolClass(schoolClass, days, trace));
+        }
+        List<TaskBatch<SchoolClass, Period>> batches = new ArrayList<>();
+        for (int lesson = 0; lesson < LESSONS_PER_CLASS; lesson++) {
+            List<TaskRequest<SchoolClass, Period>> lessons = new ArrayList<>();
+            schoolClasses.forEach(schoolClass -> lessons.add(schoolClass.addLesson()));
+            batches.add(new TaskBatch<>(lessons));
+        }
+
+        SolverConfiguration<SchoolClass, Period> configuration = new SolverConfigurationBuilder<SchoolClass, Period>()
+                .setSearchStrategy(searchStrategy)
+                .build();
+        FixedQueueAuctionHouse<SchoolClass, Period> auctionHouse = new FixedQueueAuctionHouse<>(configuration);
+        int nextBatch = 0;
+        for (int step = 0; step < MAXIMUM_STEPS && nextBatch < batches.size(); step++) {
+            Auction.AuctionState state = auctionHouse.createNextAuction(workerPool, batches.get(nextBatch), useDomainProxies);
+            trace.add("batch " + nextBatch + " " + state);
+            if (state == Auction.AuctionState.SUCCESS) {
+                nextBatch++;
+                continue;
+            }
+            Auction.AuctionState branchState = auctionHouse.branchFromLastSuccessfulAuction();
+            trace.add("branch " + branchState);
+            if (branchState == Auction.AuctionState.TREE_FAILURE) break;
+            // A failed branch has undone the batch before this one, so that batch is allocated afresh.
+            if (branchState != Auction.AuctionState.SUCCESS) nextBatch--;
+        }
+        return trace;
+    }
+
+    private static final class SchoolClass implements TaskSource<SchoolClass, Period> {
+        private final int index;
+        private final Set<WorkerDomain<SchoolClass, Period>> days;
+        private final List<String> trace;
+        private final List<TaskRequest<SchoolClass, Period>> lessons = new ArrayList<>();
+        private final Map<TaskRequest<SchoolClass, Period>, Period> timetable = new LinkedHashMap<>();
+
+        private SchoolClass(int index, Set<WorkerDomain<SchoolClass, Period>> days, List<String> trace) {
+            this.index = index;
+            this.days = days;
+            this.trace = trace;
+        }
+
+        private TaskRequest<SchoolClass, Period> addLesson() {
+            TaskRequest<SchoolClass, Period> lesson = new TaskRequest<>(this, new EntryToken<>(1));
+            lessons.add(lesson);
+            return lesson;
+        }
+
+        private String label(TaskRequest<SchoolClass, Period> lesson) {
+            return "class" + index + ".lesson" + lessons.indexOf(lesson);
+        }
+
+        private boolean teachesOn(int day) {
+            return timetable.values().stream().anyMatch(period -> period.day == day);
+        }
+
+        @Override
+        public void receiveWorkerGrouping(@NotNull WorkerGrouping<SchoolClass, Period> workerGrouping, @NotNull TaskRequest<SchoolClass, Period> taskRequest) {
+            Period period = workerGrouping.unboxWorkerGrouping(taskRequest);
+            timetable.put(taskRequest, period);
+            trace.add("receive " + label(taskRequest) + " " + period);
+        }
+
+        @Override
+        public void recallWorkerGrouping(@NotNull WorkerGrouping<SchoolClass, Period> workerGrouping, @NotNull TaskRequest<SchoolClass, Period> taskRequest) {
+            timetable.remove(taskRequest);
+            trace.add("recall " + label(taskRequest) + " " + workerGrouping);
+        }
+
+        @Override
+        public Set<WorkerDomain<SchoolClass, Period>> getUnusedDomains() {
+            return days;
+        }
+
+        @Override
+        public TaskRequest<SchoolClass, Period> getLargestUnallocatedTask() {
+            return lessons.stream().filter(lesson -> !timetable.containsKey(lesson)).findFirst().orElse(null);
+        }
+
+        @Override
+        public TaskRequest<SchoolClass, Period> getTaskOfSize(int size) {
+            return size == 1 ? getLargestUnallocatedTask() : null;
+        }
+
+        @Override
+        public SchoolClass unboxSource() {
+            return this;
+        }
+
+        @Override
+        public boolean hasTokensOfSize(int tokenSize) {
+            return countTokensOfSize(tokenSize) > 0;
+        }
+
+        @Override
+        public int getTotalTaskBandwidth() {
+            return lessons.size();
+        }
+
+        @Override
+        public int getMaxTaskBandwidth() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxUnallocatedTokenSize() {
+            return getLargestUnallocatedTask() == null ? 0 : 1;
+        }
+
+        @Override
+        public int countTokensOfSize(int tokenSize) {
+            return tokenSize == 1 ? lessons.size() - timetable.size() : 0;
+        }
+
+        @Override
+        public List<SchoolClass> getNodeLinks() {
+            return List.of();
+        }
+    }
+
+    /**
+     * One slot of one day. Costs tie often, and a class never takes two lessons on the same day, or class 0 any lesson on day 0.
+     * */
+    private static final class Period implements WorkerGrouping<SchoolClass, Period> {
+        private final int day;
+        private final int slot;
+        private final Worker<SchoolClass, Period> unit = new Teacher();
+
+        private Period(int day, int slot) {
+            this.day = day;
+            this.slot = slot;
+        }
+
+        @Override
+        public Set<Worker<SchoolClass, Period>> getWorkers() {
+            return Set.of(unit);
+        }
+
+        @Override
+        public int getSize() {
+            return 1;
+        }
+
+        @Override
+        public void setScarcityFactor(double scarcityFactor) {
+        }
+
+        @Override
+        public double getScarcityFactor() {
+            return 1;
+        }
+
+        @Override
+        public TaskCost calculateMaxWorkerCost(TaskRequest<SchoolClass, Period> taskRequest) {
+            return calculateTotalCost(taskRequest);
+        }
+
+        @Override
+        public TaskCost calculateMinWorkerCost(TaskRequest<SchoolClass, Period> taskRequest) {
+            return calculateTotalCost(taskRequest);
+        }
+
+        @Override
+        public TaskCost calculateTotalCost(TaskRequest<SchoolClass, Period> taskRequest) {
+            SchoolClass schoolClass = taskRequest.getTaskSource().unboxSource();
+            if (schoolClass.teachesOn(day) || (schoolClass.index == 0 && day == 0)) return new TaskCost(Double.POSITIVE_INFINITY);
+            return new TaskCost(1 + (slot + schoolClass.index) % 2);
+        }
+
+        @Override
+        public Period unboxWorkerGrouping(TaskRequest<SchoolClass, Period> taskRequest) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "day" + day + ".slot" + slot;
+        }
+    }
+
+    /**
+     * The single worker behind a period; the period carries the costs.
+     * */
+    private static final class Teacher implements Worker<SchoolClass, Period> {
+        @Override
+        public TaskCost calculateBaseCost(TaskRequest<SchoolClass, Period> taskRequest) {
+            return new TaskCost(0);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.Combinatorials.BinSearchCombAdvanced;
+import HungarianAuction.Method.AuctionCostMatrix;
+import HungarianAuction.Method.CostMatrix;
+import HungarianAuction.Method.CostMatrixInterface;
+import HungarianAuction.Method.CostMatrixSolver;
+import HungarianAuction.Method.SolverConfiguration;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import HungarianAuction.WorkerElements.WorkerPool;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <ul>
+ * <li>
+ *      Guards the hot path against allocation creep: measures the bytes one call of each covered operation allocates, and fails when a call exceeds its budget.
+ * </li>
+ * <li>
+ *      Budgets are {@code <operation>.<size>=<bytes>} entries of {@value #BUDGETS_RESOURCE}. Every entry is checked, so adding a size is adding a line.
+ * </li>
+ * <li>
+ *      Each operation is warmed up, then measured over several rounds of calls. The lowest round median is compared, so a stray JIT or pool refill does not fail the test.
+ * </li>
+ * <li>
+ *      Tagged {@value #TAG}, so it runs with {@code ./gradlew allocationBudgetTest} rather than with {@code test}.
+ * </li>
+ * </ul>
+ */
+@Tag(AllocationBudgetTest.TAG)
+class AllocationBudgetTest {
+    static final String TAG = "allocation-budget";
+    static final String BUDGETS_RESOURCE = "/allocation-budgets.properties";
+    private static final int WARM_UP_CALLS = 100;
+    private static final int ROUNDS = 5;
+    private static final int CALLS_PER_ROUND = 15;
+    private static final int COMBINATIONS_PER_CALL = 256;
+    private static final long SEED = 1;
+    private static final double INFINITE_SHARE = 0.5;
+
+    private final AllocationMeter allocationMeter = new AllocationMeter();
+
+    @Test
+    void everyBudgetHasAProbe() throws IOException {
+        Set<String> operations = Set.of("CostMatrix.applyMinimumCrossings", "AuctionCostMatrix.applyMinimumCrossings", "CostMatrixSolver.applyAlgorithm", "BinSearchCombAdvanced.next", "WorkerPool.getAvailableWorkerGroupings");
+        for (String key : loadBudgets().stringPropertyNames()) {
+            int sizeSeparator = key.lastIndexOf('.');
+            assertTrue(sizeSeparator > 0 && key.substring(sizeSeparator + 1).chars().allMatch(Character::isDigit), "Budget " + key + " is not of the form <operation>.<size>.");
+            assertTrue(operations.contains(key.substring(0, sizeSeparator)), "No allocation probe for " + key + ".");
+        }
+    }
+
+    @Test
+    void crossingPassStaysWithinBudget() throws IOException {
+        assertWithinBudgets("CostMatrix.applyMinimumCrossings", this::applyMinimumCrossings);
+    }
+
+    @Test
+    void auctionStaysWithinBudget() throws IOException {
+        assertWithinBudgets("AuctionCostMatrix.applyMinimumCrossings", this::applyAuction);
+    }
+
+    @Test
+    void solverStaysWithinBudget() throws IOException {
+        assertWithinBudgets("CostMatrixSolver.applyAlgorithm", this::applyAlgorithm);
+    }
+
+    @Test
+    void combinatorialStaysWithinBudget() throws IOException {
+        assertWithinBudgets("BinSearchCombAdvanced.next", this::nextCombination);
+    }
+
+    @Test
+    void workerPoolLookupStaysWithinBudget() throws IOException {
+        assertWithinBudgets("WorkerPool.getAvailableWorkerGroupings", this::getAvailableWorkerGroupings);
+    }
+
+    /**
+     * Measures the operation at every size it has a budget for, and reports all the sizes over budget at once.
+     * */
+    private static void assertWithinBudgets(String operation, IntToLongFunction probe) throws IOException {
+        Properties budgets = loadBudgets();
+        List<String> exceededBudgets = new ArrayList<>();
+        for (String key : new TreeSet<>(budgets.stringPropertyNames())) {
+            if (!key.startsWith(operation + ".")) continue;
+            long budget = Long.parseLong(budgets.getProperty(key).trim());
+            long allocated = probe.applyAsLong(Integer.parseInt(key.substring(operation.length() + 1)));
+            if (allocated > budget) exceededBudgets.add(key + ": " + allocated + " > " + budget + " B/op");
+        }
+        assertTrue(exceededBudgets.isEmpty(), "Allocation budgets exceeded: " + exceededBudgets);
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream inputStream = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            if (inputStream == null) throw new IllegalStateException(BUDGETS_RESOURCE + " is not on the classpath.");
+            budgets.load(inputStream);
+        }
+        return budgets;
+    }
+
+    /**
+     * The first crossing pass over a reduced matrix of a square batch.
+     * */
+    private long applyMinimumCrossings(int size) {
+        SyntheticInstance instance = SyntheticInstance.generate(SEED, size, size, INFINITE_SHARE, CostDistribution.UNIFORM);
+        CostMatrix<SyntheticTaskSource, SyntheticWorkerGrouping> template = new CostMatrix<>(new ArrayList<>(instance.getWorkerGroupings()), instance.tenderedTasks());
+        long allocated = measure(() -> {
+            CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> costMatrix = template.cloneMatrix();
+            costMatrix.computeMarginalTaskCosts();
+            long bytes = allocationMeter.measure(costMatrix::applyMinimumCrossings);
+            costMatrix.release();
+            return bytes;
+        });
+        template.release();
+        return allocated;
+    }
+
+    /**
+     * A full auction, with its exact repair, over a reduced matrix of a square batch, bidding on the common pool.
+     * */
+    private long applyAuction(int size) {
+        SyntheticInstance instance = SyntheticInstance.generate(SEED, size, size, INFINITE_SHARE, CostDistribution.UNIFORM);
+        AuctionCostMatrix<SyntheticTaskSource, SyntheticWorkerGrouping> template = new AuctionCostMatrix<>(new ArrayList<>(instance.getWorkerGroupings()), instance.tenderedTasks(), ForkJoinPool.commonPool());
+        long allocated = measure(() -> {
+            CostMatrixInterface<SyntheticTaskSource, SyntheticWorkerGrouping> costMatrix = template.cloneMatrix();
+            costMatrix.computeMarginalTaskCosts();
+            long bytes = allocationMeter.measure(costMatrix::applyMinimumCrossings);
+            costMatrix.release();
+            return bytes;
+        });
+        template.release();
+        return allocated;
+    }
+
+    /**
+     * The first solve of a square batch under the default configuration, from a solver built beforehand.
+     * */
+    private long applyAlgorithm(int size) {
+        SyntheticInstance instance = SyntheticInstance.generate(SEED, size, size, INFINITE_SHARE, CostDistribution.UNIFORM);
+        SolverConfiguration<SyntheticTaskSource, SyntheticWorkerGrouping> configuration = SolverConfiguration.defaults();
+        return measure(() -> {
+            CostMatrixSolver<SyntheticTaskSource, SyntheticWorkerGrouping> solver =
+                    new CostMatrixSolver<>(new ArrayList<>(instance.getWorkerGroupings()), instance.freshTasks(), 1, configuration);
+            long bytes = allocationMeter.measure(solver::applyAlgorithm);
+            solver.release();
+            return bytes;
+        });
+    }
+
+    /**
+     * One draw from a combinatorial over the given number of elements, with a few subsets to avoid; averaged over a run of draws.
+     * */
+    private long nextCombination(int size) {
+        Set<Integer> elements = new TreeSet<>();
+        for (int element = 0; element < size; element++) {
+            elements.add(element);
+        }
+        return measure(() -> {
+            BinSearchCombAdvanced<Integer> combinatorial = new BinSearchCombAdvanced<>(elements);
+            for (int avoided = 0; avoided + 1 < size && avoided < 8; avoided += 2) {
+                combinatorial.addAvoidSet(Set.of(avoided, avoided + 1));
+            }
+            long bytes = allocationMeter.measure(() -> {
+                for (int draw = 0; draw < COMBINATIONS_PER_CALL && combinatorial.hasNext(); draw++) {
+                    combinatorial.next();
+                }
+            });
+            return bytes / COMBINATIONS_PER_CALL;
+        });
+    }
+
+    /**
+     * A lookup of single-worker groupings in a pool of the given number of workers, a third of them assigned.
+     * */
+    private long getAvailableWorkerGroupings(int size) {
+        SyntheticInstance instance = SyntheticInstance.generate(SEED, size, size, 0, CostDistribution.UNIFORM);
+        List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings = instance.getWorkerGroupings();
+        Set<Worker<SyntheticTaskSource, SyntheticWorkerGrouping>> workers = new HashSet<>();
+        workerGroupings.forEach(workerGrouping -> workers.addAll(workerGrouping.getWorkers()));
+        WorkerPool<SyntheticTaskSource, SyntheticWorkerGrouping> workerPool = new WorkerPool<>(workers);
+        workerPool.addValidWorkerGroupings(new HashSet<>(workerGroupings));
+        for (int workerGrouping = 0; workerGrouping < workerGroupings.size(); workerGrouping += 3) {
+            workerPool.assignAll(List.of(workerGroupings.get(workerGrouping)));
+        }
+        return measure(() -> allocationMeter.measure(() -> workerPool.getAvailableWorkerGroupings(1)));
+    }
+
+    /**
+     * Runs a call, which returns the bytes it allocated, through its warm-up, then takes the median of each round of calls and returns the lowest.
+     * */
+    private static long measure(LongSupplier measuredCall) {
+        for (int call = 0; call < WARM_UP_CALLS; call++) {
+            measuredCall.getAsLong();
+        }
+        long lowestMedian = Long.MAX_VALUE;
+        long[] allocations = new long[CALLS_PER_ROUND];
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int call = 0; call < CALLS_PER_ROUND; call++) {
+                allocations[call] = measuredCall.getAsLong();
+            }
+            Arrays.sort(allocations);
+            lowestMedian = Math.min(lowestMedian, allocations[CALLS_PER_ROUND / 2]);
+        }
+        return lowestMedian;
+    }
+}
@@ -0,0 +1,47 @@
+package HungarianAuction.Benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * <ul>
+ * <li>
+ *      Counts the heap bytes the calling thread allocates while running an operation, via {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * </li>
+ * <li>
+ *      The bytes the meter itself allocates between its two readings are measured once and subtracted.
+ * </li>
+ * </ul>
+ */
+final class AllocationMeter {
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long threadId = Thread.currentThread().getId();
+    private final long readingOverhead;
+
+    AllocationMeter() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunThreadMXBean))
+            throw new IllegalStateException("This JVM cannot count allocated bytes per thread.");
+        if (!sunThreadMXBean.isThreadAllocatedMemorySupported())
+            throw new IllegalStateException("This JVM cannot count allocated bytes per thread.");
+        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        this.threadMXBean = sunThreadMXBean;
+        long[] emptyReadings = new long[16];
+        for (int reading = 0; reading < emptyReadings.length; reading++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            emptyReadings[reading] = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        }
+        this.readingOverhead = Arrays.stream(emptyReadings).min().orElse(0);
+    }
+
+    /**
+     * The bytes allocated by one run of the operation. Only valid on the thread that created the meter.
+     * */
+    long measure(Runnable operation) {
+        if (Thread.currentThread().getId() != threadId)
+            throw new IllegalStateException("An allocation meter only counts the thread which created it.");
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        operation.run();
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return Math.max(0, after - before - readingOverhead);
+    }
+}
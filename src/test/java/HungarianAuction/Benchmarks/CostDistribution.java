@@ -0,0 +1,20 @@
+package HungarianAuction.Benchmarks;
+
+import java.util.Random;
+
+/**
+ * How the finite costs of a {@link SyntheticInstance} are drawn.
+ */
+public enum CostDistribution {
+    UNIFORM, // Continuous costs in [0, 100): ties are practically absent.
+    INTEGER, // Whole costs in [0, 10): many ties, so many zeros and degenerate crossings.
+    HEAVY_TAILED; // Pareto costs with shape 1.5: a few very expensive cells among mostly cheap ones.
+
+    double draw(Random random) {
+        return switch (this) {
+            case UNIFORM -> random.nextDouble() * 100;
+            case INTEGER -> random.nextInt(10);
+            case HEAVY_TAILED -> Math.pow(1 - random.nextDouble(), -1 / 1.5) - 1;
+        };
+    }
+}
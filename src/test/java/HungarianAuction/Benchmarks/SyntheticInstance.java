@@ -0,0 +1,96 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.TaskElements.EntryToken;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <ul>
+ * <li>
+ *      A seeded random assignment batch: a table of task by worker grouping costs, with a chosen share of +Infinity cells and a chosen distribution for the rest.
+ * </li>
+ * <li>
+ *      A random complete matching is always kept finite, so every instance has a solution however many cells are infinite.
+ * </li>
+ * <li>
+ *      The solver consumes the bids of its tasks, so each run takes fresh task requests from {@link #freshTasks()}. The worker groupings are shared.
+ * </li>
+ * </ul>
+ */
+public class SyntheticInstance {
+    private final int taskCount;
+    private final List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings;
+
+    private SyntheticInstance(int taskCount, List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings) {
+        this.taskCount = taskCount;
+        this.workerGroupings = workerGroupings;
+    }
+
+    public static SyntheticInstance generate(long seed, int taskCount, int workerGroupingCount, double infiniteShare, CostDistribution costDistribution) {
+        if (taskCount < 1 || workerGroupingCount < taskCount)
+            throw new IllegalArgumentException(workerGroupingCount + " worker groupings cannot cover " + taskCount + " tasks.");
+        if (!(infiniteShare >= 0 && infiniteShare < 1))
+            throw new IllegalArgumentException("Infinite share " + infiniteShare + " is not in [0, 1).");
+        Random random = new Random(seed);
+        List<Integer> plantedWorkerGroupings = new ArrayList<>();
+        for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+            plantedWorkerGroupings.add(workerGrouping);
+        }
+        Collections.shuffle(plantedWorkerGroupings, random);
+
+        double[][] costsByWorkerGrouping = new double[workerGroupingCount][taskCount];
+        for (double[] costsByTask : costsByWorkerGrouping) {
+            Arrays.fill(costsByTask, Double.POSITIVE_INFINITY);
+        }
+        for (int task = 0; task < taskCount; task++) {
+            int plantedWorkerGrouping = plantedWorkerGroupings.get(task);
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                if (workerGrouping == plantedWorkerGrouping || random.nextDouble() >= infiniteShare)
+                    costsByWorkerGrouping[workerGrouping][task] = costDistribution.draw(random);
+            }
+        }
+
+        List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupings = new ArrayList<>(workerGroupingCount);
+        for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+            workerGroupings.add(new SyntheticWorkerGrouping(new SyntheticWorker(workerGrouping, costsByWorkerGrouping[workerGrouping])));
+        }
+        return new SyntheticInstance(taskCount, Collections.unmodifiableList(workerGroupings));
+    }
+
+    /**
+     * New task requests with no bids yet: the solver tenders for them itself.
+     * */
+    public List<TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping>> freshTasks() {
+        List<TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping>> tasks = new ArrayList<>(taskCount);
+        for (int task = 0; task < taskCount; task++) {
+            tasks.add(new TaskRequest<>(new SyntheticTaskSource(task), new EntryToken<>(1)));
+        }
+        return tasks;
+    }
+
+    /**
+     * New task requests which have already collected the bids of every worker grouping, as a matrix expects.
+     * */
+    public List<TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping>> tenderedTasks() {
+        List<TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping>> tasks = freshTasks();
+        Set<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> workerGroupingSet = new HashSet<>(workerGroupings);
+        tasks.forEach(task -> task.tenderGroupingCosts(workerGroupingSet));
+        return tasks;
+    }
+
+    public List<WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping>> getWorkerGroupings() {
+        return workerGroupings;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+}
@@ -0,0 +1,88 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.WorkerDomain;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import HungarianAuction.TaskElements.TaskSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A source of exactly one task of size 1, identified by its row in the generated cost table.
+ */
+public class SyntheticTaskSource implements TaskSource<SyntheticTaskSource, SyntheticWorkerGrouping> {
+    private final int taskIndex;
+
+    public SyntheticTaskSource(int taskIndex) {
+        this.taskIndex = taskIndex;
+    }
+
+    public int getTaskIndex() {
+        return taskIndex;
+    }
+
+    @Override
+    public TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> getLargestUnallocatedTask() {
+        return null;
+    }
+
+    @Override
+    public TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> getTaskOfSize(int size) {
+        return null;
+    }
+
+    @Override
+    public void receiveWorkerGrouping(@NotNull WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping> workerGrouping, @NotNull TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+    }
+
+    @Override
+    public void recallWorkerGrouping(@NotNull WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping> workerGrouping, @NotNull TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+    }
+
+    @Override
+    public SyntheticTaskSource unboxSource() {
+        return this;
+    }
+
+    @Override
+    public boolean hasTokensOfSize(int tokenSize) {
+        return tokenSize == 1;
+    }
+
+    @Override
+    public int getTotalTaskBandwidth() {
+        return 1;
+    }
+
+    @Override
+    public int getMaxTaskBandwidth() {
+        return 1;
+    }
+
+    @Override
+    public int getMaxUnallocatedTokenSize() {
+        return 1;
+    }
+
+    @Override
+    public int countTokensOfSize(int tokenSize) {
+        return tokenSize == 1 ? 1 : 0;
+    }
+
+    @Override
+    public Set<WorkerDomain<SyntheticTaskSource, SyntheticWorkerGrouping>> getUnusedDomains() {
+        return null;
+    }
+
+    @Override
+    public List<SyntheticTaskSource> getNodeLinks() {
+        return List.of();
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticTaskSource{" + taskIndex + '}';
+    }
+}
@@ -0,0 +1,29 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.Worker;
+
+/**
+ * A worker whose cost for each task is read from its column of the generated cost table.
+ */
+public class SyntheticWorker implements Worker<SyntheticTaskSource, SyntheticWorkerGrouping> {
+    private final int workerIndex;
+    private final double[] costsByTask;
+
+    public SyntheticWorker(int workerIndex, double[] costsByTask) {
+        this.workerIndex = workerIndex;
+        this.costsByTask = costsByTask;
+    }
+
+    @Override
+    public TaskCost calculateBaseCost(TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+        SyntheticTaskSource taskSource = (SyntheticTaskSource) taskRequest.getTaskSource();
+        return new TaskCost(costsByTask[taskSource.getTaskIndex()]);
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticWorker{" + workerIndex + '}';
+    }
+}
@@ -0,0 +1,67 @@
+package HungarianAuction.Benchmarks;
+
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+
+import java.util.Set;
+
+/**
+ * A grouping of a single {@link SyntheticWorker}, so the cost of a task is the worker's own cost.
+ */
+public class SyntheticWorkerGrouping implements WorkerGrouping<SyntheticTaskSource, SyntheticWorkerGrouping> {
+    private final SyntheticWorker worker;
+    private final Set<Worker<SyntheticTaskSource, SyntheticWorkerGrouping>> workers;
+    private double scarcityFactor = 1;
+
+    public SyntheticWorkerGrouping(SyntheticWorker worker) {
+        this.worker = worker;
+        this.workers = Set.of(worker);
+    }
+
+    @Override
+    public Set<Worker<SyntheticTaskSource, SyntheticWorkerGrouping>> getWorkers() {
+        return workers;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public void setScarcityFactor(double scarcityFactor) {
+        this.scarcityFactor = scarcityFactor;
+    }
+
+    @Override
+    public double getScarcityFactor() {
+        return scarcityFactor;
+    }
+
+    @Override
+    public TaskCost calculateMaxWorkerCost(TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+        return worker.calculateBaseCost(taskRequest);
+    }
+
+    @Override
+    public TaskCost calculateMinWorkerCost(TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+        return worker.calculateBaseCost(taskRequest);
+    }
+
+    @Override
+    public TaskCost calculateTotalCost(TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+        return worker.calculateBaseCost(taskRequest);
+    }
+
+    @Override
+    public SyntheticWorkerGrouping unboxWorkerGrouping(TaskRequest<SyntheticTaskSource, SyntheticWorkerGrouping> taskRequest) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticWorkerGrouping{" + worker + '}';
+    }
+}
@@ -0,0 +1,94 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AuctionCostMatrix} on costs where the auction alone only gets within n * epsilon of the optimum, which the final repair must close.
+ */
+class AuctionCostMatrixTest {
+    private static final int INSTANCES = 150;
+    /**
+     * Far below the auction's own n * epsilon, but above the rounding of summing a few costs.
+     * */
+    private static final double EXACT = 1e-12;
+    private static final ForkJoinPool BIDDING_POOL = new ForkJoinPool(2);
+
+    @Test
+    void nearlyTiedRealCostsAreSolvedExactly() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION);
+        Random random = new Random(31);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int size = 2 + random.nextInt(7);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.of(nearlyTiedCosts(random, size));
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+            assertTrue(solver.applyAlgorithm(), "Did not solve " + batch);
+            assertEquals(batch.optimum(), batch.costOf(solver.getAssignedTasks()), EXACT, "On " + batch);
+            solver.release();
+        }
+    }
+
+    @Test
+    void kBestOrderHoldsForRealCosts() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.K_BEST);
+        Random random = new Random(32);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 1 + random.nextInt(7);
+            int taskCount = 1 + random.nextInt(Math.min(5, workerGroupingCount));
+            RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.3 + 0.7 * random.nextDouble(), false);
+            KBestAssignmentEnumeratorTest.assertCheapestFirst(batch, configuration);
+        }
+    }
+
+    @Test
+    void parallelBiddingMatchesTheShortestAugmentingPathEngine() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> auctionConfiguration = configuration(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION);
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> shortestPathConfiguration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setCostMatrixFactory(CostMatrixFactory.shortestAugmentingPath())
+                .build();
+        Random random = new Random(33);
+        for (int instance = 0; instance < 6; instance++) {
+            // Past the 64 bidders at which rounds are bid in parallel.
+            int size = 70 + random.nextInt(60);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.of(nearlyTiedCosts(random, size));
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> auctionSolver = batch.solver(auctionConfiguration);
+            assertTrue(auctionSolver.applyAlgorithm(), "The auction did not solve a batch of " + size);
+            double auctionCost = batch.costOf(auctionSolver.getAssignedTasks());
+            auctionSolver.release();
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> shortestPathSolver = batch.solver(shortestPathConfiguration);
+            assertTrue(shortestPathSolver.applyAlgorithm(), "The shortest path engine did not solve a batch of " + size);
+            double shortestPathCost = batch.costOf(shortestPathSolver.getAssignedTasks());
+            shortestPathSolver.release();
+            assertEquals(shortestPathCost, auctionCost, EXACT, "On a batch of " + size);
+        }
+    }
+
+    /**
+     * Costs of a few whole values, each nudged by less than 1e-10, so many assignments differ by far less than the auction's tolerance.
+     * The diagonal is always finite, so the batch is feasible.
+     * */
+    private static double[][] nearlyTiedCosts(Random random, int size) {
+        double[][] costs = new double[size][size];
+        for (int task = 0; task < size; task++) {
+            for (int workerGrouping = 0; workerGrouping < size; workerGrouping++) {
+                boolean finite = task == workerGrouping || random.nextDouble() < 0.7;
+                costs[task][workerGrouping] = finite ? random.nextInt(4) + random.nextDouble() * 1e-10 : Double.POSITIVE_INFINITY;
+            }
+        }
+        return costs;
+    }
+
+    private static SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration(SolverConfiguration.SearchStrategy searchStrategy) {
+        return new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setCostMatrixFactory(CostMatrixFactory.auction(BIDDING_POOL))
+                .setSearchStrategy(searchStrategy)
+                .build();
+    }
+}
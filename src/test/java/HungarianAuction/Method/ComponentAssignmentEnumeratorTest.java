@@ -0,0 +1,96 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Component decomposition of {@link CostMatrixSolver}, on batches split into independent blocks, against brute force for both search strategies.
+ */
+class ComponentAssignmentEnumeratorTest {
+    private static final int INSTANCES = 120;
+    private static final ForkJoinPool COMPONENT_POOL = new ForkJoinPool(2);
+
+    @Test
+    void decomposedBatchesKeepTheOptimum() {
+        for (SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration : configurations(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION)) {
+            Random random = new Random(51);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                RandomAssignmentInstance batch = blockInstance(random, 9, 9);
+                double optimum = batch.optimum();
+                CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+                boolean solved = solver.applyAlgorithm();
+                if (optimum == Double.POSITIVE_INFINITY) {
+                    assertFalse(solved && solver.getAssignedTasks().size() == batch.taskCount(), "Assigned every task of infeasible " + batch);
+                } else {
+                    assertTrue(solved, "Did not solve " + batch);
+                    assertEquals(optimum, batch.costOf(solver.getAssignedTasks()), RandomAssignmentInstance.TOLERANCE, "On " + batch);
+                }
+                solver.release();
+            }
+        }
+    }
+
+    @Test
+    void decomposedSquareBatchesEnumerateTheKBestInOrder() {
+        assertCheapestFirst(52, random -> {
+            int size = 2 + random.nextInt(5);
+            return RandomAssignmentInstance.generate(random, size, size, 0.6 + 0.4 * random.nextDouble(), random.nextBoolean(), 2);
+        });
+    }
+
+    @Test
+    void decomposedRectangularBatchesEnumerateTheKBestInOrder() {
+        assertCheapestFirst(53, random -> blockInstance(random, 5, 8));
+    }
+
+    private static void assertCheapestFirst(long seed, Function<Random, RandomAssignmentInstance> instanceGenerator) {
+        for (SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration : configurations(SolverConfiguration.SearchStrategy.K_BEST)) {
+            Random random = new Random(seed);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                KBestAssignmentEnumeratorTest.assertCheapestFirst(instanceGenerator.apply(random), configuration);
+            }
+        }
+    }
+
+    /**
+     * Two or three blocks, with at most the given numbers of tasks and worker groupings; blocks short of groupings leave the batch infeasible.
+     * */
+    private static RandomAssignmentInstance blockInstance(Random random, int maximumTaskCount, int maximumWorkerGroupingCount) {
+        int workerGroupingCount = 2 + random.nextInt(maximumWorkerGroupingCount - 1);
+        int taskCount = 2 + random.nextInt(Math.min(maximumTaskCount, workerGroupingCount) - 1);
+        return RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.5 + 0.5 * random.nextDouble(), random.nextBoolean(), 2 + random.nextInt(2));
+    }
+
+    /**
+     * Components solved in turn by the Hungarian and shortest augmenting path engines, and in parallel on a pool.
+     * */
+    private static List<SolverConfiguration<TestTaskSource, TestWorkerGrouping>> configurations(SolverConfiguration.SearchStrategy searchStrategy) {
+        return List.of(
+                new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                        .setCostMatrixFactory(CostMatrixFactory.hungarian())
+                        .setSearchStrategy(searchStrategy)
+                        .setComponentDecomposition(true)
+                        .build(),
+                new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                        .setCostMatrixFactory(CostMatrixFactory.shortestAugmentingPath())
+                        .setSearchStrategy(searchStrategy)
+                        .setComponentDecomposition(true)
+                        .build(),
+                new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                        .setCostMatrixFactory(CostMatrixFactory.shortestAugmentingPath())
+                        .setSearchStrategy(searchStrategy)
+                        .setComponentDecomposition(true)
+                        .setComponentPool(COMPONENT_POOL)
+                        .build());
+    }
+}
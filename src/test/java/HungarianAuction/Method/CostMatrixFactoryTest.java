@@ -0,0 +1,109 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every engine of {@link CostMatrixFactory}, solved through {@link CostMatrixSolver}, against the brute-force optimum of small random batches.
+ */
+class CostMatrixFactoryTest {
+    private static final int INSTANCES = 150;
+    private static final ForkJoinPool SMALL_POOL = new ForkJoinPool(2);
+
+    @TempDir
+    Path mappedDirectory;
+
+    @Test
+    void everyEngineFindsTheOptimumOfSquareBatches() {
+        assertOptimal(1, random -> {
+            int size = 1 + random.nextInt(8);
+            return RandomAssignmentInstance.generate(random, size, size, 0.5 + 0.5 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void everyEngineFindsTheOptimumOfRectangularBatches() {
+        assertOptimal(2, random -> {
+            int workerGroupingCount = 2 + random.nextInt(8);
+            int taskCount = 1 + random.nextInt(workerGroupingCount - 1);
+            return RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.4 + 0.6 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void everyEngineFindsTheOptimumWhenMostCellsAreInfinite() {
+        assertOptimal(3, random -> {
+            int workerGroupingCount = 1 + random.nextInt(9);
+            int taskCount = 1 + random.nextInt(workerGroupingCount);
+            return RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.15 + 0.25 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void noEngineClaimsACompleteAssignmentForMoreTasksThanWorkerGroupings() {
+        for (Map.Entry<String, CostMatrixFactory<TestTaskSource, TestWorkerGrouping>> engine : engines().entrySet()) {
+            Random random = new Random(4);
+            for (int instance = 0; instance < INSTANCES / 5; instance++) {
+                int workerGroupingCount = 1 + random.nextInt(6);
+                RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, workerGroupingCount + 1 + random.nextInt(2), workerGroupingCount, 0.8, true);
+                CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration(engine.getValue()));
+                boolean solved = solver.applyAlgorithm();
+                assertFalse(solved && solver.getAssignedTasks().size() == batch.taskCount(), engine.getKey() + " assigned every task of " + batch);
+                assertTrue(solver.getViability() != CostMatrixSolver.Viability.LIVE, engine.getKey() + " stayed live on " + batch);
+                solver.release();
+            }
+        }
+    }
+
+    private void assertOptimal(long seed, Function<Random, RandomAssignmentInstance> instanceGenerator) {
+        for (Map.Entry<String, CostMatrixFactory<TestTaskSource, TestWorkerGrouping>> engine : engines().entrySet()) {
+            Random random = new Random(seed);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                RandomAssignmentInstance batch = instanceGenerator.apply(random);
+                double optimum = batch.optimum();
+                CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration(engine.getValue()));
+                boolean solved = solver.applyAlgorithm();
+                if (optimum == Double.POSITIVE_INFINITY) {
+                    assertFalse(solved && solver.getAssignedTasks().size() == batch.taskCount(), engine.getKey() + " assigned every task of infeasible " + batch);
+                } else {
+                    assertTrue(solved, engine.getKey() + " did not solve " + batch);
+                    assertEquals(optimum, batch.costOf(solver.getAssignedTasks()), RandomAssignmentInstance.TOLERANCE, engine.getKey() + " on " + batch);
+                }
+                solver.release();
+            }
+        }
+    }
+
+    private Map<String, CostMatrixFactory<TestTaskSource, TestWorkerGrouping>> engines() {
+        Map<String, CostMatrixFactory<TestTaskSource, TestWorkerGrouping>> engines = new LinkedHashMap<>();
+        engines.put("hungarian", CostMatrixFactory.hungarian());
+        engines.put("vectorisedHungarian", CostMatrixFactory.vectorisedHungarian());
+        // A cutoff of one row splits even these small matrices across the pool.
+        engines.put("parallelHungarian", CostMatrixFactory.parallelHungarian(SMALL_POOL, 1));
+        // Fine enough a scale that rounding stays well inside the tolerance.
+        engines.put("fixedPoint", CostMatrixFactory.fixedPoint(1e9));
+        engines.put("shortestAugmentingPath", CostMatrixFactory.shortestAugmentingPath());
+        engines.put("offHeapShortestAugmentingPath", CostMatrixFactory.offHeapShortestAugmentingPath());
+        engines.put("memoryMappedShortestAugmentingPath", CostMatrixFactory.memoryMappedShortestAugmentingPath(mappedDirectory));
+        engines.put("sparse", CostMatrixFactory.sparse());
+        engines.put("auction", CostMatrixFactory.auction(SMALL_POOL));
+        return engines;
+    }
+
+    private static SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration(CostMatrixFactory<TestTaskSource, TestWorkerGrouping> costMatrixFactory) {
+        return new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>().setCostMatrixFactory(costMatrixFactory).build();
+    }
+}
@@ -0,0 +1,99 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link FixedPointCostMatrix} at its default scale, against brute force on real, whole and decimal costs.
+ */
+class FixedPointCostMatrixTest {
+    private static final int INSTANCES = 150;
+    /**
+     * Costs which are whole multiples of the scale's unit lose nothing on entry, so only the summing of the doubles is left.
+     * */
+    private static final double EXACT = 1e-9;
+
+    @Test
+    void realCostsStayWithinRoundingOfTheOptimum() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION);
+        Random random = new Random(41);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 1 + random.nextInt(9);
+            int taskCount = 1 + random.nextInt(workerGroupingCount);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.3 + 0.7 * random.nextDouble(), false);
+            double optimum = batch.optimum();
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+            boolean solved = solver.applyAlgorithm();
+            if (optimum == Double.POSITIVE_INFINITY) {
+                assertFalse(solved && solver.getAssignedTasks().size() == taskCount, "Assigned every task of infeasible " + batch);
+            } else {
+                assertTrue(solved, "Did not solve " + batch);
+                // Each cost is off by at most half a unit, so the chosen assignment by at most one unit per task.
+                assertEquals(optimum, batch.costOf(solver.getAssignedTasks()), taskCount / CostMatrixFactory.DEFAULT_FIXED_POINT_SCALE, "On " + batch);
+            }
+            solver.release();
+        }
+    }
+
+    @Test
+    void wholeAndDecimalCostsAreExact() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION);
+        Random random = new Random(42);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int size = 1 + random.nextInt(8);
+            RandomAssignmentInstance batch = random.nextBoolean()
+                    ? RandomAssignmentInstance.generate(random, size, size, 1, true)
+                    : RandomAssignmentInstance.of(decimalCosts(random, size, size));
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+            assertTrue(solver.applyAlgorithm(), "Did not solve " + batch);
+            assertEquals(batch.optimum(), batch.costOf(solver.getAssignedTasks()), EXACT, "On " + batch);
+            solver.release();
+        }
+    }
+
+    @Test
+    void kBestOrderHoldsForTiedDecimalCosts() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.K_BEST);
+        Random random = new Random(43);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 1 + random.nextInt(7);
+            int taskCount = 1 + random.nextInt(Math.min(5, workerGroupingCount));
+            KBestAssignmentEnumeratorTest.assertCheapestFirst(RandomAssignmentInstance.of(decimalCosts(random, taskCount, workerGroupingCount)), configuration);
+        }
+    }
+
+    @Test
+    void costsBeyondTheScaledRangeAreRejected() {
+        double[][] costs = {{1, 2}, {1e12, 3}};
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = configuration(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION);
+        assertThrows(IllegalArgumentException.class, () -> RandomAssignmentInstance.of(costs).solver(configuration).applyAlgorithm());
+    }
+
+    /**
+     * Tenths from 0.1 to 2.0, none of which a double holds exactly, over a fully finite batch with many ties.
+     * */
+    private static double[][] decimalCosts(Random random, int taskCount, int workerGroupingCount) {
+        double[][] costs = new double[taskCount][workerGroupingCount];
+        for (int task = 0; task < taskCount; task++) {
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                costs[task][workerGrouping] = (1 + random.nextInt(20)) / 10.0;
+            }
+        }
+        return costs;
+    }
+
+    private static SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration(SolverConfiguration.SearchStrategy searchStrategy) {
+        return new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setCostMatrixFactory(CostMatrixFactory.fixedPoint())
+                .setSearchStrategy(searchStrategy)
+                .build();
+    }
+}
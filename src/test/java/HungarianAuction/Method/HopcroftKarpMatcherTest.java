@@ -0,0 +1,141 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link HopcroftKarpMatcher} and the Hall violations it reports, against the brute-force feasibility of small random batches.
+ */
+class HopcroftKarpMatcherTest {
+    private static final int INSTANCES = 400;
+
+    @Test
+    void completeExactlyWhenBruteForceFindsAnAssignment() {
+        Random random = new Random(61);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            double[][] costs = randomCosts(random);
+            HopcroftKarpMatcher matcher = new HopcroftKarpMatcher(finiteWorkersByTask(costs), costs[0].length);
+            boolean feasible = RandomAssignmentInstance.of(costs).optimum() != Double.POSITIVE_INFINITY;
+            assertEquals(feasible, matcher.isComplete(), "On " + Arrays.deepToString(costs));
+        }
+    }
+
+    @Test
+    void markedViolatorsAreClosedAndShortOfWorkerGroupings() {
+        Random random = new Random(62);
+        int violations = 0;
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            double[][] costs = randomCosts(random);
+            int[][] workersByTask = finiteWorkersByTask(costs);
+            HopcroftKarpMatcher matcher = new HopcroftKarpMatcher(workersByTask, costs[0].length);
+            boolean[] violatingTasks = new boolean[costs.length];
+            boolean[] neighbouringWorkers = new boolean[costs[0].length];
+            boolean marked = matcher.markHallViolator(violatingTasks, neighbouringWorkers);
+            assertEquals(!matcher.isComplete(), marked, "On " + Arrays.deepToString(costs));
+            if (!marked) continue;
+            int violatingTaskCount = 0;
+            for (int task = 0; task < costs.length; task++) {
+                if (!violatingTasks[task]) continue;
+                violatingTaskCount++;
+                for (int worker : workersByTask[task]) {
+                    assertTrue(neighbouringWorkers[worker], "Task " + task + " reaches unmarked worker grouping " + worker + " on " + Arrays.deepToString(costs));
+                }
+            }
+            int neighbouringWorkerCount = 0;
+            for (boolean neighbouringWorker : neighbouringWorkers) {
+                if (neighbouringWorker) neighbouringWorkerCount++;
+            }
+            assertTrue(neighbouringWorkerCount < violatingTaskCount, "Not a Hall violator on " + Arrays.deepToString(costs));
+            violations++;
+        }
+        assertTrue(violations > 0, "No batch was infeasible.");
+    }
+
+    @Test
+    void solverReportsAViolationForEveryBatchWithoutACompleteAssignment() {
+        for (CostMatrixFactory<TestTaskSource, TestWorkerGrouping> costMatrixFactory : List.of(CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>hungarian(), CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>shortestAugmentingPath())) {
+            SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                    .setCostMatrixFactory(costMatrixFactory)
+                    .build();
+            Random random = new Random(63);
+            int violations = 0;
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                int workerGroupingCount = 1 + random.nextInt(9);
+                int taskCount = 1 + random.nextInt(workerGroupingCount);
+                RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.2 + 0.4 * random.nextDouble(), true);
+                boolean feasible = batch.optimum() != Double.POSITIVE_INFINITY;
+                CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+                solver.applyAlgorithm();
+                CostMatrixSolver.Viability viability = solver.getViability();
+                if (feasible) {
+                    assertTrue(viability == CostMatrixSolver.Viability.LIVE || viability == CostMatrixSolver.Viability.REAL_TASKS_ALLOCATED, viability + " on feasible " + batch);
+                    assertNull(solver.getHallViolation(), "Violation reported on feasible " + batch);
+                } else if (viability == CostMatrixSolver.Viability.NO_COMPLETE_MATCHING) {
+                    assertHallViolation(solver.getHallViolation(), batch);
+                    violations++;
+                } else {
+                    // A task no worker grouping can take is caught before matching.
+                    assertEquals(CostMatrixSolver.Viability.BASE_COSTS_CONTAINED_INFINITY_COLUMN, viability, "On infeasible " + batch);
+                }
+                solver.release();
+            }
+            assertTrue(violations > 0, "No batch needed the matching check.");
+        }
+    }
+
+    /**
+     * The violating tasks' remaining offers, after the solver's reductions, must all fall within the reported worker groupings, which must be too few for them.
+     * */
+    private static void assertHallViolation(HallViolation<TestTaskSource, TestWorkerGrouping> hallViolation, RandomAssignmentInstance batch) {
+        assertNotNull(hallViolation, "No violation reported on " + batch);
+        assertFalse(hallViolation.tasks().isEmpty(), "Empty violation on " + batch);
+        assertTrue(hallViolation.workerGroupings().size() < hallViolation.tasks().size(), "Not a Hall violation on " + batch);
+        for (TaskRequest<TestTaskSource, TestWorkerGrouping> task : hallViolation.tasks()) {
+            for (Map.Entry<WorkerGrouping<TestTaskSource, TestWorkerGrouping>, TaskCost> offer : task.getWorkerGroupingMap().entrySet()) {
+                if (offer.getValue().getSum() == Double.POSITIVE_INFINITY) continue;
+                assertTrue(hallViolation.workerGroupings().contains(offer.getKey()), task + " reaches " + offer.getKey() + " outside the violation on " + batch);
+            }
+        }
+    }
+
+    /**
+     * Up to two more tasks than worker groupings, with a zero for each finite cell.
+     * */
+    private static double[][] randomCosts(Random random) {
+        int workerGroupingCount = 1 + random.nextInt(8);
+        int taskCount = 1 + random.nextInt(workerGroupingCount + 2);
+        double finiteShare = 0.1 + 0.5 * random.nextDouble();
+        double[][] costs = new double[taskCount][workerGroupingCount];
+        for (double[] taskCosts : costs) {
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                taskCosts[workerGrouping] = random.nextDouble() < finiteShare ? 0 : Double.POSITIVE_INFINITY;
+            }
+        }
+        return costs;
+    }
+
+    private static int[][] finiteWorkersByTask(double[][] costs) {
+        int[][] workersByTask = new int[costs.length][];
+        for (int task = 0; task < costs.length; task++) {
+            double[] taskCosts = costs[task];
+            workersByTask[task] = IntStream.range(0, taskCosts.length).filter(worker -> taskCosts[worker] != Double.POSITIVE_INFINITY).toArray();
+        }
+        return workersByTask;
+    }
+}
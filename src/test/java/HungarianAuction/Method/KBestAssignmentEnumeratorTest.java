@@ -0,0 +1,129 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The K_BEST search of {@link CostMatrixSolver} against every complete assignment of small random batches, listed by brute force.
+ */
+class KBestAssignmentEnumeratorTest {
+    private static final int INSTANCES = 120;
+    private static final int MAXIMUM_ALTERNATIVES = 150;
+
+    @Test
+    void yieldsEveryAssignmentOfSquareBatchesCheapestFirst() {
+        assertCheapestFirst(11, random -> {
+            int size = 1 + random.nextInt(6);
+            return RandomAssignmentInstance.generate(random, size, size, 0.5 + 0.5 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void yieldsEveryAssignmentOfRectangularBatchesCheapestFirst() {
+        assertCheapestFirst(12, random -> {
+            int workerGroupingCount = 2 + random.nextInt(6);
+            int taskCount = 1 + random.nextInt(Math.min(4, workerGroupingCount - 1));
+            return RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.4 + 0.6 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void yieldsEveryAssignmentWhenMostCellsAreInfinite() {
+        assertCheapestFirst(13, random -> {
+            int workerGroupingCount = 1 + random.nextInt(9);
+            int taskCount = 1 + random.nextInt(workerGroupingCount);
+            return RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.2 + 0.2 * random.nextDouble(), random.nextBoolean());
+        });
+    }
+
+    @Test
+    void drainedSearchesReturnEveryBufferToThePool() {
+        MatrixBufferPool bufferPool = MatrixBufferPool.local();
+        for (CostMatrixFactory<TestTaskSource, TestWorkerGrouping> costMatrixFactory : List.of(CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>hungarian(), CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>shortestAugmentingPath())) {
+            SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                    .setCostMatrixFactory(costMatrixFactory)
+                    .setSearchStrategy(SolverConfiguration.SearchStrategy.K_BEST)
+                    .build();
+            Random random = new Random(14);
+            for (int instance = 0; instance < 40; instance++) {
+                // Fully finite square batches leave nothing to the reductions, so every solution comes from the search.
+                int size = 2 + random.nextInt(4);
+                RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, size, size, 1, random.nextBoolean());
+                int borrowedBufferCount = bufferPool.borrowedBufferCount();
+                List<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> solutions = drain(batch.solver(configuration), Set.of());
+                assertEquals(borrowedBufferCount, bufferPool.borrowedBufferCount(), "Buffers kept after draining " + batch);
+
+                // Every other solution is registered as unviable, so the second search skips past them.
+                Set<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> unviableSets = IntStream.range(0, solutions.size())
+                        .filter(solution -> solution % 2 == 0)
+                        .mapToObj(solutions::get)
+                        .collect(Collectors.toSet());
+                assertEquals(solutions.size() - unviableSets.size(), drain(batch.solver(configuration), unviableSets).size(), "Solutions left after skipping on " + batch);
+                assertEquals(borrowedBufferCount, bufferPool.borrowedBufferCount(), "Buffers kept after skipping solutions of " + batch);
+            }
+        }
+    }
+
+    /**
+     * Takes every solution of a K_BEST solver, then releases it.
+     * */
+    private static List<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> drain(CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver, Set<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> unviableSets) {
+        unviableSets.forEach(solver::addUnviableAssignmentSet);
+        List<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> solutions = new ArrayList<>();
+        while (solver.applyAlgorithm()) solutions.add(Set.copyOf(solver.getAssignedTasks()));
+        solver.release();
+        return solutions;
+    }
+
+    private static void assertCheapestFirst(long seed, Function<Random, RandomAssignmentInstance> instanceGenerator) {
+        for (CostMatrixFactory<TestTaskSource, TestWorkerGrouping> costMatrixFactory : List.of(CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>hungarian(), CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>shortestAugmentingPath())) {
+            SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                    .setCostMatrixFactory(costMatrixFactory)
+                    .setSearchStrategy(SolverConfiguration.SearchStrategy.K_BEST)
+                    .build();
+            Random random = new Random(seed);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                assertCheapestFirst(instanceGenerator.apply(random), configuration);
+            }
+        }
+    }
+
+    /**
+     * Each solution must be a new complete assignment costing the next entry of the brute-force list, and the search must end once the list does.
+     * */
+    static void assertCheapestFirst(RandomAssignmentInstance batch, SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration) {
+        List<Double> assignmentCosts = batch.allAssignmentCosts();
+        CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+        Set<Set<Assignment<TestTaskSource, TestWorkerGrouping>>> seen = new HashSet<>();
+        int solutions = 0;
+        while (solutions < Math.min(assignmentCosts.size(), MAXIMUM_ALTERNATIVES)) {
+            assertTrue(solver.applyAlgorithm(), "Solution " + solutions + " of " + assignmentCosts.size() + " is missing for " + batch);
+            Set<Assignment<TestTaskSource, TestWorkerGrouping>> assignments = solver.getAssignedTasks();
+            assertEquals(assignmentCosts.get(solutions), batch.costOf(assignments), RandomAssignmentInstance.TOLERANCE, "Solution " + solutions + " of " + batch);
+            assertTrue(seen.add(Set.copyOf(assignments)), "Solution " + solutions + " repeats " + assignments + " for " + batch);
+            solutions++;
+            // With every task fixed by reductions there is a single assignment and nothing left to enumerate.
+            if (solver.getViability() == CostMatrixSolver.Viability.REAL_TASKS_ALLOCATED) break;
+        }
+        if (assignmentCosts.size() <= MAXIMUM_ALTERNATIVES) {
+            assertEquals(assignmentCosts.size(), solutions, "Solutions of " + batch);
+            if (solver.getViability() != CostMatrixSolver.Viability.REAL_TASKS_ALLOCATED)
+                assertFalse(solver.applyAlgorithm() && solver.getAssignedTasks().size() == batch.taskCount(), "The search outlived the assignments of " + batch);
+        }
+        solver.release();
+    }
+}
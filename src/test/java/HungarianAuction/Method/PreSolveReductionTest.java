@@ -0,0 +1,154 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The pre-solve reductions of {@link CostMatrixSolver}, on batches built to trigger them, against brute force.
+ */
+class PreSolveReductionTest {
+    private static final int INSTANCES = 200;
+
+    @Test
+    void forcedAssignmentsLieInEveryCompleteAssignment() {
+        Random random = new Random(71);
+        int forcedCount = 0;
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            double[][] costs = reducibleCosts(random, false);
+            int[][] workersByTask = new int[costs.length][];
+            for (int task = 0; task < costs.length; task++) {
+                double[] taskCosts = costs[task];
+                workersByTask[task] = IntStream.range(0, taskCosts.length).filter(worker -> taskCosts[worker] != Double.POSITIVE_INFINITY).toArray();
+            }
+            int[] forcedWorkers = new HopcroftKarpMatcher(workersByTask, costs[0].length).forcedWorkerForTask();
+
+            List<Set<Integer>> usedWorkersByTask = new ArrayList<>();
+            for (int task = 0; task < costs.length; task++) usedWorkersByTask.add(new TreeSet<>());
+            collectUsedWorkers(workersByTask, 0, new int[costs.length], new boolean[costs[0].length], usedWorkersByTask);
+            for (int task = 0; task < costs.length; task++) {
+                Set<Integer> usedWorkers = usedWorkersByTask.get(task);
+                int expected = usedWorkers.size() == 1 ? usedWorkers.iterator().next() : HopcroftKarpMatcher.UNMATCHED;
+                assertEquals(expected, forcedWorkers[task], "Task " + task + " of " + Arrays.deepToString(costs));
+                if (expected != HopcroftKarpMatcher.UNMATCHED) forcedCount++;
+            }
+        }
+        assertTrue(forcedCount > 0, "No batch had a forced assignment.");
+    }
+
+    @Test
+    void reducedBatchesKeepTheOptimum() {
+        for (SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration : configurations(SolverConfiguration.SearchStrategy.SUBSET_EXCLUSION, true)) {
+            Random random = new Random(72);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                RandomAssignmentInstance batch = RandomAssignmentInstance.of(reducibleCosts(random, random.nextBoolean()));
+                double optimum = batch.optimum();
+                CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+                boolean solved = solver.applyAlgorithm();
+                if (optimum == Double.POSITIVE_INFINITY) {
+                    assertFalse(solved && solver.getAssignedTasks().size() == batch.taskCount(), "Assigned every task of infeasible " + batch);
+                } else {
+                    assertTrue(solved, "Did not solve " + batch);
+                    assertEquals(optimum, batch.costOf(solver.getAssignedTasks()), RandomAssignmentInstance.TOLERANCE, "On " + batch);
+                }
+                solver.release();
+            }
+        }
+    }
+
+    @Test
+    void reducedBatchesEnumerateTheKBestInOrder() {
+        // Pruning drops the alternatives which use a dominated grouping, so only the exact reductions are on.
+        for (SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration : configurations(SolverConfiguration.SearchStrategy.K_BEST, false)) {
+            Random random = new Random(73);
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                KBestAssignmentEnumeratorTest.assertCheapestFirst(RandomAssignmentInstance.of(reducibleCosts(random, random.nextBoolean())), configuration);
+            }
+        }
+    }
+
+    /**
+     * Records, for each task, every worker grouping it takes in some complete assignment.
+     * */
+    private static void collectUsedWorkers(int[][] workersByTask, int task, int[] assignedWorkers, boolean[] usedWorkers, List<Set<Integer>> usedWorkersByTask) {
+        if (task == workersByTask.length) {
+            for (int assignedTask = 0; assignedTask < assignedWorkers.length; assignedTask++) {
+                usedWorkersByTask.get(assignedTask).add(assignedWorkers[assignedTask]);
+            }
+            return;
+        }
+        for (int worker : workersByTask[task]) {
+            if (usedWorkers[worker]) continue;
+            usedWorkers[worker] = true;
+            assignedWorkers[task] = worker;
+            collectUsedWorkers(workersByTask, task + 1, assignedWorkers, usedWorkers, usedWorkersByTask);
+            usedWorkers[worker] = false;
+        }
+    }
+
+    /**
+     * A random batch in which some tasks have a single bidder and some worker groupings a single viable task, so fixed pairs cascade into forced ones.
+     * Some batches also gain worse copies of existing worker groupings, for pruning to remove.
+     * */
+    private static double[][] reducibleCosts(Random random, boolean integerCosts) {
+        int workerGroupingCount = 1 + random.nextInt(7);
+        int taskCount = random.nextBoolean() ? workerGroupingCount : 1 + random.nextInt(workerGroupingCount);
+        double finiteShare = 0.4 + 0.6 * random.nextDouble();
+        int dominatedCount = random.nextBoolean() ? random.nextInt(4) : 0;
+        double[][] costs = new double[taskCount][workerGroupingCount + dominatedCount];
+        for (double[] taskCosts : costs) {
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                taskCosts[workerGrouping] = random.nextDouble() >= finiteShare ? Double.POSITIVE_INFINITY
+                        : integerCosts ? random.nextInt(10) : random.nextDouble() * 10;
+            }
+            // A single bidder.
+            if (random.nextDouble() < 0.25) {
+                int bidder = random.nextInt(workerGroupingCount);
+                for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                    if (workerGrouping != bidder) taskCosts[workerGrouping] = Double.POSITIVE_INFINITY;
+                }
+                if (taskCosts[bidder] == Double.POSITIVE_INFINITY) taskCosts[bidder] = integerCosts ? random.nextInt(10) : random.nextDouble() * 10;
+            }
+        }
+        for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+            // A single viable task.
+            if (random.nextDouble() >= 0.25) continue;
+            int viableTask = random.nextInt(taskCount);
+            for (int task = 0; task < taskCount; task++) {
+                if (task != viableTask) costs[task][workerGrouping] = Double.POSITIVE_INFINITY;
+            }
+        }
+        for (int dominated = workerGroupingCount; dominated < workerGroupingCount + dominatedCount; dominated++) {
+            // A copy of an existing grouping, no cheaper anywhere and sometimes unable to take a task, or an exact tie.
+            int original = random.nextInt(dominated);
+            for (int task = 0; task < taskCount; task++) {
+                double cost = costs[task][original];
+                if (random.nextDouble() < 0.2) cost = Double.POSITIVE_INFINITY;
+                else if (random.nextBoolean()) cost += integerCosts ? random.nextInt(3) : random.nextDouble();
+                costs[task][dominated] = cost;
+            }
+        }
+        return costs;
+    }
+
+    private static List<SolverConfiguration<TestTaskSource, TestWorkerGrouping>> configurations(SolverConfiguration.SearchStrategy searchStrategy, boolean withPruning) {
+        List<SolverConfiguration<TestTaskSource, TestWorkerGrouping>> configurations = new ArrayList<>();
+        for (CostMatrixFactory<TestTaskSource, TestWorkerGrouping> costMatrixFactory : List.of(CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>hungarian(), CostMatrixFactory.<TestTaskSource, TestWorkerGrouping>shortestAugmentingPath())) {
+            for (boolean dominatedGroupingPruning : withPruning ? List.of(false, true) : List.of(false)) {
+                configurations.add(new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                        .setCostMatrixFactory(costMatrixFactory)
+                        .setSearchStrategy(searchStrategy)
+                        .setDominatedGroupingPruning(dominatedGroupingPruning)
+                        .build());
+            }
+        }
+        return configurations;
+    }
+}
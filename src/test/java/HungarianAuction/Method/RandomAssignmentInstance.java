@@ -0,0 +1,288 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.TaskElements.EntryToken;
+import HungarianAuction.TaskElements.TaskCost;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.TaskElements.TaskSource;
+import HungarianAuction.WorkerElements.Worker;
+import HungarianAuction.WorkerElements.WorkerDomain;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * <ul>
+ * <li>
+ *      A small random batch of tasks and worker groupings with known costs, for checking the engines against brute force.
+ * </li>
+ * <li>
+ *      The optimum is found by dynamic programming over subsets of worker groupings, and the k-best order by listing every complete assignment, so instances stay below about ten groupings.
+ * </li>
+ * </ul>
+ */
+final class RandomAssignmentInstance {
+    static final double TOLERANCE = 1e-6;
+
+    private final double[][] costs;
+    private final List<TaskRequest<TestTaskSource, TestWorkerGrouping>> tasks = new ArrayList<>();
+    private final List<TestWorkerGrouping> workerGroupings = new ArrayList<>();
+
+    private RandomAssignmentInstance(double[][] costs) {
+        this.costs = costs;
+        for (int workerGrouping = 0; workerGrouping < costs[0].length; workerGrouping++) {
+            workerGroupings.add(new TestWorkerGrouping(workerGrouping));
+        }
+        for (double[] taskCosts : costs) {
+            TaskRequest<TestTaskSource, TestWorkerGrouping> task = new TaskRequest<>(new TestTaskSource(), new EntryToken<>(1));
+            tasks.add(task);
+            for (int workerGrouping = 0; workerGrouping < taskCosts.length; workerGrouping++) {
+                workerGroupings.get(workerGrouping).costs.put(task, taskCosts[workerGrouping]);
+            }
+        }
+    }
+
+    /**
+     * Each cell is finite with the given probability; finite costs are whole numbers below 20, or reals below 10.
+     * */
+    static RandomAssignmentInstance generate(Random random, int taskCount, int workerGroupingCount, double finiteShare, boolean integerCosts) {
+        return generate(random, taskCount, workerGroupingCount, finiteShare, integerCosts, 1);
+    }
+
+    /**
+     * As {@link #generate(Random, int, int, double, boolean)}, with every task and grouping placed in one of the given number of blocks, and only cells within a block finite.
+     * */
+    static RandomAssignmentInstance generate(Random random, int taskCount, int workerGroupingCount, double finiteShare, boolean integerCosts, int blocks) {
+        int[] workerGroupingBlocks = new int[workerGroupingCount];
+        for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+            workerGroupingBlocks[workerGrouping] = random.nextInt(blocks);
+        }
+        double[][] costs = new double[taskCount][workerGroupingCount];
+        for (int task = 0; task < taskCount; task++) {
+            int taskBlock = random.nextInt(blocks);
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                boolean finite = workerGroupingBlocks[workerGrouping] == taskBlock && random.nextDouble() < finiteShare;
+                costs[task][workerGrouping] = !finite ? Double.POSITIVE_INFINITY
+                        : integerCosts ? random.nextInt(20) : random.nextDouble() * 10;
+            }
+        }
+        return new RandomAssignmentInstance(costs);
+    }
+
+    static RandomAssignmentInstance of(double[][] costs) {
+        return new RandomAssignmentInstance(costs);
+    }
+
+    int taskCount() {
+        return costs.length;
+    }
+
+    int workerGroupingCount() {
+        return costs[0].length;
+    }
+
+    /**
+     * A solver over fresh bids, since reductions withdraw bids from the tasks they fix.
+     * */
+    CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver(SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration) {
+        tasks.forEach(TaskRequest::resetAllCosts);
+        return new CostMatrixSolver<>(new ArrayList<>(workerGroupings), new ArrayList<>(tasks), 1, configuration);
+    }
+
+    /**
+     * The tasks, with fresh bids from every worker grouping, for building a matrix directly rather than through a solver.
+     * */
+    List<TaskRequest<TestTaskSource, TestWorkerGrouping>> tenderedTasks() {
+        Set<WorkerGrouping<TestTaskSource, TestWorkerGrouping>> offeredWorkerGroupings = new LinkedHashSet<>(workerGroupings);
+        for (TaskRequest<TestTaskSource, TestWorkerGrouping> task : tasks) {
+            task.resetAllCosts();
+            task.tenderGroupingCosts(offeredWorkerGroupings);
+        }
+        return new ArrayList<>(tasks);
+    }
+
+    List<WorkerGrouping<TestTaskSource, TestWorkerGrouping>> workerGroupings() {
+        return new ArrayList<>(workerGroupings);
+    }
+
+    /**
+     * The summed cost of a complete assignment, or infinite when it does not cover every task with a distinct grouping.
+     * */
+    double costOf(Set<Assignment<TestTaskSource, TestWorkerGrouping>> assignments) {
+        Set<TaskRequest<TestTaskSource, TestWorkerGrouping>> assignedTasks = new HashSet<>();
+        Set<WorkerGrouping<TestTaskSource, TestWorkerGrouping>> assignedWorkerGroupings = new HashSet<>();
+        double sum = 0;
+        for (Assignment<TestTaskSource, TestWorkerGrouping> assignment : assignments) {
+            if (!assignedTasks.add(assignment.task()) || !assignedWorkerGroupings.add(assignment.workerGrouping()))
+                return Double.POSITIVE_INFINITY;
+            sum += costs[tasks.indexOf(assignment.task())][workerGroupings.indexOf(assignment.workerGrouping())];
+        }
+        return assignedTasks.size() == taskCount() ? sum : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * The cheapest complete assignment's cost, or infinite when there is none.
+     * */
+    double optimum() {
+        int workerGroupingCount = workerGroupingCount();
+        double[] cheapest = new double[1 << workerGroupingCount];
+        Arrays.fill(cheapest, Double.POSITIVE_INFINITY);
+        cheapest[0] = 0;
+        double optimum = Double.POSITIVE_INFINITY;
+        for (int used = 0; used < cheapest.length; used++) {
+            if (cheapest[used] == Double.POSITIVE_INFINITY) continue;
+            int task = Integer.bitCount(used);
+            if (task == taskCount()) {
+                optimum = Math.min(optimum, cheapest[used]);
+                continue;
+            }
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                if ((used & (1 << workerGrouping)) != 0 || costs[task][workerGrouping] == Double.POSITIVE_INFINITY) continue;
+                int next = used | (1 << workerGrouping);
+                cheapest[next] = Math.min(cheapest[next], cheapest[used] + costs[task][workerGrouping]);
+            }
+        }
+        return optimum;
+    }
+
+    /**
+     * The cost of every complete assignment, cheapest first.
+     * */
+    List<Double> allAssignmentCosts() {
+        List<Double> assignmentCosts = new ArrayList<>();
+        collectAssignmentCosts(0, new boolean[workerGroupingCount()], 0, assignmentCosts);
+        Collections.sort(assignmentCosts);
+        return assignmentCosts;
+    }
+
+    private void collectAssignmentCosts(int task, boolean[] used, double sum, List<Double> assignmentCosts) {
+        if (task == taskCount()) {
+            assignmentCosts.add(sum);
+            return;
+        }
+        for (int workerGrouping = 0; workerGrouping < used.length; workerGrouping++) {
+            if (used[workerGrouping] || costs[task][workerGrouping] == Double.POSITIVE_INFINITY) continue;
+            used[workerGrouping] = true;
+            collectAssignmentCosts(task + 1, used, sum + costs[task][workerGrouping], assignmentCosts);
+            used[workerGrouping] = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(costs);
+    }
+
+    static final class TestTaskSource implements TaskSource<TestTaskSource, TestWorkerGrouping> {
+        @Override
+        public TaskRequest<TestTaskSource, TestWorkerGrouping> getLargestUnallocatedTask() {
+            return null;
+        }
+
+        @Override
+        public TaskRequest<TestTaskSource, TestWorkerGrouping> getTaskOfSize(int size) {
+            return null;
+        }
+
+        @Override
+        public void receiveWorkerGrouping(@NotNull WorkerGrouping<TestTaskSource, TestWorkerGrouping> workerGrouping, @NotNull TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+        }
+
+        @Override
+        public void recallWorkerGrouping(@NotNull WorkerGrouping<TestTaskSource, TestWorkerGrouping> workerGrouping, @NotNull TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+        }
+
+        @Override
+        public TestTaskSource unboxSource() {
+            return this;
+        }
+
+        @Override
+        public boolean hasTokensOfSize(int tokenSize) {
+            return false;
+        }
+
+        @Override
+        public int getTotalTaskBandwidth() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxTaskBandwidth() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxUnallocatedTokenSize() {
+            return 1;
+        }
+
+        @Override
+        public int countTokensOfSize(int tokenSize) {
+            return 0;
+        }
+
+        @Override
+        public Set<WorkerDomain<TestTaskSource, TestWorkerGrouping>> getUnusedDomains() {
+            return null;
+        }
+
+        @Override
+        public List<TestTaskSource> getNodeLinks() {
+            return List.of();
+        }
+    }
+
+    static final class TestWorkerGrouping implements WorkerGrouping<TestTaskSource, TestWorkerGrouping> {
+        private final int index;
+        private final Map<TaskRequest<TestTaskSource, TestWorkerGrouping>, Double> costs = new HashMap<>();
+
+        private TestWorkerGrouping(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Set<Worker<TestTaskSource, TestWorkerGrouping>> getWorkers() {
+            return Set.of();
+        }
+
+        @Override
+        public int getSize() {
+            return 1;
+        }
+
+        @Override
+        public void setScarcityFactor(double scarcityFactor) {
+        }
+
+        @Override
+        public double getScarcityFactor() {
+            return 1;
+        }
+
+        @Override
+        public TaskCost calculateMaxWorkerCost(TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+            return calculateTotalCost(taskRequest);
+        }
+
+        @Override
+        public TaskCost calculateMinWorkerCost(TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+            return calculateTotalCost(taskRequest);
+        }
+
+        @Override
+        public TaskCost calculateTotalCost(TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+            return new TaskCost(costs.getOrDefault(taskRequest, Double.POSITIVE_INFINITY));
+        }
+
+        @Override
+        public TestWorkerGrouping unboxWorkerGrouping(TaskRequest<TestTaskSource, TestWorkerGrouping> taskRequest) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "G" + index;
+        }
+    }
+}
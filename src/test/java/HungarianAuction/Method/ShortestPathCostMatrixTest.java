@@ -0,0 +1,107 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import HungarianAuction.TaskElements.TaskRequest;
+import HungarianAuction.WorkerElements.WorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Warm-started clones of {@link ShortestPathCostMatrix}, repaired after the overrides subset exclusion makes, against cold solves of the same costs.
+ */
+class ShortestPathCostMatrixTest {
+    private static final int INSTANCES = 300;
+    private static final int MAXIMUM_OVERRIDES = 3;
+
+    @Test
+    void warmStartedRectangularClonesMatchColdSolves() {
+        Random random = new Random(81);
+        int repairedClones = 0;
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 2 + random.nextInt(8);
+            int taskCount = 1 + random.nextInt(workerGroupingCount - 1);
+            double[][] costs = randomCosts(random, taskCount, workerGroupingCount);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.of(costs);
+            List<WorkerGrouping<TestTaskSource, TestWorkerGrouping>> workerGroupings = batch.workerGroupings();
+            List<TaskRequest<TestTaskSource, TestWorkerGrouping>> tasks = batch.tenderedTasks();
+            ShortestPathCostMatrix<TestTaskSource, TestWorkerGrouping> template = new ShortestPathCostMatrix<>(workerGroupings, tasks);
+            template.computeMarginalTaskCosts();
+            if (!template.applyMinimumCrossings()) {
+                template.release();
+                continue;
+            }
+
+            // Raise or remove a few cells, at least one of them matched in the template, as subset exclusion does.
+            List<Assignment<TestTaskSource, TestWorkerGrouping>> templateAssignments = new ArrayList<>(template.getAssignments());
+            double[][] overriddenCosts = Arrays.stream(costs).map(double[]::clone).toArray(double[][]::new);
+            ShortestPathCostMatrix<TestTaskSource, TestWorkerGrouping> warm = (ShortestPathCostMatrix<TestTaskSource, TestWorkerGrouping>) template.cloneMatrix();
+            ShortestPathCostMatrix<TestTaskSource, TestWorkerGrouping> cold = new ShortestPathCostMatrix<>(workerGroupings, tasks);
+            int overrideCount = 1 + random.nextInt(MAXIMUM_OVERRIDES);
+            for (int override = 0; override < overrideCount; override++) {
+                Assignment<TestTaskSource, TestWorkerGrouping> assignment;
+                if (override == 0 || random.nextBoolean()) {
+                    assignment = templateAssignments.get(random.nextInt(templateAssignments.size()));
+                } else {
+                    int task = random.nextInt(taskCount);
+                    int workerGrouping = random.nextInt(workerGroupingCount);
+                    assignment = new Assignment<>(tasks.get(task), workerGroupings.get(workerGrouping), workerGrouping, task);
+                }
+                double cost = random.nextBoolean() ? Double.POSITIVE_INFINITY : overriddenCosts[assignment.taskIndex()][assignment.workerIndex()] + 5 * random.nextDouble();
+                overriddenCosts[assignment.taskIndex()][assignment.workerIndex()] = cost;
+                warm.overrideAssignmentCost(assignment, cost);
+                cold.overrideAssignmentCost(assignment, cost);
+            }
+            assertTrue(warm.hasWarmState(), "Raising costs sent the clone cold on " + batch);
+
+            warm.computeMarginalTaskCosts();
+            cold.computeMarginalTaskCosts();
+            boolean warmSolved = warm.applyMinimumCrossings();
+            boolean coldSolved = cold.applyMinimumCrossings();
+            double optimum = RandomAssignmentInstance.of(overriddenCosts).optimum();
+            String description = Arrays.deepToString(overriddenCosts);
+            assertEquals(optimum != Double.POSITIVE_INFINITY, coldSolved, "Cold feasibility of " + description);
+            assertEquals(coldSolved, warmSolved, "Warm feasibility of " + description);
+            if (warmSolved) {
+                assertEquals(optimum, costOf(cold.getAssignments(), overriddenCosts), RandomAssignmentInstance.TOLERANCE, "Cold solve of " + description);
+                assertEquals(optimum, costOf(warm.getAssignments(), overriddenCosts), RandomAssignmentInstance.TOLERANCE, "Warm solve of " + description);
+                assertEquals(taskCount, warm.getAssignments().size(), "Warm solve of " + description);
+                repairedClones++;
+            }
+            warm.release();
+            cold.release();
+            template.release();
+        }
+        assertTrue(repairedClones > 0, "No clone stayed feasible.");
+    }
+
+    /**
+     * Mostly finite real costs, so most clones stay feasible once a few cells are removed.
+     * */
+    private static double[][] randomCosts(Random random, int taskCount, int workerGroupingCount) {
+        double finiteShare = 0.5 + 0.5 * random.nextDouble();
+        double[][] costs = new double[taskCount][workerGroupingCount];
+        for (double[] taskCosts : costs) {
+            for (int workerGrouping = 0; workerGrouping < workerGroupingCount; workerGrouping++) {
+                taskCosts[workerGrouping] = random.nextDouble() < finiteShare ? random.nextDouble() * 10 : Double.POSITIVE_INFINITY;
+            }
+        }
+        return costs;
+    }
+
+    private static double costOf(Set<Assignment<TestTaskSource, TestWorkerGrouping>> assignments, double[][] costs) {
+        double sum = 0;
+        for (Assignment<TestTaskSource, TestWorkerGrouping> assignment : assignments) {
+            sum += costs[assignment.taskIndex()][assignment.workerIndex()];
+        }
+        return sum;
+    }
+}
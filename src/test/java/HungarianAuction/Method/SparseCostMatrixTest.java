@@ -0,0 +1,92 @@
+package HungarianAuction.Method;
+
+import HungarianAuction.Method.RandomAssignmentInstance.TestTaskSource;
+import HungarianAuction.Method.RandomAssignmentInstance.TestWorkerGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SparseCostMatrix}, reached through the solver's density switch, against brute force on small batches and the dense shortest augmenting path engine on larger ones.
+ */
+class SparseCostMatrixTest {
+    private static final int INSTANCES = 150;
+    /**
+     * Switches every batch with at least one infinite cell to the sparse engine.
+     * */
+    private static final double ALWAYS_SPARSE = 1;
+
+    @Test
+    void switchedBatchesKeepTheOptimum() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setSparseDensityThreshold(ALWAYS_SPARSE)
+                .build();
+        Random random = new Random(21);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 1 + random.nextInt(9);
+            int taskCount = 1 + random.nextInt(workerGroupingCount);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.15 + 0.6 * random.nextDouble(), random.nextBoolean());
+            double optimum = batch.optimum();
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> solver = batch.solver(configuration);
+            boolean solved = solver.applyAlgorithm();
+            if (optimum == Double.POSITIVE_INFINITY) {
+                assertFalse(solved && solver.getAssignedTasks().size() == batch.taskCount(), "Assigned every task of infeasible " + batch);
+            } else {
+                assertTrue(solved, "Did not solve " + batch);
+                assertEquals(optimum, batch.costOf(solver.getAssignedTasks()), RandomAssignmentInstance.TOLERANCE, "On " + batch);
+            }
+            solver.release();
+        }
+    }
+
+    @Test
+    void switchedBatchesEnumerateTheKBestInOrder() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> configuration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setSparseDensityThreshold(ALWAYS_SPARSE)
+                .setSearchStrategy(SolverConfiguration.SearchStrategy.K_BEST)
+                .build();
+        Random random = new Random(22);
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            int workerGroupingCount = 1 + random.nextInt(8);
+            int taskCount = 1 + random.nextInt(Math.min(5, workerGroupingCount));
+            RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.2 + 0.4 * random.nextDouble(), random.nextBoolean());
+            KBestAssignmentEnumeratorTest.assertCheapestFirst(batch, configuration);
+        }
+    }
+
+    @Test
+    void largeSparseBatchesMatchTheDenseEngine() {
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> sparseConfiguration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setCostMatrixFactory(CostMatrixFactory.sparse())
+                .build();
+        SolverConfiguration<TestTaskSource, TestWorkerGrouping> denseConfiguration = new SolverConfigurationBuilder<TestTaskSource, TestWorkerGrouping>()
+                .setCostMatrixFactory(CostMatrixFactory.shortestAugmentingPath())
+                .build();
+        Random random = new Random(23);
+        int solvedBatches = 0;
+        for (int instance = 0; instance < INSTANCES / 5; instance++) {
+            int workerGroupingCount = 30 + random.nextInt(40);
+            int taskCount = workerGroupingCount - random.nextInt(10);
+            RandomAssignmentInstance batch = RandomAssignmentInstance.generate(random, taskCount, workerGroupingCount, 0.1 + 0.1 * random.nextDouble(), random.nextBoolean());
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> sparseSolver = batch.solver(sparseConfiguration);
+            boolean sparseSolved = sparseSolver.applyAlgorithm() && sparseSolver.getAssignedTasks().size() == taskCount;
+            double sparseCost = sparseSolved ? batch.costOf(sparseSolver.getAssignedTasks()) : Double.POSITIVE_INFINITY;
+            sparseSolver.release();
+            CostMatrixSolver<TestTaskSource, TestWorkerGrouping> denseSolver = batch.solver(denseConfiguration);
+            boolean denseSolved = denseSolver.applyAlgorithm() && denseSolver.getAssignedTasks().size() == taskCount;
+            double denseCost = denseSolved ? batch.costOf(denseSolver.getAssignedTasks()) : Double.POSITIVE_INFINITY;
+            denseSolver.release();
+
+            assertEquals(denseSolved, sparseSolved, "Feasibility of " + batch);
+            if (denseSolved) {
+                assertEquals(denseCost, sparseCost, RandomAssignmentInstance.TOLERANCE, "On " + batch);
+                solvedBatches++;
+            }
+        }
+        assertTrue(solvedBatches > 0, "No large batch was feasible.");
+    }
+}